@@ -0,0 +1,30 @@
+package nl.tudelft.sem.template.authentication.application.user;
+
+import nl.tudelft.sem.template.authentication.domain.user.FacultyMembershipWasChangedEvent;
+import nl.tudelft.sem.template.authentication.services.FacultyMembershipInvalidationService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * This event listener is automatically called when a domain entity is saved
+ * which has stored events of type: FacultyMembershipWasChanged.
+ */
+@Component
+public class FacultyMembershipWasChangedListener {
+    private final transient FacultyMembershipInvalidationService facultyMembershipInvalidationService;
+
+    public FacultyMembershipWasChangedListener(
+            FacultyMembershipInvalidationService facultyMembershipInvalidationService) {
+        this.facultyMembershipInvalidationService = facultyMembershipInvalidationService;
+    }
+
+    /**
+     * Tells the other microservices to forget the faculties they cached for the user, once the change is committed.
+     *
+     * @param event The event to react to
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFacultyMembershipWasChanged(FacultyMembershipWasChangedEvent event) {
+        facultyMembershipInvalidationService.invalidate(event.getNetId());
+    }
+}
@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.authentication.authentication;
 
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import java.util.Date;
@@ -21,6 +22,16 @@ public class JwtTokenGenerator {
      */
     public static final long JWT_TOKEN_VALIDITY = 24 * 60 * 60 * 1000;
 
+    /**
+     * Time in milliseconds the faculties in a JWT token can be relied on. Afterwards, the services ask this service for
+     * the faculties of the user again, so that changes in the faculties of a user take effect without having to wait
+     * for their token to expire.
+     */
+    public static final long FACULTY_CLAIM_VALIDITY = 15 * 60 * 1000;
+
+    public static final String FACULTIES_KEY = "faculties";
+    public static final String FACULTIES_VALID_UNTIL_KEY = "facultiesValidUntil";
+
     @Value("${jwt.secret}")  // automatically loads jwt.secret from resources/application.properties
     private transient String jwtSecret;
 
@@ -37,7 +48,8 @@ public class JwtTokenGenerator {
     }
 
     /**
-     * Generate a JWT token for the provided user.
+     * Generate a JWT token for the provided user. If the user details contain the faculties of the user, they are
+     * embedded in the token as well, together with the time until which they can be relied on.
      *
      * @param userDetails The user details
      * @return the JWT token
@@ -45,10 +57,15 @@ public class JwtTokenGenerator {
     public String generateToken(UserDetails userDetails) {
         String authorities = userDetails.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority).collect(Collectors.joining(","));
-        return Jwts.builder().setSubject(userDetails.getUsername())
+        long now = timeProvider.getCurrentTime().toEpochMilli();
+        JwtBuilder builder = Jwts.builder().setSubject(userDetails.getUsername())
                 .claim(authoritiesKey, authorities)
-                .setIssuedAt(new Date(timeProvider.getCurrentTime().toEpochMilli()))
-                .setExpiration(new Date(timeProvider.getCurrentTime().toEpochMilli() + JWT_TOKEN_VALIDITY))
-                .signWith(SignatureAlgorithm.HS512, jwtSecret).compact();
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + JWT_TOKEN_VALIDITY));
+        if (userDetails instanceof JwtUserDetails) {
+            builder.claim(FACULTIES_KEY, String.join(",", ((JwtUserDetails) userDetails).getFaculties()))
+                    .claim(FACULTIES_VALID_UNTIL_KEY, now + FACULTY_CLAIM_VALIDITY);
+        }
+        return builder.signWith(SignatureAlgorithm.HS512, jwtSecret).compact();
     }
 }
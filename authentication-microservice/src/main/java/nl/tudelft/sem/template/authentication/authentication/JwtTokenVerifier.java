@@ -2,25 +2,71 @@ package nl.tudelft.sem.template.authentication.authentication;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 
 /**
- * Verifies the JWT token in the request for validity.
+ * Verifies the JWT token in the request for validity. The signature of a token is only verified the first time it is
+ * seen; its claims are then kept until the token expires, so that the following requests with the same token only
+ * look them up.
  */
 @Component
 public class JwtTokenVerifier {
     @Value("${jwt.secret}")  // automatically loads jwt.secret from resources/application.properties
     private transient String jwtSecret;
 
+    @Value("${jwt.cache.maxSize:10000}")
+    private transient int cacheMaxSize = 10_000;
+
+    /**
+     * The claims of the tokens whose signature was verified, per token, until the tokens expire. A token has to match
+     * completely to use its claims, so a forged token never gets the claims of another. Every lookup stamps the token
+     * with the next value of the use counter; once the map is full, a single thread removes the expired and the least
+     * recently used tokens, while the others keep looking up and adding tokens without waiting.
+     */
+    private final transient Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final transient AtomicLong useCounter = new AtomicLong();
+    private final transient AtomicBoolean evicting = new AtomicBoolean();
+
+    private static final class VerifiedToken {
+        private final Claims claims;
+        private final long expiresAt;
+        private volatile long lastUsed;
+
+        private VerifiedToken(Claims claims, long expiresAt, long lastUsed) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+            this.lastUsed = lastUsed;
+        }
+    }
+
     /**
      * Validate the JWT token for expiration.
      */
     public boolean validateToken(String token) {
-        return !isTokenExpired(token);
+        return !isExpired(getVerifiedClaims(token));
+    }
+
+    /**
+     * Checks whether the verified claims of a token have expired.
+     *
+     * @param claims the claims returned by {@link #getVerifiedClaims(String)}.
+     * @return true if the token has no expiration date, or it has passed.
+     */
+    public static boolean isExpired(Claims claims) {
+        final Date expiration = claims.getExpiration();
+        return expiration == null || expiration.before(new Date());
     }
 
     public String getNetIdFromToken(String token) {
@@ -31,22 +77,102 @@ public class JwtTokenVerifier {
         return getClaimFromToken(token, Claims::getExpiration);
     }
 
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
-    }
-
     private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getClaims(token);
+        final Claims claims = getVerifiedClaims(token);
         return claimsResolver.apply(claims);
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token).getBody();
+    /**
+     * Verifies the signature and expiration of the token and returns its claims. Only the first time a token is seen,
+     * it is actually parsed and verified; until it expires, its claims are then taken from the cache.
+     *
+     * @param token the token of the user.
+     * @return the claims in the token.
+     * @throws io.jsonwebtoken.JwtException if the token is expired, or was not signed with the secret.
+     * @throws IllegalArgumentException if the token is empty.
+     */
+    public Claims getVerifiedClaims(String token) {
+        if (token != null) {
+            VerifiedToken verified = verifiedTokens.get(token);
+            if (verified != null) {
+                if (System.currentTimeMillis() <= verified.expiresAt) {
+                    verified.lastUsed = useCounter.incrementAndGet();
+                    return verified.claims;
+                }
+                // parsing it again throws the expiration exception
+                verifiedTokens.remove(token, verified);
+            }
+        }
+
+        Claims claims = Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null && cacheMaxSize > 0) {
+            verifiedTokens.put(token, new VerifiedToken(claims, claims.getExpiration().getTime(),
+                    useCounter.incrementAndGet()));
+            if (verifiedTokens.size() > cacheMaxSize && evicting.compareAndSet(false, true)) {
+                try {
+                    evict();
+                } finally {
+                    evicting.set(false);
+                }
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * Makes room in the cache by removing all expired tokens and then the least recently used ones, until a tenth of
+     * the cache is free again, so that the tokens are not sorted again for every new token.
+     */
+    private void evict() {
+        long now = System.currentTimeMillis();
+        verifiedTokens.values().removeIf(x -> x.expiresAt < now);
+        int excess = verifiedTokens.size() - (cacheMaxSize - cacheMaxSize / 10);
+        if (excess <= 0) {
+            return;
+        }
+        var leastRecentlyUsed = verifiedTokens.entrySet().stream()
+                .sorted(Comparator.comparingLong(x -> x.getValue().lastUsed))
+                .limit(excess)
+                .collect(Collectors.toList());
+        leastRecentlyUsed.forEach(x -> verifiedTokens.remove(x.getKey(), x.getValue()));
     }
 
     public String getRoleFromToken(String token) {
-        return (String) getClaims(token).get("roles");
+        return getRoleFromClaims(getVerifiedClaims(token));
+    }
+
+    public static String getRoleFromClaims(Claims claims) {
+        return (String) claims.get("roles");
+    }
+
+    /**
+     * Reads the faculties of the user from the token, if the token contains them and they can still be relied on.
+     *
+     * @param token the token of the user.
+     * @return the names of the faculties of the user, or nothing if they have to be requested from the users
+     *      microservice.
+     */
+    public Optional<List<String>> getFacultiesFromToken(String token) {
+        return getFacultiesFromClaims(getVerifiedClaims(token));
+    }
+
+    /**
+     * Reads the faculties of the user from the verified claims of a token, if they are present and can still be
+     * relied on.
+     *
+     * @param claims the claims returned by {@link #getVerifiedClaims(String)}.
+     * @return the names of the faculties of the user, or nothing if they have to be requested from the users
+     *      microservice.
+     */
+    public static Optional<List<String>> getFacultiesFromClaims(Claims claims) {
+        Object faculties = claims.get(JwtTokenGenerator.FACULTIES_KEY);
+        Object validUntil = claims.get(JwtTokenGenerator.FACULTIES_VALID_UNTIL_KEY);
+        if (!(faculties instanceof String) || !(validUntil instanceof Number)
+                || ((Number) validUntil).longValue() < System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        String names = (String) faculties;
+        return Optional.of(names.isEmpty() ? List.of() : List.of(names.split(",")));
     }
 
 }
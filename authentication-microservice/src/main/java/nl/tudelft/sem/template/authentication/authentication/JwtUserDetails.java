@@ -0,0 +1,35 @@
+package nl.tudelft.sem.template.authentication.authentication;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * The authentication information of a user, together with the faculties they are assigned to, so that those can be
+ * embedded in their token.
+ */
+public class JwtUserDetails extends User {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> faculties;
+
+    /**
+     * Creates the user details.
+     *
+     * @param username the netId of the user
+     * @param password the hashed password of the user
+     * @param authorities the roles of the user
+     * @param faculties the names of the faculties the user is assigned to
+     */
+    public JwtUserDetails(String username, String password, Collection<? extends GrantedAuthority> authorities,
+                          List<String> faculties) {
+        super(username, password, authorities);
+        this.faculties = List.copyOf(faculties);
+    }
+
+    public List<String> getFaculties() {
+        return this.faculties;
+    }
+}
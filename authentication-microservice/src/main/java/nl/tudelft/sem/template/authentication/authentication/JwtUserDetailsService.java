@@ -1,12 +1,13 @@
 package nl.tudelft.sem.template.authentication.authentication;
 
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import nl.tudelft.sem.template.authentication.domain.user.AppUser;
 import nl.tudelft.sem.template.authentication.domain.user.NetId;
 import nl.tudelft.sem.template.authentication.domain.user.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -42,8 +43,10 @@ public class JwtUserDetailsService implements UserDetailsService {
 
         var user = optionalUser.get();
 
-        return new User(user.getNetId().toString(), user.getPassword().toString(),
-                getAuthority(user));
+        List<String> faculties = user.getFaculties() == null ? List.of() : user.getFaculties().stream()
+                .map(AppUser.Faculty::name).collect(Collectors.toList());
+        return new JwtUserDetails(user.getNetId().toString(), user.getPassword().toString(),
+                getAuthority(user), faculties);
     }
 
     private Set<SimpleGrantedAuthority> getAuthority(AppUser user) {
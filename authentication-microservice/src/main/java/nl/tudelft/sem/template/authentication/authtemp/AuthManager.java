@@ -1,5 +1,7 @@
 package nl.tudelft.sem.template.authentication.authtemp;
 
+import java.util.List;
+import java.util.Optional;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
@@ -16,4 +18,18 @@ public class AuthManager {
     public String getNetId() {
         return SecurityContextHolder.getContext().getAuthentication().getName();
     }
+
+    /**
+     * Interfaces with spring security to get the faculties of the user in the current context, as given in their
+     * token.
+     *
+     * @return the faculties of the user, or nothing if their token did not contain them or they are outdated.
+     */
+    public Optional<List<String>> getFaculties() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof JwtAuthenticationDetails) {
+            return ((JwtAuthenticationDetails) authentication.getDetails()).getFaculties();
+        }
+        return Optional.empty();
+    }
 }
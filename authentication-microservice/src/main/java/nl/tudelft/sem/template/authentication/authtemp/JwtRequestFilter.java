@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.authentication.authtemp;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import java.io.IOException;
@@ -13,7 +14,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -65,15 +65,17 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                 String token = directives[1];
 
                 try {
-                    if (jwtTokenVerifier.validateToken(token)) {
-                        String netId = jwtTokenVerifier.getNetIdFromToken(token);
-                        String role = jwtTokenVerifier.getRoleFromToken(token);
+                    // the token is verified, or looked up in the cache, only once for all of its claims
+                    Claims claims = jwtTokenVerifier.getVerifiedClaims(token);
+                    if (!JwtTokenVerifier.isExpired(claims)) {
+                        String netId = claims.getSubject();
+                        String role = JwtTokenVerifier.getRoleFromClaims(claims);
                         var authenticationToken = new UsernamePasswordAuthenticationToken(
                                 netId,
                                 null, List.of(new SimpleGrantedAuthority(role))
                         );
-                        authenticationToken.setDetails(new WebAuthenticationDetailsSource()
-                                .buildDetails(request));
+                        authenticationToken.setDetails(new JwtAuthenticationDetails(request,
+                                JwtTokenVerifier.getFacultiesFromClaims(claims).orElse(null)));
 
                         // After setting the Authentication in the context, we specify
                         // that the current user is authenticated. So it passes the
@@ -86,8 +88,9 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                 } catch (IllegalArgumentException | JwtException e) {
                     System.err.println("Unable to parse JWT token");
                 }
+            } else {
+                System.err.println("Invalid authorization header");
             }
-            System.err.println("Invalid authorization header");
         }
 
         filterChain.doFilter(request, response);
@@ -1,8 +1,9 @@
 package nl.tudelft.sem.template.authentication.communicationdata;
 
-import java.text.SimpleDateFormat;
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Objects;
@@ -11,6 +12,8 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -21,14 +24,27 @@ import org.springframework.beans.factory.annotation.Autowired;
  * Class which stores notifications data, and allows it to be stored in a repository.
  */
 @Entity
-@Table
+@Table(indexes = {
+    @Index(name = "idx_notification_net_id_time_received", columnList = "netId, timeReceived, id"),
+    @Index(name = "idx_notification_time_received", columnList = "timeReceived, id")
+})
 @Getter
 @Setter
 public class Notification {
 
+    /**
+     * Format of the dates in incoming notifications. Unlike a SimpleDateFormat it is immutable, so a single instance can
+     * be shared by all requests.
+     */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ENGLISH);
 
+    /**
+     * Ids are taken from a pooled sequence, so that a batch of notifications needs one sequence call per 50 rows and
+     * can be inserted with JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_sequence")
+    @SequenceGenerator(name = "notification_sequence", sequenceName = "notification_sequence", allocationSize = 50)
     @Column(nullable = false, unique = true)
     private Long id;
 
@@ -81,12 +97,12 @@ public class Notification {
 
         try {
             s = State.valueOf(data.getState());
-            d = new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH).parse(data.getDate());
+            d = Date.from(LocalDate.parse(data.getDate(), DATE_FORMAT).atStartOfDay(ZoneId.systemDefault()).toInstant());
             t = Type.valueOf(data.getType());
             return new Notification(s, d, data.getMessage(), t, data.getNetId(), LocalDate.now());
         } catch (Exception a) {
             System.out.println(a.getMessage());
-            throw new IllegalArgumentException();
+            throw new IllegalArgumentException("Invalid notification: " + a.getMessage(), a);
         }
 
     }
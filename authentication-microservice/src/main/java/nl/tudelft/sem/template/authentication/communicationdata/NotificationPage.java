@@ -0,0 +1,65 @@
+package nl.tudelft.sem.template.authentication.communicationdata;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A page of the notifications of a user, most recently received first, together with the cursor to request the next
+ * page with. The cursor is the position of the last notification on the page, so following pages are found through
+ * the index instead of by skipping all earlier notifications.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationPage {
+
+    private static final String SEPARATOR = "_";
+
+    private final List<Notification> notifications;
+
+    /**
+     * The cursor of the next page, or null if this is the last page.
+     */
+    private final String nextCursor;
+
+    /**
+     * Creates the cursor pointing just after the given notification.
+     *
+     * @param last the last notification of a page.
+     * @return the cursor.
+     */
+    public static String cursorAfter(Notification last) {
+        return last.getTimeReceived() + SEPARATOR + last.getId();
+    }
+
+    /**
+     * Reads the day on which the last notification before the cursor was received.
+     *
+     * @param cursor the cursor.
+     * @return the day.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static LocalDate timeReceivedOf(String cursor) throws IllegalArgumentException {
+        try {
+            return LocalDate.parse(cursor.substring(0, cursor.indexOf(SEPARATOR)));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Reads the id of the last notification before the cursor.
+     *
+     * @param cursor the cursor.
+     * @return the id.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static long idOf(String cursor) throws IllegalArgumentException {
+        try {
+            return Long.parseLong(cursor.substring(cursor.indexOf(SEPARATOR) + 1));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package nl.tudelft.sem.template.authentication.communicationdata;
+
+import java.time.LocalDate;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The number of notifications of one type and state that a user received on one day, kept after those notifications
+ * have expired and been deleted.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_notification_summary",
+        columnNames = {"netId", "timeReceived", "notificationOrigin", "stateOfStatus"}))
+@Getter
+@Setter
+public class NotificationSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(nullable = false, unique = true)
+    private Long id;
+
+    @Column(nullable = false)
+    private String netId;
+    @Column(nullable = false)
+    private LocalDate timeReceived;
+    @Column(nullable = false)
+    private Type notificationOrigin;
+    @Column(nullable = false)
+    private State stateOfStatus;
+    @Column(nullable = false)
+    private long numberOfNotifications;
+
+    /**
+     * Constructor of an empty summary.
+     *
+     * @param netId the user that received the notifications
+     * @param timeReceived the day on which they were received
+     * @param type the type of the notifications
+     * @param state the state of the notifications
+     */
+    public NotificationSummary(String netId, LocalDate timeReceived, Type type, State state) {
+        this.netId = netId;
+        this.timeReceived = timeReceived;
+        this.notificationOrigin = type;
+        this.stateOfStatus = state;
+    }
+
+    public NotificationSummary() {
+    }
+}
@@ -0,0 +1,99 @@
+package nl.tudelft.sem.template.authentication.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+public class InterServiceClientConfig {
+
+    /**
+     * Creates the HTTP client for requests to the other microservices. It keeps a pool of connections to each
+     * microservice open, so requests do not have to set up a connection first, and bounds the time spent waiting for a
+     * connection and for a response.
+     *
+     * @param maxConnections the maximum number of open connections.
+     * @param maxConnectionsPerService the maximum number of open connections to one microservice.
+     * @param connectTimeoutMillis how long to wait for a connection to be set up.
+     * @param readTimeoutMillis how long to wait for the next data of a response.
+     * @param poolTimeoutMillis how long to wait for a connection from the pool when all are in use.
+     * @param keepAliveMillis how long an idle connection is kept open, unless the microservice says otherwise.
+     *
+     * @return the HTTP client
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient interServiceHttpClient(
+            @Value("${interservice.pool.maxConnections:100}") int maxConnections,
+            @Value("${interservice.pool.maxConnectionsPerService:20}") int maxConnectionsPerService,
+            @Value("${interservice.connectTimeoutMillis:1000}") int connectTimeoutMillis,
+            @Value("${interservice.readTimeoutMillis:5000}") int readTimeoutMillis,
+            @Value("${interservice.pool.timeoutMillis:1000}") int poolTimeoutMillis,
+            @Value("${interservice.pool.keepAliveMillis:30000}") long keepAliveMillis) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerService);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeoutMillis)
+                        .setSocketTimeout(readTimeoutMillis)
+                        .setConnectionRequestTimeout(poolTimeoutMillis)
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return keepAlive > 0 ? Math.min(keepAlive, keepAliveMillis) : keepAliveMillis;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Creates the client for requests to the other microservices.
+     *
+     * @param restTemplateBuilder the builder of the rest template sending the requests.
+     * @param interServiceHttpClient the pooled HTTP client sending the requests.
+     * @param meterRegistry the registry to record the latency of the requests in.
+     * @param usersUrl the base URL of the users microservice.
+     * @param clusterUrl the base URL of the cluster microservice.
+     * @param requestsUrl the base URL of the requests microservice.
+     * @param threads the number of threads sending requests of which the caller does not wait for the response.
+     *
+     * @return the inter-service client
+     */
+    @Bean
+    public InterServiceClient interServiceClient(RestTemplateBuilder restTemplateBuilder,
+                                                 CloseableHttpClient interServiceHttpClient,
+                                                 MeterRegistry meterRegistry,
+                                                 @Value("${interservice.users.url:http://localhost:8081}")
+                                                         String usersUrl,
+                                                 @Value("${interservice.cluster.url:http://localhost:8082}")
+                                                         String clusterUrl,
+                                                 @Value("${interservice.requests.url:http://localhost:8083}")
+                                                         String requestsUrl,
+                                                 @Value("${interservice.async.threads:16}") int threads) {
+        return new InterServiceClient(
+                restTemplateBuilder
+                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(interServiceHttpClient))
+                        .build(),
+                meterRegistry,
+                Map.of(InterServiceClient.USERS, usersUrl,
+                        InterServiceClient.CLUSTER, clusterUrl,
+                        InterServiceClient.REQUESTS, requestsUrl),
+                Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("interservice-client-")));
+    }
+}
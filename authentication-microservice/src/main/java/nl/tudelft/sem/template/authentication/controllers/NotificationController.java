@@ -1,30 +1,41 @@
 package nl.tudelft.sem.template.authentication.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import javax.servlet.http.HttpServletResponse;
 import nl.tudelft.sem.template.authentication.authtemp.AuthManager;
 import nl.tudelft.sem.template.authentication.communicationdata.Notification;
+import nl.tudelft.sem.template.authentication.communicationdata.NotificationPage;
 import nl.tudelft.sem.template.authentication.models.DeleteNotificationRequestModel;
 import nl.tudelft.sem.template.authentication.models.GetNotifactionsRequestModel;
+import nl.tudelft.sem.template.authentication.models.NotificationBatchResponseModel;
 import nl.tudelft.sem.template.authentication.models.NotificationRequestModel;
+import nl.tudelft.sem.template.authentication.models.NotificationStatusModel;
+import nl.tudelft.sem.template.authentication.services.NotificationPushService;
 import nl.tudelft.sem.template.authentication.services.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Class controller for receiving notifications.
@@ -32,8 +43,24 @@ import org.springframework.web.server.ResponseStatusException;
 @RestController
 public class NotificationController {
 
+    public static final String NEXT_CURSOR_HEADER = "Next-Cursor";
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ENGLISH);
+
+    /**
+     * Writes the notifications without pretty printing. Writers are immutable and thread-safe, so one is shared by all
+     * requests; it does not close the response stream, which is left to the servlet container.
+     */
+    private static final ObjectWriter NOTIFICATION_LIST_WRITER = new ObjectMapper()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .writerFor(new TypeReference<List<Notification>>() {});
+
     private final transient AuthManager authManager;
     private final transient NotificationService notificationService;
+    private final transient NotificationPushService notificationPushService;
 
     /**
      * Instantiates a new controller.
@@ -41,9 +68,11 @@ public class NotificationController {
      * @param authManager Spring Security component used to authenticate and authorize the user
      */
     @Autowired
-    public NotificationController(AuthManager authManager, NotificationService notificationService) {
+    public NotificationController(AuthManager authManager, NotificationService notificationService,
+                                  NotificationPushService notificationPushService) {
         this.authManager = authManager;
         this.notificationService = notificationService;
+        this.notificationPushService = notificationPushService;
     }
 
     /**
@@ -67,52 +96,103 @@ public class NotificationController {
     }
 
     /**
-     * Method a user can invoke to receive all notifications they have.
+     * Endpoint for receiving many notifications from other microservices in a single request. Notifications that
+     * cannot be read are skipped, so that a single invalid notification does not cause the sender to retry the
+     * whole batch forever; the response tells for each notification whether it was stored.
+     *
+     * @param data the data of all notifications
+     * @return ResponseEntity containing the outcome for each notification
+     */
+    @PostMapping("/notifications/batch")
+    @PreAuthorize("hasAnyRole('FACULTY', 'SYSADMIN', 'SYSTEM')")
+    public ResponseEntity<NotificationBatchResponseModel> receiveNotifications(
+            @RequestBody List<NotificationRequestModel> data) {
+        List<Notification> notifications = new ArrayList<>(data.size());
+        List<NotificationStatusModel> statuses = new ArrayList<>(data.size());
+        for (int i = 0; i < data.size(); ++i) {
+            try {
+                notifications.add(Notification.createNotification(data.get(i)));
+                statuses.add(new NotificationStatusModel(i, true, null, null));
+            } catch (Exception e) {
+                statuses.add(new NotificationStatusModel(i, false, null, e.getMessage()));
+            }
+        }
+
+        var stored = notificationService.addNotifications(notifications).iterator();
+        for (NotificationStatusModel status : statuses) {
+            if (status.isStored()) {
+                status.setId(stored.next().getId());
+            }
+        }
+        return ResponseEntity.ok(new NotificationBatchResponseModel(data.size(), notifications.size(), statuses));
+    }
+
+    /**
+     * Method a user can invoke to receive their notifications, most recently received first, one page at a time. When
+     * there are more notifications, the cursor of the next page is sent in the Next-Cursor header. The notifications
+     * are written straight to the response.
      *
-     * @return ResponseEntity when request success
+     * @param request the optional time frame of the notifications
+     * @param cursor the Next-Cursor of the previous page, or nothing for the first page
+     * @param limit the maximum number of notifications on the page
+     * @param response the response to write the notifications to
      * @throws ResponseStatusException when bad request
      */
     @GetMapping("/getNotification")
     @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
-    public ResponseEntity<String> sendJobNotifications(@RequestBody (required = false) GetNotifactionsRequestModel request) {
-        try {
-            request.check();
-            LocalDate begin = LocalDate.now();
-            LocalDate end = LocalDate.MIN;
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            formatter = formatter.localizedBy(Locale.ENGLISH);
+    public void sendJobNotifications(@RequestBody (required = false) GetNotifactionsRequestModel request,
+                                     @RequestParam(required = false) String cursor,
+                                     @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+                                     HttpServletResponse response) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "The limit should be between 1 and " + MAX_PAGE_SIZE);
+        }
 
+        // without a body all notifications are sent, otherwise the ones until today or the given end
+        LocalDate begin = LocalDate.MAX;
+        LocalDate end = LocalDate.MIN;
+        if (request != null) {
+            request.check();
+            begin = LocalDate.now();
             try {
-                begin = LocalDate.parse(request.getDateUntil(), formatter);
+                begin = LocalDate.parse(request.getDateUntil(), DATE_FORMAT);
             } catch (Exception e) {
                 System.out.println("No Start in body");
             }
             try {
-                end = LocalDate.parse(request.getDateFrom(), formatter);
+                end = LocalDate.parse(request.getDateFrom(), DATE_FORMAT);
             } catch (Exception e) {
                 System.out.println("No End in body");
             }
-            String netId = authManager.getNetId();
-            List<Notification> resultList = notificationService.getNotificationsWithDate(netId, begin, end);
-            ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
-            String json = ow.writeValueAsString(resultList);
-            return ResponseEntity.ok(json);
-        } catch (Exception e) {
-            System.out.println("No Request Body");
         }
 
-
         try {
             String netId = authManager.getNetId();
-            List<Notification> l = notificationService.getNotifications(netId);
-            ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
-            String json = ow.writeValueAsString(l);
-            return ResponseEntity.ok(json);
+            NotificationPage page = notificationService.getNotificationPage(netId, begin, end, cursor, limit);
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            if (page.getNextCursor() != null) {
+                response.setHeader(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            NOTIFICATION_LIST_WRITER.writeValue(response.getOutputStream(), page.getNotifications());
         } catch (Exception e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
     }
 
+    /**
+     * Method a user can invoke to receive their new notifications as server-sent events, as soon as they arrive,
+     * instead of polling for them. Each event is named notification, has the id of the notification as its id and the
+     * notification as its data. Notifications missed while not connected can be requested with /getNotification.
+     *
+     * @return the stream of notifications
+     */
+    @GetMapping(path = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications() {
+        return notificationPushService.subscribe(authManager.getNetId());
+    }
+
     /**
      * End point for deleting a notification.
      *
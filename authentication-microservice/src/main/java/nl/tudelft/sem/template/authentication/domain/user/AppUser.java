@@ -130,6 +130,7 @@ public class AppUser extends HasEvents {
     public void addFaculty(Faculty faculty) {
         if (!this.facultyList.contains(faculty)) {
             this.facultyList.add(faculty);
+            this.recordThat(new FacultyMembershipWasChangedEvent(netId));
         }
     }
 
@@ -145,6 +146,7 @@ public class AppUser extends HasEvents {
     public void removeFaculty(Faculty faculty) {
         if (this.facultyList.contains(faculty)) {
             this.facultyList.remove(faculty);
+            this.recordThat(new FacultyMembershipWasChangedEvent(netId));
         }
     }
 }
@@ -0,0 +1,16 @@
+package nl.tudelft.sem.template.authentication.domain.user;
+
+/**
+ * A DDD domain event indicating a faculty was added to or removed from a user.
+ */
+public class FacultyMembershipWasChangedEvent {
+    private final NetId netId;
+
+    public FacultyMembershipWasChangedEvent(NetId netId) {
+        this.netId = netId;
+    }
+
+    public NetId getNetId() {
+        return this.netId;
+    }
+}
@@ -1,8 +1,16 @@
 package nl.tudelft.sem.template.authentication.domain.user;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import nl.tudelft.sem.template.authentication.communicationdata.Notification;
+import nl.tudelft.sem.template.authentication.communicationdata.State;
+import nl.tudelft.sem.template.authentication.communicationdata.Type;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
@@ -20,4 +28,63 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      * @return a list of all notifications with a matching netID in the repository.
      */
     List<Notification> findByNetId(String netId);
+
+    /**
+     * Looks for the most recent notifications of a user that were received between the two dates, inclusive.
+     *
+     * @param netId the netID to find the notifications by.
+     * @param from the first day of the time frame.
+     * @param until the last day of the time frame.
+     * @param pageable the maximum number of notifications to return.
+     *
+     * @return the notifications, most recently received first.
+     */
+    List<Notification> findByNetIdAndTimeReceivedBetweenOrderByTimeReceivedDescIdDesc(String netId, LocalDate from,
+                                                                                      LocalDate until,
+                                                                                      Pageable pageable);
+
+    /**
+     * Looks for the notifications of a user that were received between the two dates, inclusive, and that come after
+     * the given notification when ordered from most to least recently received.
+     *
+     * @param netId the netID to find the notifications by.
+     * @param from the first day of the time frame.
+     * @param until the last day of the time frame.
+     * @param afterTimeReceived the day on which the last notification of the previous page was received.
+     * @param afterId the id of the last notification of the previous page.
+     * @param pageable the maximum number of notifications to return.
+     *
+     * @return the notifications, most recently received first.
+     */
+    @Query("select n from Notification n where n.netId = :netId and n.timeReceived between :from and :until"
+            + " and (n.timeReceived < :afterTimeReceived or (n.timeReceived = :afterTimeReceived and n.id < :afterId))"
+            + " order by n.timeReceived desc, n.id desc")
+    List<Notification> findPageAfter(@Param("netId") String netId, @Param("from") LocalDate from,
+                                     @Param("until") LocalDate until,
+                                     @Param("afterTimeReceived") LocalDate afterTimeReceived,
+                                     @Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Looks for the oldest notifications of one type and state that were received before the given day.
+     *
+     * @param type the type of the notifications.
+     * @param state the state of the notifications.
+     * @param before the first day on which notifications are not returned.
+     * @param pageable the maximum number of notifications to return.
+     *
+     * @return the notifications, least recently received first.
+     */
+    List<Notification> findByNotificationOriginAndStateOfStatusAndTimeReceivedBeforeOrderByTimeReceivedAscIdAsc(
+            Type type, State state, LocalDate before, Pageable pageable);
+
+    /**
+     * Deletes the notifications with the given ids in a single statement.
+     *
+     * @param ids the ids of the notifications to delete.
+     *
+     * @return the number of deleted notifications.
+     */
+    @Modifying
+    @Query("delete from Notification n where n.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
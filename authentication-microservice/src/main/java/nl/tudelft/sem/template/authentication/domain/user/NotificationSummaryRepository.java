@@ -0,0 +1,34 @@
+package nl.tudelft.sem.template.authentication.domain.user;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import nl.tudelft.sem.template.authentication.communicationdata.NotificationSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for storing the daily summaries of expired notifications.
+ */
+@Repository
+public interface NotificationSummaryRepository extends JpaRepository<NotificationSummary, Long> {
+
+    /**
+     * Looks for all summaries of the given users on the given days.
+     *
+     * @param netIds the netIDs to find the summaries by.
+     * @param days the days to find the summaries by.
+     *
+     * @return the summaries of those users on those days.
+     */
+    List<NotificationSummary> findByNetIdInAndTimeReceivedIn(Collection<String> netIds, Collection<LocalDate> days);
+
+    /**
+     * Looks for all summaries of a user.
+     *
+     * @param netId the netID to find the summaries by.
+     *
+     * @return the summaries of the user, most recent day first.
+     */
+    List<NotificationSummary> findByNetIdOrderByTimeReceivedDesc(String netId);
+}
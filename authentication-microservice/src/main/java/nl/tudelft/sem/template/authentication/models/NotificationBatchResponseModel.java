@@ -0,0 +1,19 @@
+package nl.tudelft.sem.template.authentication.models;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Model representing the response to a batch of notifications, with the outcome for each notification in the order
+ * in which they were sent.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationBatchResponseModel {
+    private int received;
+    private int stored;
+    private List<NotificationStatusModel> statuses;
+}
@@ -0,0 +1,18 @@
+package nl.tudelft.sem.template.authentication.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Model representing the outcome for a single notification of a batch.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationStatusModel {
+    private int index;
+    private boolean stored;
+    private Long id;
+    private String error;
+}
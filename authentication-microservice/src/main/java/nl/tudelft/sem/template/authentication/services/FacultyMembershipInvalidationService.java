@@ -0,0 +1,75 @@
+package nl.tudelft.sem.template.authentication.services;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import nl.tudelft.sem.template.authentication.authentication.JwtTokenGenerator;
+import nl.tudelft.sem.template.authentication.config.InterServiceClient;
+import nl.tudelft.sem.template.authentication.domain.user.NetId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Service;
+
+/**
+ * Tells the other microservices that the faculties of a user changed, so they stop using the faculties they cached for
+ * that user. The other microservices are told without waiting for their response, so changing the faculties of a user
+ * never waits for them; if one of them cannot be reached, it keeps using its cached faculties until they expire.
+ */
+@Service
+public class FacultyMembershipInvalidationService {
+
+    private final transient InterServiceClient interServiceClient;
+    private final transient JwtTokenGenerator jwtTokenGenerator;
+    private final transient List<String> subscribers;
+
+    /**
+     * Creates this service.
+     *
+     * @param interServiceClient the client for sending requests to the other microservices.
+     * @param jwtTokenGenerator the generator of the token to authenticate with.
+     * @param subscribers the microservices caching faculties, such as cluster and requests, separated by commas.
+     */
+    @Autowired
+    public FacultyMembershipInvalidationService(InterServiceClient interServiceClient,
+                                                JwtTokenGenerator jwtTokenGenerator,
+                                                @Value("${faculties.invalidation.subscribers:}") String subscribers) {
+        this.interServiceClient = interServiceClient;
+        this.jwtTokenGenerator = jwtTokenGenerator;
+        this.subscribers = Arrays.stream(subscribers.split(","))
+                .map(String::trim).filter(x -> !x.isEmpty()).collect(Collectors.toList());
+    }
+
+    /**
+     * Tells the other microservices that the faculties of the given user changed. Returns immediately, the other
+     * microservices are told in the background.
+     *
+     * @param netId the user whose faculties changed.
+     */
+    public void invalidate(NetId netId) {
+        if (this.subscribers.isEmpty()) {
+            return;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(this.jwtTokenGenerator.generateToken(
+                new User("SYSTEM", "", List.of(new SimpleGrantedAuthority("ROLE_SYSTEM")))));
+        HttpEntity<Map<String, String>> entity = new HttpEntity<>(Map.of("netId", netId.toString()), headers);
+
+        for (String subscriber : this.subscribers) {
+            this.interServiceClient.exchangeAsync(subscriber, "/faculties/invalidate", HttpMethod.POST, entity,
+                            String.class)
+                    .exceptionally(e -> {
+                        System.out.println("Could not invalidate the faculties of " + netId + " at " + subscriber
+                                + ": " + e.getMessage());
+                        return null;
+                    });
+        }
+    }
+}
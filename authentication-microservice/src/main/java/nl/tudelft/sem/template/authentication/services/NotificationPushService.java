@@ -0,0 +1,196 @@
+package nl.tudelft.sem.template.authentication.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import nl.tudelft.sem.template.authentication.communicationdata.Notification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes new notifications to the users that are connected to the notification stream, as server-sent events. The
+ * connections are asynchronous requests, so an idle connection does not hold a thread; notifications are written to
+ * them by a single dispatcher thread, so that storing notifications never waits for slow clients.
+ */
+@Service
+@EnableScheduling
+public class NotificationPushService implements DisposableBean {
+
+    private static final ObjectWriter NOTIFICATION_WRITER = new ObjectMapper().writerFor(Notification.class);
+
+    /**
+     * The open connections of each user. A user may be connected from several clients at once.
+     */
+    private final transient Map<String, Set<SseEmitter>> connections = new ConcurrentHashMap<>();
+    private final transient AtomicInteger connectionCount = new AtomicInteger();
+
+    private final transient Executor dispatcher;
+    private final transient long timeoutMillis;
+    private final transient Timer deliveryLag;
+
+    /**
+     * Creates this service with its own dispatcher thread.
+     *
+     * @param meterRegistry the registry to publish the connection count and delivery lag to.
+     * @param timeoutMillis how long a connection stays open before the client has to reconnect.
+     */
+    @Autowired
+    public NotificationPushService(MeterRegistry meterRegistry,
+                                   @Value("${notifications.push.timeoutMillis:1800000}") long timeoutMillis) {
+        this(meterRegistry, Executors.newSingleThreadExecutor(new CustomizableThreadFactory("notification-push-")),
+                timeoutMillis);
+    }
+
+    /**
+     * Creates this service.
+     *
+     * @param meterRegistry the registry to publish the connection count and delivery lag to.
+     * @param dispatcher the executor writing notifications to the connections.
+     * @param timeoutMillis how long a connection stays open before the client has to reconnect.
+     */
+    public NotificationPushService(MeterRegistry meterRegistry, Executor dispatcher, long timeoutMillis) {
+        this.dispatcher = dispatcher;
+        this.timeoutMillis = timeoutMillis;
+        Gauge.builder("notifications.push.connections", this.connectionCount, AtomicInteger::get)
+                .description("Open notification stream connections")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("notifications.push.delivery.lag")
+                .description("Time between storing a notification and writing it to a connection")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a notification stream for the given user.
+     *
+     * @param netId the user to send the new notifications of.
+     * @return the connection to return from the request.
+     */
+    public SseEmitter subscribe(String netId) {
+        SseEmitter emitter = new SseEmitter(this.timeoutMillis);
+        // added within compute, so that an unsubscribe removing the last connection cannot drop the set in between
+        this.connections.compute(netId, (x, emitters) -> {
+            var set = emitters == null ? new CopyOnWriteArraySet<SseEmitter>() : emitters;
+            set.add(emitter);
+            this.connectionCount.incrementAndGet();
+            return set;
+        });
+
+        Runnable unsubscribe = () -> this.unsubscribe(netId, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    /**
+     * Sends the given notifications to the connected clients of their users. Returns immediately, the notifications
+     * are written by the dispatcher.
+     *
+     * @param notifications the notifications that were just stored.
+     */
+    public void publish(List<Notification> notifications) {
+        if (this.connections.isEmpty()) {
+            return;
+        }
+        long published = System.nanoTime();
+        this.dispatcher.execute(() -> {
+            for (Notification notification : notifications) {
+                this.deliver(notification, published);
+            }
+        });
+    }
+
+    private void deliver(Notification notification, long published) {
+        var emitters = this.connections.get(notification.getNetId());
+        if (emitters == null) {
+            return;
+        }
+        String json;
+        try {
+            json = NOTIFICATION_WRITER.writeValueAsString(notification);
+        } catch (IOException e) {
+            System.out.println("Could not push notification " + notification.getId() + ": " + e.getMessage());
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            boolean sent = this.send(notification.getNetId(), emitter, SseEmitter.event()
+                    .id(String.valueOf(notification.getId()))
+                    .name("notification")
+                    .data(json, MediaType.APPLICATION_JSON));
+            if (sent) {
+                this.deliveryLag.record(System.nanoTime() - published, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Sends a comment to every connection, which keeps idle connections from being closed by proxies and removes the
+     * connections of clients that have gone away.
+     */
+    @Scheduled(fixedDelayString = "${notifications.push.heartbeatMillis:30000}")
+    public void heartbeat() {
+        this.dispatcher.execute(() -> this.connections.forEach((netId, emitters) ->
+                emitters.forEach(x -> this.send(netId, x, SseEmitter.event().comment("heartbeat")))));
+    }
+
+    private boolean send(String netId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // the client has disconnected, or the connection has already been completed
+            this.unsubscribe(netId, emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void unsubscribe(String netId, SseEmitter emitter) {
+        this.connections.computeIfPresent(netId, (x, emitters) -> {
+            if (emitters.remove(emitter)) {
+                this.connectionCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    /**
+     * Returns the number of open notification stream connections.
+     *
+     * @return the number of connections.
+     */
+    public int getConnectionCount() {
+        return this.connectionCount.get();
+    }
+
+    /**
+     * Closes all connections, clients reconnect once the service is back.
+     */
+    @Override
+    public void destroy() {
+        this.connections.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        if (this.dispatcher instanceof ExecutorService) {
+            ((ExecutorService) this.dispatcher).shutdown();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package nl.tudelft.sem.template.authentication.services;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import nl.tudelft.sem.template.authentication.communicationdata.Notification;
+import nl.tudelft.sem.template.authentication.communicationdata.NotificationSummary;
+import nl.tudelft.sem.template.authentication.communicationdata.State;
+import nl.tudelft.sem.template.authentication.communicationdata.Type;
+import nl.tudelft.sem.template.authentication.domain.providers.TimeProvider;
+import nl.tudelft.sem.template.authentication.domain.user.NotificationRepository;
+import nl.tudelft.sem.template.authentication.domain.user.NotificationSummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes notifications once they are older than the retention period of their type and state, so that the
+ * notification table does not keep growing. Expired notifications are deleted in chunks, each in its own transaction,
+ * so that the table is never locked for long; when summaries are enabled, every chunk is first counted into the daily
+ * summaries of its users.
+ */
+@Service
+@EnableScheduling
+public class NotificationRetentionService {
+
+    private final transient NotificationRepository notificationRepository;
+    private final transient NotificationSummaryRepository notificationSummaryRepository;
+    private final transient TransactionTemplate transactionTemplate;
+    private final transient TimeProvider timeProvider;
+
+    /**
+     * Retention period in days of each type and state; a period of zero or less keeps notifications forever.
+     */
+    private final transient Map<Type, Map<State, Integer>> retentionDays;
+    private final transient int chunkSize;
+    private final transient boolean summarize;
+
+    /**
+     * Creates this service object.
+     *
+     * @param notificationRepository the repository to delete expired notifications from.
+     * @param notificationSummaryRepository the repository to store the daily summaries in.
+     * @param transactionManager the transaction manager to delete each chunk in a transaction with.
+     * @param timeProvider the provider of the current time.
+     * @param defaultDays the retention period of types and states without their own, in days.
+     * @param days the retention periods of specific types and states, as TYPE.STATE=days separated by commas.
+     * @param chunkSize the maximum number of notifications deleted in one transaction.
+     * @param summarize whether to count expired notifications into the daily summaries.
+     */
+    @Autowired
+    public NotificationRetentionService(NotificationRepository notificationRepository,
+                                        NotificationSummaryRepository notificationSummaryRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        TimeProvider timeProvider,
+                                        @Value("${notifications.retention.defaultDays:365}") int defaultDays,
+                                        @Value("${notifications.retention.days:}") String days,
+                                        @Value("${notifications.retention.chunkSize:1000}") int chunkSize,
+                                        @Value("${notifications.retention.summarize:true}") boolean summarize) {
+        this.notificationRepository = notificationRepository;
+        this.notificationSummaryRepository = notificationSummaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timeProvider = timeProvider;
+        this.retentionDays = parseRetentionDays(defaultDays, days);
+        this.chunkSize = chunkSize;
+        this.summarize = summarize;
+    }
+
+    /**
+     * Reads retention periods given as TYPE.STATE=days separated by commas, for example JOB.STARTED=30,JOB.COMPLETED=90.
+     *
+     * @throws IllegalArgumentException if a period cannot be read.
+     */
+    private static Map<Type, Map<State, Integer>> parseRetentionDays(int defaultDays, String days)
+            throws IllegalArgumentException {
+        Map<Type, Map<State, Integer>> retention = new EnumMap<>(Type.class);
+        for (Type type : Type.values()) {
+            Map<State, Integer> forType = new EnumMap<>(State.class);
+            for (State state : State.values()) {
+                forType.put(state, defaultDays);
+            }
+            retention.put(type, forType);
+        }
+
+        for (String entry : days.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            try {
+                String[] keyAndDays = entry.trim().split("=");
+                String[] typeAndState = keyAndDays[0].trim().split("\\.");
+                retention.get(Type.valueOf(typeAndState[0]))
+                        .put(State.valueOf(typeAndState[1]), Integer.parseInt(keyAndDays[1].trim()));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Invalid notification retention period: " + entry, e);
+            }
+        }
+        return retention;
+    }
+
+    /**
+     * Deletes all notifications that have outlived their retention period. Runs every night, when few notifications
+     * are requested.
+     *
+     * @return the number of deleted notifications.
+     */
+    @Scheduled(cron = "${notifications.retention.cron:0 30 3 * * *}")
+    public long deleteExpiredNotifications() {
+        LocalDate today = LocalDate.ofInstant(this.timeProvider.getCurrentTime(), ZoneId.systemDefault());
+        long deleted = 0;
+        for (Type type : Type.values()) {
+            for (State state : State.values()) {
+                int days = this.retentionDays.get(type).get(state);
+                if (days > 0) {
+                    deleted += this.deleteReceivedBefore(type, state, today.minusDays(days));
+                }
+            }
+        }
+        System.out.println("Deleted " + deleted + " expired notifications");
+        return deleted;
+    }
+
+    /**
+     * Deletes the notifications of the given type and state received before the given day, a chunk at a time.
+     */
+    private long deleteReceivedBefore(Type type, State state, LocalDate before) {
+        long deleted = 0;
+        while (true) {
+            Integer deletedInChunk = this.transactionTemplate.execute(status -> {
+                var chunk = this.notificationRepository
+                        .findByNotificationOriginAndStateOfStatusAndTimeReceivedBeforeOrderByTimeReceivedAscIdAsc(
+                                type, state, before, PageRequest.of(0, this.chunkSize));
+                if (chunk.isEmpty()) {
+                    return 0;
+                }
+                if (this.summarize) {
+                    this.addToSummaries(chunk);
+                }
+                return this.notificationRepository.deleteByIdIn(chunk.stream()
+                        .map(Notification::getId).collect(Collectors.toList()));
+            });
+            if (deletedInChunk == null || deletedInChunk == 0) {
+                return deleted;
+            }
+            deleted += deletedInChunk;
+        }
+    }
+
+    /**
+     * Counts the given notifications, which all have the same type and state, into the daily summaries of their users.
+     */
+    private void addToSummaries(List<Notification> notifications) {
+        Map<String, Map<LocalDate, Long>> counts = notifications.stream()
+                .collect(Collectors.groupingBy(Notification::getNetId,
+                        Collectors.groupingBy(Notification::getTimeReceived, Collectors.counting())));
+        Type type = notifications.get(0).getNotificationOrigin();
+        State state = notifications.get(0).getStateOfStatus();
+
+        Set<LocalDate> days = notifications.stream().map(Notification::getTimeReceived).collect(Collectors.toSet());
+        Map<String, NotificationSummary> summaries = new HashMap<>();
+        for (NotificationSummary summary : this.notificationSummaryRepository
+                .findByNetIdInAndTimeReceivedIn(counts.keySet(), days)) {
+            if (summary.getNotificationOrigin() == type && summary.getStateOfStatus() == state) {
+                summaries.put(summary.getNetId() + "/" + summary.getTimeReceived(), summary);
+            }
+        }
+
+        counts.forEach((netId, countPerDay) -> countPerDay.forEach((day, count) -> {
+            var summary = summaries.computeIfAbsent(netId + "/" + day,
+                    x -> new NotificationSummary(netId, day, type, state));
+            summary.setNumberOfNotifications(summary.getNumberOfNotifications() + count);
+        }));
+        this.notificationSummaryRepository.saveAll(summaries.values());
+    }
+
+    /**
+     * Returns the daily summaries of the expired notifications of a user.
+     *
+     * @param netId the user to get the summaries of.
+     * @return the summaries, most recent day first.
+     */
+    public List<NotificationSummary> getSummaries(String netId) {
+        return this.notificationSummaryRepository.findByNetIdOrderByTimeReceivedDesc(netId);
+    }
+}
@@ -3,11 +3,13 @@ package nl.tudelft.sem.template.authentication.services;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import nl.tudelft.sem.template.authentication.communicationdata.Notification;
+import nl.tudelft.sem.template.authentication.communicationdata.NotificationPage;
 import nl.tudelft.sem.template.authentication.domain.user.NotificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 
@@ -17,25 +19,43 @@ import org.springframework.stereotype.Service;
 @Service
 public class NotificationService {
 
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
 
     private final transient NotificationRepository notificationRepository;
+    private final transient NotificationPushService notificationPushService;
 
     /**
      * Constructor which initializes the data storage.
      */
     @Autowired
-    public NotificationService(NotificationRepository notificationRepository) {
+    public NotificationService(NotificationRepository notificationRepository,
+                               NotificationPushService notificationPushService) {
         this.notificationRepository = notificationRepository;
+        this.notificationPushService = notificationPushService;
     }
 
 
     /**
-     * Method which stores an incoming notification.
+     * Method which stores an incoming notification, and pushes it to the user if they are connected.
      *
      * @param notificationData all the data fields of the notification
      */
     public void addNotification(Notification notificationData) {
-        notificationRepository.save(notificationData);
+        notificationPushService.publish(List.of(notificationRepository.save(notificationData)));
+    }
+
+    /**
+     * Method which stores several incoming notifications at once, in a single transaction, so that they are inserted
+     * in JDBC batches, and pushes them to the users that are connected.
+     *
+     * @param notifications the notifications to store
+     * @return the stored notifications, with their ids, in the same order
+     */
+    public List<Notification> addNotifications(List<Notification> notifications) {
+        List<Notification> stored = notificationRepository.saveAll(notifications);
+        notificationPushService.publish(stored);
+        return stored;
     }
 
     /**
@@ -57,10 +77,48 @@ public class NotificationService {
      * @return list containing notifications, can be emtpy.
      */
     public List<Notification> getNotificationsWithDate(String netId, LocalDate dateUntil, LocalDate dateFrom) {
-        return notificationRepository.findByNetId(netId)
-                .stream()
-                .filter(c -> !(c.getTimeReceived().isBefore(dateFrom) || c.getTimeReceived().isAfter(dateUntil)))
-                .collect(Collectors.toList());
+        return notificationRepository.findByNetIdAndTimeReceivedBetweenOrderByTimeReceivedDescIdDesc(netId,
+                clamp(dateFrom), clamp(dateUntil), Pageable.unpaged());
+    }
+
+    /**
+     * Method which will return a page of the notifications of the user received in the time frame, most recently
+     * received first. Every page is looked up through the index on netId and time received, so it takes the same time
+     * no matter how many notifications the user has.
+     *
+     * @param netId netId of the user
+     * @param dateUntil the end of the timeframe (Most recent)
+     * @param dateFrom the begin of the time frame (Least recent)
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of notifications on the page
+     * @return the page, with the cursor of the next page if there are more notifications
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public NotificationPage getNotificationPage(String netId, LocalDate dateUntil, LocalDate dateFrom, String cursor,
+                                                int limit) throws IllegalArgumentException {
+        // fetch one more than requested to find out whether there is a next page
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<Notification> notifications = cursor == null
+                ? notificationRepository.findByNetIdAndTimeReceivedBetweenOrderByTimeReceivedDescIdDesc(netId,
+                        clamp(dateFrom), clamp(dateUntil), pageable)
+                : notificationRepository.findPageAfter(netId, clamp(dateFrom), clamp(dateUntil),
+                        NotificationPage.timeReceivedOf(cursor), NotificationPage.idOf(cursor), pageable);
+
+        if (notifications.size() <= limit) {
+            return new NotificationPage(notifications, null);
+        }
+        notifications = notifications.subList(0, limit);
+        return new NotificationPage(notifications, NotificationPage.cursorAfter(notifications.get(limit - 1)));
+    }
+
+    /**
+     * Limits open ends of a time frame, such as LocalDate.MIN, to dates the database can store.
+     */
+    private static LocalDate clamp(LocalDate date) {
+        if (date.isBefore(EARLIEST_DATE)) {
+            return EARLIEST_DATE;
+        }
+        return date.isAfter(LATEST_DATE) ? LATEST_DATE : date;
     }
 
     public void deleteNotifications(long id) throws Exception {
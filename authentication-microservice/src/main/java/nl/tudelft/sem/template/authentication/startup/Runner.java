@@ -7,30 +7,30 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import nl.tudelft.sem.template.authentication.config.InterServiceClient;
 import nl.tudelft.sem.template.authentication.domain.providers.TimeProvider;
 import nl.tudelft.sem.template.authentication.domain.user.AppUser;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 @Component
 public class Runner implements ApplicationListener<ContextRefreshedEvent> {
 
-    private final transient RestTemplate restTemplate;
+    private final transient InterServiceClient interServiceClient;
     private final transient TimeProvider timeProvider;
 
     private transient Thread thread;
 
     @Autowired
-    public Runner(RestTemplateBuilder restTemplateBuilder, TimeProvider timeProvider) {
-        this.restTemplate = restTemplateBuilder.build();
+    public Runner(InterServiceClient interServiceClient, TimeProvider timeProvider) {
+        this.interServiceClient = interServiceClient;
         this.timeProvider = timeProvider;
     }
 
@@ -46,7 +46,6 @@ public class Runner implements ApplicationListener<ContextRefreshedEvent> {
                 try {
                     Thread.sleep(1000);
 
-                    String url = "http://localhost:8082/faculties";
                     List<String> enumValues = Stream.of(AppUser.Faculty.values())
                             .map(Enum::toString).collect(Collectors.toList());
 
@@ -61,7 +60,8 @@ public class Runner implements ApplicationListener<ContextRefreshedEvent> {
 
                     HttpEntity<List<String>> entity = new HttpEntity<>(enumValues, headers);
 
-                    ResponseEntity<String> result = restTemplate.postForEntity(url, entity, String.class);
+                    ResponseEntity<String> result = interServiceClient.exchange(InterServiceClient.CLUSTER,
+                            "/faculties", HttpMethod.POST, entity, String.class);
                     if (Objects.equals(result.getStatusCode().value(), 200)) {
                         return;
                     }
@@ -5,9 +5,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
 import java.io.IOException;
+import java.util.Date;
 import java.util.stream.Stream;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -62,9 +65,7 @@ public class JwtRequestFilterTests {
         String user = "user123";
         String role = "USER";
         when(mockRequest.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(mockJwtTokenVerifier.validateToken(token)).thenReturn(true);
-        when(mockJwtTokenVerifier.getNetIdFromToken(token)).thenReturn(user);
-        when(mockJwtTokenVerifier.getRoleFromToken(token)).thenReturn(role);
+        when(mockJwtTokenVerifier.getVerifiedClaims(token)).thenReturn(claims(user, role, 10_000_000));
 
         // Act
         jwtRequestFilter.doFilterInternal(mockRequest, mockResponse, mockFilterChain);
@@ -72,6 +73,8 @@ public class JwtRequestFilterTests {
         // Assert
         assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
                 .isEqualTo(user);
+        verify(mockJwtTokenVerifier).getVerifiedClaims(token);
+        verifyNoMoreInteractions(mockJwtTokenVerifier);
     }
 
     @Test
@@ -80,8 +83,7 @@ public class JwtRequestFilterTests {
         String token = "randomtoken123";
         String user = "user123";
         when(mockRequest.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(mockJwtTokenVerifier.validateToken(token)).thenReturn(false);
-        when(mockJwtTokenVerifier.getNetIdFromToken(token)).thenReturn(user);
+        when(mockJwtTokenVerifier.getVerifiedClaims(token)).thenReturn(claims(user, "USER", -10_000_000));
 
         // Act
         jwtRequestFilter.doFilterInternal(mockRequest, mockResponse, mockFilterChain);
@@ -104,8 +106,7 @@ public class JwtRequestFilterTests {
         String token = "randomtoken123";
         String user = "user123";
         when(mockRequest.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(mockJwtTokenVerifier.validateToken(token)).thenThrow(throwable);
-        when(mockJwtTokenVerifier.getNetIdFromToken(token)).thenReturn(user);
+        when(mockJwtTokenVerifier.getVerifiedClaims(token)).thenThrow(throwable);
 
         // Act
         jwtRequestFilter.doFilterInternal(mockRequest, mockResponse, mockFilterChain);
@@ -143,8 +144,7 @@ public class JwtRequestFilterTests {
         String token = "randomtoken123";
         String user = "user123";
         when(mockRequest.getHeader("Authorization")).thenReturn("Bearer1 " + token);
-        when(mockJwtTokenVerifier.validateToken(token)).thenReturn(true);
-        when(mockJwtTokenVerifier.getNetIdFromToken(token)).thenReturn(user);
+        when(mockJwtTokenVerifier.getVerifiedClaims(token)).thenReturn(claims(user, "USER", 10_000_000));
 
         // Act
         jwtRequestFilter.doFilterInternal(mockRequest, mockResponse, mockFilterChain);
@@ -160,8 +160,7 @@ public class JwtRequestFilterTests {
         String token = "randomtoken123";
         String user = "user123";
         when(mockRequest.getHeader("Authorization")).thenReturn(token);
-        when(mockJwtTokenVerifier.validateToken(token)).thenReturn(true);
-        when(mockJwtTokenVerifier.getNetIdFromToken(token)).thenReturn(user);
+        when(mockJwtTokenVerifier.getVerifiedClaims(token)).thenReturn(claims(user, "USER", 10_000_000));
 
         // Act
         jwtRequestFilter.doFilterInternal(mockRequest, mockResponse, mockFilterChain);
@@ -170,4 +169,11 @@ public class JwtRequestFilterTests {
         assertThat(SecurityContextHolder.getContext().getAuthentication())
                 .isNull();
     }
+
+    private static Claims claims(String netId, String role, long expirationOffset) {
+        Claims claims = Jwts.claims().setSubject(netId)
+                .setExpiration(new Date(System.currentTimeMillis() + expirationOffset));
+        claims.put("roles", role);
+        return claims;
+    }
 }
@@ -81,6 +81,32 @@ public class JwtTokenGeneratorTests {
         assertThat(claims.get("roles")).isEqualTo("USER");
     }
 
+    @Test
+    public void generatedTokenHasFaculties() {
+        // Arrange
+        UserDetails userWithFaculties = new JwtUserDetails(netId, "someHash",
+                List.of(new SimpleGrantedAuthority("USER")), List.of("EWI", "IO"));
+
+        // Act
+        String token = jwtTokenGenerator.generateToken(userWithFaculties);
+
+        // Assert
+        Claims claims = getClaims(token);
+        assertThat(claims.get("faculties")).isEqualTo("EWI,IO");
+        assertThat(claims.get("facultiesValidUntil", Long.class))
+                .isEqualTo(mockedTime.plus(15, ChronoUnit.MINUTES).toEpochMilli());
+    }
+
+    @Test
+    public void generatedTokenWithoutKnownFaculties() {
+        // Act
+        String token = jwtTokenGenerator.generateToken(user);
+
+        // Assert
+        Claims claims = getClaims(token);
+        assertThat(claims.get("faculties")).isNull();
+    }
+
     private Claims getClaims(String token) {
         return Jwts.parser()
                 .setAllowedClockSkewSeconds(Integer.MAX_VALUE)
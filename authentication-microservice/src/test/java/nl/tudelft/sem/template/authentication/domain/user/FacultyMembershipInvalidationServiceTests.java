@@ -0,0 +1,98 @@
+package nl.tudelft.sem.template.authentication.domain.user;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.ExpectedCount.never;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import nl.tudelft.sem.template.authentication.authentication.JwtTokenGenerator;
+import nl.tudelft.sem.template.authentication.config.InterServiceClient;
+import nl.tudelft.sem.template.authentication.services.FacultyMembershipInvalidationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+public class FacultyMembershipInvalidationServiceTests {
+
+    private static final String CLUSTER = "http://localhost:8082/faculties/invalidate";
+    private static final String REQUESTS = "http://localhost:8083/faculties/invalidate";
+
+    private InterServiceClient interServiceClient;
+    private MockRestServiceServer server;
+    private JwtTokenGenerator jwtTokenGenerator;
+
+    /**
+     * Set up a mocked server for the other microservices.
+     */
+    @BeforeEach
+    public void setup() {
+        RestTemplate restTemplate = new RestTemplate();
+        this.server = MockRestServiceServer.createServer(restTemplate);
+        this.interServiceClient = new InterServiceClient(restTemplate, new SimpleMeterRegistry(),
+                Map.of(InterServiceClient.CLUSTER, "http://localhost:8082",
+                        InterServiceClient.REQUESTS, "http://localhost:8083"),
+                Runnable::run);
+        this.jwtTokenGenerator = mock(JwtTokenGenerator.class);
+        when(this.jwtTokenGenerator.generateToken(any())).thenReturn("systemToken");
+    }
+
+    @Test
+    public void allSubscribersAreToldTest() {
+        // Arrange
+        var service = new FacultyMembershipInvalidationService(this.interServiceClient, this.jwtTokenGenerator,
+                "cluster, requests");
+        for (String subscriber : new String[] {CLUSTER, REQUESTS}) {
+            this.server.expect(once(), requestTo(subscriber))
+                    .andExpect(method(HttpMethod.POST))
+                    .andExpect(header("Authorization", "Bearer systemToken"))
+                    .andExpect(content().json("{\"netId\": \"someUser\"}"))
+                    .andRespond(withSuccess());
+        }
+
+        // Act
+        service.invalidate(new NetId("someUser"));
+
+        // Assert
+        this.server.verify();
+    }
+
+    @Test
+    public void unreachableSubscriberDoesNotStopOthersTest() {
+        // Arrange
+        var service = new FacultyMembershipInvalidationService(this.interServiceClient, this.jwtTokenGenerator,
+                "cluster,requests");
+        this.server.expect(once(), requestTo(CLUSTER)).andRespond(withServerError());
+        this.server.expect(once(), requestTo(REQUESTS)).andRespond(withSuccess());
+
+        // Act
+        service.invalidate(new NetId("someUser"));
+
+        // Assert
+        this.server.verify();
+    }
+
+    @Test
+    public void noSubscribersTest() {
+        // Arrange
+        var service = new FacultyMembershipInvalidationService(this.interServiceClient, this.jwtTokenGenerator,
+                "");
+        this.server.expect(never(), requestTo(CLUSTER));
+
+        // Act
+        service.invalidate(new NetId("someUser"));
+
+        // Assert
+        this.server.verify();
+    }
+}
@@ -0,0 +1,86 @@
+package nl.tudelft.sem.template.authentication.domain.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import nl.tudelft.sem.template.authentication.communicationdata.Notification;
+import nl.tudelft.sem.template.authentication.communicationdata.State;
+import nl.tudelft.sem.template.authentication.communicationdata.Type;
+import nl.tudelft.sem.template.authentication.services.NotificationPushService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public class NotificationPushServiceTests {
+
+    private MeterRegistry meterRegistry;
+    private NotificationPushService notificationPushService;
+
+    /**
+     * Set up a push service that delivers on the calling thread.
+     */
+    @BeforeEach
+    public void setup() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.notificationPushService = new NotificationPushService(this.meterRegistry, Runnable::run, 60_000);
+    }
+
+    private static Notification notificationFor(String netId, long id) {
+        Notification notification = new Notification(State.ACCEPTED, new Date(),
+                "mes", Type.JOB, netId, LocalDate.of(2022, 10, 2));
+        notification.setId(id);
+        return notification;
+    }
+
+    private long deliveries() {
+        return this.meterRegistry.get("notifications.push.delivery.lag").timer().count();
+    }
+
+    @Test
+    public void connectionsAreCountedTest() {
+        this.notificationPushService.subscribe("user1");
+        this.notificationPushService.subscribe("user1");
+        this.notificationPushService.subscribe("user2");
+
+        assertThat(this.notificationPushService.getConnectionCount()).isEqualTo(3);
+        assertThat(this.meterRegistry.get("notifications.push.connections").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    public void notificationsAreOnlyPushedToTheirUserTest() {
+        this.notificationPushService.subscribe("user1");
+        this.notificationPushService.subscribe("user1");
+        this.notificationPushService.subscribe("user2");
+
+        this.notificationPushService.publish(List.of(notificationFor("user1", 1), notificationFor("user3", 2)));
+
+        // one notification, sent to both connections of user1
+        assertThat(deliveries()).isEqualTo(2);
+    }
+
+    @Test
+    public void nothingIsPushedWithoutConnectionsTest() {
+        this.notificationPushService.publish(List.of(notificationFor("user1", 1)));
+
+        assertThat(deliveries()).isEqualTo(0);
+    }
+
+    @Test
+    public void closedConnectionsAreRemovedTest() {
+        SseEmitter closed = this.notificationPushService.subscribe("user1");
+        this.notificationPushService.subscribe("user1");
+        closed.complete();
+
+        this.notificationPushService.publish(List.of(notificationFor("user1", 1)));
+
+        assertThat(deliveries()).isEqualTo(1);
+        assertThat(this.notificationPushService.getConnectionCount()).isEqualTo(1);
+
+        this.notificationPushService.heartbeat();
+        assertThat(this.notificationPushService.getConnectionCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,126 @@
+package nl.tudelft.sem.template.authentication.domain.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import nl.tudelft.sem.template.authentication.communicationdata.Notification;
+import nl.tudelft.sem.template.authentication.communicationdata.NotificationSummary;
+import nl.tudelft.sem.template.authentication.communicationdata.State;
+import nl.tudelft.sem.template.authentication.communicationdata.Type;
+import nl.tudelft.sem.template.authentication.domain.providers.TimeProvider;
+import nl.tudelft.sem.template.authentication.services.NotificationRetentionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles({"test"})
+public class NotificationRetentionServiceTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2022, 12, 31);
+
+    @Autowired
+    private transient NotificationRepository notificationRepository;
+
+    @Autowired
+    private transient NotificationSummaryRepository notificationSummaryRepository;
+
+    @Autowired
+    private transient PlatformTransactionManager transactionManager;
+
+    private TimeProvider timeProvider;
+
+    /**
+     * Set up the tests at the end of 2022.
+     */
+    @BeforeEach
+    public void setup() {
+        this.notificationRepository.deleteAll();
+        this.notificationSummaryRepository.deleteAll();
+        this.timeProvider = mock(TimeProvider.class);
+        when(this.timeProvider.getCurrentTime()).thenReturn(TODAY.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private NotificationRetentionService retentionService(int chunkSize, boolean summarize) {
+        return new NotificationRetentionService(this.notificationRepository, this.notificationSummaryRepository,
+                this.transactionManager, this.timeProvider, 0, "JOB.STARTED=30, JOB.COMPLETED=90", chunkSize,
+                summarize);
+    }
+
+    private void store(String netId, Type type, State state, int daysAgo) {
+        this.notificationRepository.save(new Notification(state, new Date(), "mes", type, netId,
+                TODAY.minusDays(daysAgo)));
+    }
+
+    @Test
+    public void expiredNotificationsAreDeletedTest() {
+        store("user1", Type.JOB, State.STARTED, 31);
+        store("user1", Type.JOB, State.STARTED, 30);
+        store("user1", Type.JOB, State.COMPLETED, 31);
+        store("user1", Type.JOB, State.COMPLETED, 91);
+        store("user1", Type.REQUEST, State.ACCEPTED, 1000);
+
+        assertThat(retentionService(1000, false).deleteExpiredNotifications()).isEqualTo(2);
+
+        // notifications on the last day of their retention period, and those kept forever, remain
+        assertThat(this.notificationRepository.findByNetId("user1"))
+                .extracting(Notification::getStateOfStatus, Notification::getTimeReceived)
+                .containsExactlyInAnyOrder(
+                        tuple(State.STARTED, TODAY.minusDays(30)),
+                        tuple(State.COMPLETED, TODAY.minusDays(31)),
+                        tuple(State.ACCEPTED, TODAY.minusDays(1000)));
+        assertThat(this.notificationSummaryRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    public void expiredNotificationsAreSummarizedInChunksTest() {
+        for (int i = 0; i < 5; ++i) {
+            store("user1", Type.JOB, State.STARTED, 40);
+        }
+        store("user1", Type.JOB, State.STARTED, 41);
+        store("user2", Type.JOB, State.STARTED, 40);
+        store("user2", Type.JOB, State.COMPLETED, 100);
+
+        var retentionService = retentionService(2, true);
+        assertThat(retentionService.deleteExpiredNotifications()).isEqualTo(8);
+        assertThat(this.notificationRepository.findAll()).isEmpty();
+
+        assertThat(retentionService.getSummaries("user1"))
+                .extracting(NotificationSummary::getTimeReceived, NotificationSummary::getNumberOfNotifications)
+                .containsExactly(
+                        tuple(TODAY.minusDays(40), 5L),
+                        tuple(TODAY.minusDays(41), 1L));
+        assertThat(retentionService.getSummaries("user2"))
+                .extracting(NotificationSummary::getStateOfStatus, NotificationSummary::getNumberOfNotifications)
+                .containsExactlyInAnyOrder(
+                        tuple(State.STARTED, 1L),
+                        tuple(State.COMPLETED, 1L));
+    }
+
+    @Test
+    public void invalidRetentionPeriodTest() {
+        assertThatThrownBy(() -> new NotificationRetentionService(this.notificationRepository,
+                this.notificationSummaryRepository, this.transactionManager, this.timeProvider, 0, "JOB.LOST=3", 10,
+                true)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void nothingExpiresWithoutRetentionPeriodTest() {
+        store("user1", Type.REQUEST, State.REJECTED, 10000);
+
+        assertThat(retentionService(10, true).deleteExpiredNotifications()).isEqualTo(0);
+        assertThat(this.notificationRepository.findAll()).hasSize(1);
+    }
+}
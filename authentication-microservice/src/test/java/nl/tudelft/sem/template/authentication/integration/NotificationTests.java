@@ -1,16 +1,18 @@
 package nl.tudelft.sem.template.authentication.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -19,11 +21,16 @@ import nl.tudelft.sem.template.authentication.authtemp.AuthManager;
 import nl.tudelft.sem.template.authentication.communicationdata.Notification;
 import nl.tudelft.sem.template.authentication.communicationdata.State;
 import nl.tudelft.sem.template.authentication.communicationdata.Type;
+import nl.tudelft.sem.template.authentication.controllers.NotificationController;
 import nl.tudelft.sem.template.authentication.integration.utils.JsonUtil;
 import nl.tudelft.sem.template.authentication.models.DeleteNotificationRequestModel;
 import nl.tudelft.sem.template.authentication.models.GetFacultyResponseModel;
 import nl.tudelft.sem.template.authentication.models.GetNotifactionsRequestModel;
+import nl.tudelft.sem.template.authentication.models.NotificationBatchResponseModel;
 import nl.tudelft.sem.template.authentication.models.NotificationRequestModel;
+import nl.tudelft.sem.template.authentication.models.NotificationStatusModel;
+import nl.tudelft.sem.template.authentication.profiles.MockTokenVerifierProfile;
+import nl.tudelft.sem.template.authentication.services.NotificationPushService;
 import nl.tudelft.sem.template.authentication.services.NotificationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,6 +59,9 @@ public class NotificationTests {
     @Autowired
     private transient NotificationService notificationService;
 
+    @Autowired
+    private transient NotificationPushService notificationPushService;
+
     @Autowired
     private transient AuthManager authManager;
 
@@ -65,9 +75,8 @@ public class NotificationTests {
      */
     @BeforeEach
     public void setupNotificationModel() {
-        when(mockJwtTokenVerifier.validateToken(anyString())).thenReturn(true);
-        when(mockJwtTokenVerifier.getNetIdFromToken("MockedToken")).thenReturn("goodUser");
-        when(mockJwtTokenVerifier.getRoleFromToken("MockedToken")).thenReturn("ROLE_SYSADMIN");
+        when(mockJwtTokenVerifier.getVerifiedClaims("MockedToken"))
+                .thenReturn(MockTokenVerifierProfile.mockClaims("goodUser", "ROLE_SYSADMIN"));
 
         this.notificationRequestModel = new NotificationRequestModel();
         this.notificationRequestModel.setDate("2003-04-29");
@@ -81,7 +90,6 @@ public class NotificationTests {
 
     @Test
     public void testValidNotification() throws Exception {
-        when(mockJwtTokenVerifier.validateToken(anyString())).thenReturn(true);
         ResultActions resultActions = mockMvc.perform(post("/notification")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(JsonUtil.serialize(notificationRequestModel))
@@ -116,6 +124,38 @@ public class NotificationTests {
         resultActions.andExpect(status().isBadRequest());
     }
 
+    @Test
+    public void testNotificationBatchSkipsInvalidNotifications() throws Exception {
+        NotificationRequestModel invalid = new NotificationRequestModel();
+        invalid.setDate("2003-04-29");
+        invalid.setMessage("message");
+        invalid.setType("NOTASERVICE");
+        invalid.setState("ACCEPTED");
+        invalid.setNetId("goodUser");
+
+        ResultActions resultActions = mockMvc.perform(post("/notifications/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(JsonUtil.serialize(List.of(notificationRequestModel, invalid, notificationRequestModel)))
+                .header("Authorization", "Bearer MockedToken"));
+
+        MvcResult result = resultActions
+                .andExpect(status().isOk())
+                .andReturn();
+
+        NotificationBatchResponseModel response = JsonUtil.deserialize(result.getResponse().getContentAsString(),
+                NotificationBatchResponseModel.class);
+        assertThat(response.getReceived()).isEqualTo(3);
+        assertThat(response.getStored()).isEqualTo(2);
+        assertThat(response.getStatuses()).extracting(NotificationStatusModel::isStored)
+                .containsExactly(true, false, true);
+        assertThat(response.getStatuses().get(1).getId()).isNull();
+        assertThat(response.getStatuses().get(1).getError()).contains("NOTASERVICE");
+
+        List<Notification> stored = notificationService.getNotifications("goodUser");
+        assertThat(stored).extracting(Notification::getId).containsExactlyInAnyOrder(
+                response.getStatuses().get(0).getId(), response.getStatuses().get(2).getId());
+    }
+
     @Test
     public void testNotificationService() {
         Notification notification = Notification.createNotification(notificationRequestModel);
@@ -157,7 +197,7 @@ public class NotificationTests {
                 .andExpect(status().isOk())
                 .andReturn();
 
-        ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
+        ObjectWriter ow = new ObjectMapper().writer();
         String expected = ow.writeValueAsString(notification1);
         assertThat(result.getResponse().getContentAsString().contains(expected)).isTrue();
     }
@@ -182,7 +222,7 @@ public class NotificationTests {
                 .andExpect(status().isOk())
                 .andReturn();
 
-        ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
+        ObjectWriter ow = new ObjectMapper().writer();
         String expected = ow.writeValueAsString(notification1);
         assertThat(result.getResponse().getContentAsString().contains(expected)).isTrue();
     }
@@ -206,7 +246,7 @@ public class NotificationTests {
                 .andExpect(status().isOk())
                 .andReturn();
 
-        ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
+        ObjectWriter ow = new ObjectMapper().writer();
         String expected = ow.writeValueAsString(notification1);
         assertThat(result.getResponse().getContentAsString().contains(expected)).isTrue();
     }
@@ -231,7 +271,7 @@ public class NotificationTests {
                 .andExpect(status().isOk())
                 .andReturn();
 
-        ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
+        ObjectWriter ow = new ObjectMapper().writer();
         String expected = ow.writeValueAsString(notification1);
         assertThat(result.getResponse().getContentAsString().contains(expected)).isFalse();
 
@@ -255,7 +295,7 @@ public class NotificationTests {
                 .andExpect(status().isOk())
                 .andReturn();
 
-        ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
+        ObjectWriter ow = new ObjectMapper().writer();
         String expected = ow.writeValueAsString(notification1);
         assertThat(result.getResponse().getContentAsString().contains(expected)).isTrue();
 
@@ -278,7 +318,7 @@ public class NotificationTests {
                 .andExpect(status().isOk())
                 .andReturn();
 
-        ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
+        ObjectWriter ow = new ObjectMapper().writer();
         String expected = ow.writeValueAsString(notification1);
         assertThat(result.getResponse().getContentAsString().contains(expected)).isTrue();
 
@@ -307,7 +347,7 @@ public class NotificationTests {
                 .andExpect(status().isOk())
                 .andReturn();
 
-        ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
+        ObjectWriter ow = new ObjectMapper().writer();
         String expected = ow.writeValueAsString(notification1);
         assertThat(result.getResponse().getContentAsString().contains(expected)).isTrue();
 
@@ -335,7 +375,7 @@ public class NotificationTests {
                 .andExpect(status().isOk())
                 .andReturn();
 
-        ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
+        ObjectWriter ow = new ObjectMapper().writer();
         String expected = ow.writeValueAsString(notification1);
         String expected2 = ow.writeValueAsString(notification2);
         assertThat(result.getResponse().getContentAsString().contains(expected)).isTrue();
@@ -365,7 +405,7 @@ public class NotificationTests {
                 .andExpect(status().isOk())
                 .andReturn();
 
-        ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
+        ObjectWriter ow = new ObjectMapper().writer();
         String expected = ow.writeValueAsString(notification1);
         String expected2 = ow.writeValueAsString(notification2);
         assertThat(result.getResponse().getContentAsString().contains(expected)).isTrue();
@@ -391,7 +431,7 @@ public class NotificationTests {
                 .andExpect(status().isOk())
                 .andReturn();
 
-        ObjectWriter ow = new ObjectMapper().writer().withDefaultPrettyPrinter();
+        ObjectWriter ow = new ObjectMapper().writer();
         String expected = ow.writeValueAsString(notification1);
         String expected2 = ow.writeValueAsString(notification2);
         assertThat(result.getResponse().getContentAsString().contains(expected)).isTrue();
@@ -399,6 +439,67 @@ public class NotificationTests {
 
     }
 
+    @Test
+    public void testGetNotificationPages() throws Exception {
+        when(authManager.getNetId()).thenReturn("user1");
+        List<LocalDate> days = List.of(LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 4),
+                LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3), LocalDate.of(2022, 10, 4));
+        List<Notification> notifications = new ArrayList<>();
+        for (LocalDate day : days) {
+            notifications.add(new Notification(State.ACCEPTED, new Date(2023, 02, 1), "mes", Type.JOB, "user1", day));
+        }
+        notificationService.addNotifications(notifications);
+        notificationService.addNotification(new Notification(State.ACCEPTED, new Date(2023, 02, 1),
+                "mes", Type.JOB, "user2", LocalDate.of(2022, 10, 3)));
+
+        List<Long> received = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/getNotification").param("limit", "2")
+                    .header("Authorization", "Bearer MockedToken");
+            if (cursor != null) {
+                request = request.param("cursor", cursor);
+            }
+            MvcResult result = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            JsonNode page = new ObjectMapper().readTree(result.getResponse().getContentAsString());
+            pageSizes.add(page.size());
+            page.forEach(x -> received.add(x.get("id").asLong()));
+            cursor = result.getResponse().getHeader(NotificationController.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+
+        // most recently received first, the most recently stored first on the same day
+        List<Long> expected = List.of(notifications.get(4).getId(), notifications.get(1).getId(),
+                notifications.get(3).getId(), notifications.get(2).getId(), notifications.get(0).getId());
+        assertThat(received).containsExactlyElementsOf(expected);
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    public void testGetNotificationInvalidCursor() throws Exception {
+        when(authManager.getNetId()).thenReturn("user1");
+
+        ResultActions resultActions = mockMvc.perform(get("/getNotification")
+                .param("cursor", "yesterday")
+                .header("Authorization", "Bearer MockedToken"));
+
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testNotificationStreamIsAsynchronous() throws Exception {
+        when(authManager.getNetId()).thenReturn("user1");
+
+        ResultActions resultActions = mockMvc.perform(get("/notifications/stream")
+                .header("Authorization", "Bearer MockedToken"));
+
+        resultActions.andExpect(request().asyncStarted());
+        assertThat(notificationPushService.getConnectionCount()).isEqualTo(1);
+    }
+
     @Test
     public void deleteNotificationTestWithCorrectData() throws Exception {
         when(authManager.getNetId()).thenReturn("user1");
@@ -2,7 +2,6 @@ package nl.tudelft.sem.template.authentication.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -28,6 +27,7 @@ import nl.tudelft.sem.template.authentication.models.AuthenticationResponseModel
 import nl.tudelft.sem.template.authentication.models.GetFacultyRequestModel;
 import nl.tudelft.sem.template.authentication.models.GetFacultyResponseModel;
 import nl.tudelft.sem.template.authentication.models.RegistrationRequestModel;
+import nl.tudelft.sem.template.authentication.profiles.MockTokenVerifierProfile;
 import nl.tudelft.sem.template.authentication.services.PasswordHashingService;
 import nl.tudelft.sem.template.authentication.services.RegistrationService;
 import nl.tudelft.sem.template.authentication.services.RoleControlService;
@@ -88,9 +88,10 @@ public class UsersTests {
         this.roleControlService.save(new Role("FACULTY"));
         this.roleControlService.save(new Role("SYSADMIN"));
         this.roleControlService.save(new Role("SYSTEM"));
-        when(mockJwtTokenVerifier.validateToken(anyString())).thenReturn(true);
+        when(mockJwtTokenVerifier.getVerifiedClaims("MockedToken"))
+                .thenReturn(MockTokenVerifierProfile.mockClaims("SomeUser", "USER"));
+        // the faculties endpoint reads the user from the token in its body
         when(mockJwtTokenVerifier.getNetIdFromToken("MockedToken")).thenReturn("SomeUser");
-        when(mockJwtTokenVerifier.getRoleFromToken("MockedToken")).thenReturn("USER");
     }
 
     @Test
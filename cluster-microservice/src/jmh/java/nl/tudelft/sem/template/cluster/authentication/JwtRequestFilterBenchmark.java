@@ -0,0 +1,78 @@
+package nl.tudelft.sem.template.cluster.authentication;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Measures the cost of authenticating a request of a user who sent requests before, with the cache of verified tokens
+ * disabled (a cache size of 0, which verifies the signature of the token on every claim read) and enabled.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtRequestFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecret";
+
+    @Param({"0", "10000"})
+    private int cacheMaxSize;
+
+    private JwtRequestFilter jwtRequestFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    /**
+     * Creates the filter and a request carrying a token like the users microservice issues them.
+     */
+    @Setup
+    public void setup() throws NoSuchFieldException, IllegalAccessException {
+        JwtTokenVerifier jwtTokenVerifier = new JwtTokenVerifier();
+        inject(jwtTokenVerifier, "jwtSecret", SECRET);
+        inject(jwtTokenVerifier, "cacheMaxSize", this.cacheMaxSize);
+        this.jwtRequestFilter = new JwtRequestFilter(jwtTokenVerifier);
+
+        long now = System.currentTimeMillis();
+        String token = Jwts.builder().setSubject("benchmarkUser")
+                .claim("roles", "ROLE_FACULTY")
+                .claim(JwtTokenVerifier.FACULTIES_KEY, "EWI,IO")
+                .claim(JwtTokenVerifier.FACULTIES_VALID_UNTIL_KEY, now + 15 * 60 * 1000)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 24 * 60 * 60 * 1000))
+                .signWith(SignatureAlgorithm.HS512, SECRET).compact();
+
+        this.request = new MockHttpServletRequest();
+        this.request.addHeader(JwtRequestFilter.AUTHORIZATION_HEADER, "Bearer " + token);
+        this.response = new MockHttpServletResponse();
+    }
+
+    private static void inject(JwtTokenVerifier jwtTokenVerifier, String field, Object value)
+            throws NoSuchFieldException, IllegalAccessException {
+        Field declaredField = JwtTokenVerifier.class.getDeclaredField(field);
+        declaredField.setAccessible(true);
+        declaredField.set(jwtTokenVerifier, value);
+    }
+
+    /**
+     * Authenticates the request, as happens before every request reaches a controller.
+     */
+    @Benchmark
+    public void authenticateRequest(Blackhole blackhole) throws ServletException, IOException {
+        this.jwtRequestFilter.doFilterInternal(this.request, this.response,
+                (req, res) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication()));
+        SecurityContextHolder.clearContext();
+    }
+}
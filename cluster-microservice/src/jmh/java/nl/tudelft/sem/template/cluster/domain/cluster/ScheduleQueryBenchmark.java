@@ -0,0 +1,144 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the queries of the schedule repository on an H2 schedule table holding 1M jobs, spread over 8 faculties,
+ * 1000 days and 10000 users, with the primary key only (as before the indexes were declared on Job) and with the
+ * indexes declared on Job. The table and the queries are those Hibernate and Spring Data generate.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleQueryBenchmark {
+
+    private static final int JOBS = 1_000_000;
+    private static final int FACULTIES = 8;
+    private static final int DAYS = 1000;
+    private static final int USERS = 10_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private Connection connection;
+    private PreparedStatement existsByScheduledFor;
+    private PreparedStatement findByFacultyId;
+    private PreparedStatement findByFacultyIdAndScheduledForIn;
+    private PreparedStatement findByUserNetId;
+    private PreparedStatement findResourcesRequiredForEachDay;
+    private PreparedStatement findMaximumDate;
+
+    private int iteration;
+
+    /**
+     * Creates and fills the schedule table, then creates the indexes if requested.
+     */
+    @Setup
+    public void setup() throws SQLException {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:schedule_" + this.indexed);
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("CREATE TABLE schedule (id BIGINT PRIMARY KEY, faculty_id VARCHAR(255) NOT NULL,"
+                    + " user_net_id VARCHAR(255) NOT NULL, job_name VARCHAR(255) NOT NULL,"
+                    + " job_description VARCHAR(255) NOT NULL, requiredcpu DOUBLE NOT NULL, requiredgpu DOUBLE NOT NULL,"
+                    + " required_memory DOUBLE NOT NULL, preferred_completion_date DATE NOT NULL,"
+                    + " scheduled_for DATE NOT NULL)");
+            statement.execute("INSERT INTO schedule SELECT x, 'F' || MOD(x, " + FACULTIES + "),"
+                    + " 'user' || MOD(x, " + USERS + "), 'job', 'desc', MOD(x, 7) + 1, MOD(x, 3) + 1, MOD(x, 5) + 1,"
+                    + " DATEADD('DAY', MOD(x, " + DAYS + "), DATE '" + FIRST_DAY + "'),"
+                    + " DATEADD('DAY', MOD(x, " + DAYS + "), DATE '" + FIRST_DAY + "')"
+                    + " FROM SYSTEM_RANGE(1, " + JOBS + ")");
+            if (this.indexed) {
+                statement.execute("CREATE INDEX idx_schedule_scheduled_for ON schedule (scheduled_for)");
+                statement.execute("CREATE INDEX idx_schedule_faculty_id_scheduled_for"
+                        + " ON schedule (faculty_id, scheduled_for)");
+                statement.execute("CREATE INDEX idx_schedule_user_net_id ON schedule (user_net_id)");
+            }
+            statement.execute("ANALYZE");
+        }
+        String columns = "SELECT s.id, s.faculty_id, s.user_net_id, s.job_name, s.job_description, s.requiredcpu,"
+                + " s.requiredgpu, s.required_memory, s.preferred_completion_date, s.scheduled_for FROM schedule s";
+        this.existsByScheduledFor = this.connection.prepareStatement(
+                "SELECT s.id FROM schedule s WHERE s.scheduled_for = ? LIMIT 1");
+        this.findByFacultyId = this.connection.prepareStatement(columns + " WHERE s.faculty_id = ?");
+        this.findByFacultyIdAndScheduledForIn = this.connection.prepareStatement(
+                columns + " WHERE s.faculty_id = ? AND s.scheduled_for IN (?, ?, ?)");
+        this.findByUserNetId = this.connection.prepareStatement(columns + " WHERE s.user_net_id = ?");
+        this.findResourcesRequiredForEachDay = this.connection.prepareStatement("SELECT s.faculty_id,"
+                + " s.scheduled_for, SUM(s.requiredcpu), SUM(s.requiredgpu), SUM(s.required_memory)"
+                + " FROM schedule s GROUP BY s.faculty_id, s.scheduled_for");
+        this.findMaximumDate = this.connection.prepareStatement("SELECT max(s.scheduled_for) FROM schedule s");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        this.connection.close();
+    }
+
+    @Benchmark
+    public void existsByScheduledFor(Blackhole blackhole) throws SQLException {
+        // alternate between a day with jobs and one without
+        this.existsByScheduledFor.setDate(1, day(this.iteration++ % (2 * DAYS)));
+        consume(this.existsByScheduledFor, blackhole);
+    }
+
+    @Benchmark
+    public void findByFacultyId(Blackhole blackhole) throws SQLException {
+        this.findByFacultyId.setString(1, "F" + this.iteration++ % FACULTIES);
+        consume(this.findByFacultyId, blackhole);
+    }
+
+    @Benchmark
+    public void findByFacultyIdAndScheduledForIn(Blackhole blackhole) throws SQLException {
+        int day = this.iteration++ % DAYS;
+        this.findByFacultyIdAndScheduledForIn.setString(1, "F" + day % FACULTIES);
+        this.findByFacultyIdAndScheduledForIn.setDate(2, day(day));
+        this.findByFacultyIdAndScheduledForIn.setDate(3, day(day + 1));
+        this.findByFacultyIdAndScheduledForIn.setDate(4, day(day + 2));
+        consume(this.findByFacultyIdAndScheduledForIn, blackhole);
+    }
+
+    @Benchmark
+    public void findByUserNetId(Blackhole blackhole) throws SQLException {
+        this.findByUserNetId.setString(1, "user" + this.iteration++ % USERS);
+        consume(this.findByUserNetId, blackhole);
+    }
+
+    @Benchmark
+    public void findResourcesRequiredForEachDay(Blackhole blackhole) throws SQLException {
+        consume(this.findResourcesRequiredForEachDay, blackhole);
+    }
+
+    @Benchmark
+    public void findMaximumDate(Blackhole blackhole) throws SQLException {
+        consume(this.findMaximumDate, blackhole);
+    }
+
+    private static Date day(int index) {
+        return Date.valueOf(FIRST_DAY.plusDays(index));
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getObject(1));
+                blackhole.consume(resultSet.getObject(2));
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package nl.tudelft.sem.template.cluster.domain.services;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import nl.tudelft.sem.template.cluster.domain.builders.JobBuilder;
+import nl.tudelft.sem.template.cluster.domain.builders.NodeBuilder;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.Node;
+import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
+import nl.tudelft.sem.template.cluster.models.FacultyDatedResourcesResponseModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the latency of the four variants of /resources/available for schedules spanning an increasing number of
+ * days, comparing the dedicated paths for a single day and/or faculty with filtering the result for all faculties and
+ * all days, as the endpoint used to. The calendar is filled directly, so no database is involved.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailableResourcesBenchmark {
+
+    private static final List<String> FACULTIES = List.of("3ME", "AE", "ABE", "CEG", "EEMCS", "IDE", "TNW", "TPM");
+    private static final int JOBS_PER_FACULTY_PER_DAY = 4;
+
+    @Param({"30", "365", "1825"})
+    private int days;
+
+    private SchedulingDataProcessingService schedulingDataProcessingService;
+    private LocalDate date;
+    private String faculty;
+
+    /**
+     * Fills the capacity calendar with a node and some jobs for each faculty on each day of the schedule.
+     */
+    @Setup
+    public void setup() throws NoSuchFieldException, IllegalAccessException {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        DateProvider dateProvider = new DateProvider() {
+            @Override
+            public LocalDate getCurrentDate() {
+                return tomorrow.minusDays(1);
+            }
+
+            @Override
+            public LocalDate getTomorrow() {
+                return tomorrow;
+            }
+        };
+        CapacityCalendarService capacityCalendarService = new CapacityCalendarService(null, null, null);
+        Field nodeId = Node.class.getDeclaredField("id");
+        nodeId.setAccessible(true);
+        long id = 0;
+        for (String facultyId : FACULTIES) {
+            Node node = new NodeBuilder().setNodeCpuResourceCapacityTo(1000.0).setNodeGpuResourceCapacityTo(1000.0)
+                    .setNodeMemoryResourceCapacityTo(1000.0).withNodeName("node").foundAtUrl("/" + facultyId)
+                    .byUserWithNetId("benchmark").assignToFacultyWithId(facultyId).constructNodeInstance();
+            nodeId.set(node, ++id);
+            capacityCalendarService.nodeSaved(node);
+            for (int day = 0; day < this.days; day++) {
+                for (int i = 0; i < JOBS_PER_FACULTY_PER_DAY; i++) {
+                    Job job = new JobBuilder().preferredCompletedBeforeDate(tomorrow.plusDays(day))
+                            .needingCpuResources(1.0 + i).needingGpuResources(1.0).needingMemoryResources(1.0)
+                            .withDescription("desc").havingName("job").requestedByUserWithNetId("benchmark")
+                            .requestedThroughFaculty(facultyId).constructJobInstance();
+                    job.setId(++id);
+                    job.setScheduledFor(tomorrow.plusDays(day));
+                    capacityCalendarService.jobSaved(job);
+                }
+            }
+        }
+        this.schedulingDataProcessingService = new SchedulingDataProcessingService(null, null, dateProvider,
+                capacityCalendarService, null);
+        this.date = tomorrow.plusDays(this.days / 2);
+        this.faculty = FACULTIES.get(FACULTIES.size() / 2);
+    }
+
+    @Benchmark
+    public List<FacultyDatedResourcesResponseModel> allFacultiesAllDays() {
+        return this.schedulingDataProcessingService.getAvailableResourcesForAllFacultiesForAllDays();
+    }
+
+    @Benchmark
+    public List<FacultyDatedResourcesResponseModel> givenDayAllFaculties() {
+        return this.schedulingDataProcessingService.getAvailableResourcesForAllFacultiesForGivenDay(this.date);
+    }
+
+    @Benchmark
+    public List<FacultyDatedResourcesResponseModel> givenDayAllFacultiesFiltered() {
+        return this.allFacultiesAllDays().stream()
+                .filter(x -> x.getDate().isEqual(this.date)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<FacultyDatedResourcesResponseModel> givenFacultyAllDays() {
+        return this.schedulingDataProcessingService.getAvailableResourcesForGivenFacultyForAllDays(this.faculty);
+    }
+
+    @Benchmark
+    public List<FacultyDatedResourcesResponseModel> givenFacultyAllDaysFiltered() {
+        return this.allFacultiesAllDays().stream()
+                .filter(x -> x.getFacultyId().equals(this.faculty)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<FacultyDatedResourcesResponseModel> givenDayGivenFaculty() {
+        return this.schedulingDataProcessingService.getAvailableResourcesForGivenFacultyForGivenDay(this.date,
+                this.faculty);
+    }
+
+    @Benchmark
+    public List<FacultyDatedResourcesResponseModel> givenDayGivenFacultyFiltered() {
+        return this.allFacultiesAllDays().stream()
+                .filter(x -> x.getDate().isEqual(this.date))
+                .filter(x -> x.getFacultyId().equals(this.faculty))
+                .collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,5 @@
 package nl.tudelft.sem.template.cluster.application.cluster;
 
-import java.util.stream.Collectors;
 import nl.tudelft.sem.template.cluster.domain.cluster.Node;
 import nl.tudelft.sem.template.cluster.domain.events.NodesWereRemovedEvent;
 import nl.tudelft.sem.template.cluster.domain.services.JobReschedulingService;
@@ -33,8 +32,9 @@ public class NodesWereRemovedEventListener implements ApplicationListener<NodesW
         for (Node node : event.getNodesRemovedFromCluster()) {
             System.out.println(node.getUrl() + " was removed from the cluster.");
         }
-        var faculties = event.getNodesRemovedFromCluster().stream()
-                .map(x -> x.getFacultyId()).distinct().collect(Collectors.toList());
-        this.jobReschedulingService.rescheduleJobsForFacultiesWithRemovedNodes(faculties);
+        var report = this.jobReschedulingService.rescheduleJobsAfterNodesWereRemoved(event.getNodesRemovedFromCluster());
+        System.out.println(report.getStrategy() + " moved " + report.getJobsMoved() + " jobs (volume "
+                + report.getVolumeMoved() + "), evicting the largest jobs first would have moved "
+                + report.getGreedyJobsMoved() + " jobs (volume " + report.getGreedyVolumeMoved() + ").");
     }
 }
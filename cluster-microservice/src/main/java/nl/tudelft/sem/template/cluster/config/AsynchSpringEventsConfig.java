@@ -1,24 +1,74 @@
 package nl.tudelft.sem.template.cluster.config;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.context.event.SimpleApplicationEventMulticaster;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @Configuration
 public class AsynchSpringEventsConfig {
+
+    /**
+     * Creates the executor on which the listeners of application events run.
+     *
+     * @param parallelism the number of events handled at the same time.
+     * @param queueCapacity the number of events that can wait for a worker.
+     * @param rejectionPolicy what to do with events that arrive when the queue is full.
+     * @param useVirtualThreads whether to run each event on a virtual thread, if the JDK supports it.
+     *
+     * @return the event dispatch executor
+     */
+    @Bean
+    public EventDispatchExecutor eventDispatchExecutor(
+            @Value("${events.executor.parallelism:8}") int parallelism,
+            @Value("${events.executor.queueCapacity:10000}") int queueCapacity,
+            @Value("${events.executor.rejectionPolicy:CALLER_RUNS}")
+                    EventDispatchExecutor.RejectionPolicy rejectionPolicy,
+            @Value("${events.executor.virtualThreads:false}") boolean useVirtualThreads) {
+        return new EventDispatchExecutor(parallelism, queueCapacity, rejectionPolicy, useVirtualThreads);
+    }
+
     /**
      * Constructing Bean. Allow us to asynchronously handle our events.
      *
+     * @param eventDispatchExecutor the executor on which the listeners run
+     *
      * @return the application event multicaster
      */
     @Bean(name = "applicationEventMulticaster")
-    public ApplicationEventMulticaster simpleApplicationEventMulticaster() {
+    public ApplicationEventMulticaster simpleApplicationEventMulticaster(EventDispatchExecutor eventDispatchExecutor) {
         SimpleApplicationEventMulticaster eventMulticaster =
             new SimpleApplicationEventMulticaster();
 
-        eventMulticaster.setTaskExecutor(new SimpleAsyncTaskExecutor());
+        eventMulticaster.setTaskExecutor(eventDispatchExecutor);
         return eventMulticaster;
     }
+
+    /**
+     * Publishes the queue depth, the number of active workers and the number of rejected events of the event
+     * dispatch executor as metrics.
+     *
+     * @param eventDispatchExecutor the executor to measure
+     *
+     * @return the binder registering the metrics
+     */
+    @Bean
+    public MeterBinder eventDispatchExecutorMetrics(EventDispatchExecutor eventDispatchExecutor) {
+        return registry -> {
+            Gauge.builder("events.executor.queue.depth", eventDispatchExecutor, EventDispatchExecutor::getQueueDepth)
+                    .description("Application events waiting for a worker")
+                    .register(registry);
+            Gauge.builder("events.executor.active", eventDispatchExecutor, EventDispatchExecutor::getActiveWorkers)
+                    .description("Workers currently handling an application event")
+                    .register(registry);
+            FunctionCounter.builder("events.executor.rejections", eventDispatchExecutor,
+                            EventDispatchExecutor::getRejectionCount)
+                    .description("Application events that arrived while the queue was full")
+                    .register(registry);
+        };
+    }
 }
@@ -0,0 +1,213 @@
+package nl.tudelft.sem.template.cluster.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Runs the listeners of application events on a bounded number of workers. Events that arrive while all workers are
+ * busy wait in a bounded queue; once that is full as well, the rejection policy decides what happens to the event.
+ * The workers are either a fixed pool of platform threads or, when requested and supported by the JDK, one virtual
+ * thread per event, of which only as many run at once as there are workers.
+ */
+public class EventDispatchExecutor implements TaskExecutor, DisposableBean {
+
+    /**
+     * What happens to an event when all workers are busy and the queue is full.
+     */
+    public enum RejectionPolicy {
+        /**
+         * The publishing thread runs the listener itself, which slows down the publisher.
+         */
+        CALLER_RUNS,
+        /**
+         * The publishing thread gets a RejectedExecutionException.
+         */
+        ABORT,
+        /**
+         * The event is dropped.
+         */
+        DISCARD
+    }
+
+    private final transient int parallelism;
+    private final transient RejectionPolicy rejectionPolicy;
+
+    /**
+     * The pool of platform threads, or the executor starting a virtual thread per event.
+     */
+    private final transient ExecutorService executor;
+    private final transient boolean virtualThreads;
+
+    /**
+     * Limit the events waiting or running, and the events running, when running on virtual threads.
+     */
+    private final transient Semaphore slots;
+    private final transient Semaphore workers;
+
+    private final transient AtomicInteger submitted = new AtomicInteger();
+    private final transient AtomicInteger active = new AtomicInteger();
+    private final transient AtomicLong rejections = new AtomicLong();
+
+    /**
+     * Creates the executor and starts its workers.
+     *
+     * @param parallelism the number of events handled at the same time.
+     * @param queueCapacity the number of events that can wait for a worker.
+     * @param rejectionPolicy what to do with events that arrive when the queue is full.
+     * @param useVirtualThreads whether to run each event on a virtual thread, if the JDK supports it.
+     */
+    public EventDispatchExecutor(int parallelism, int queueCapacity, RejectionPolicy rejectionPolicy,
+                                 boolean useVirtualThreads) {
+        this.parallelism = parallelism;
+        this.rejectionPolicy = rejectionPolicy;
+
+        ExecutorService virtualThreadExecutor = useVirtualThreads ? newVirtualThreadExecutor() : null;
+        if (useVirtualThreads && virtualThreadExecutor == null) {
+            System.out.println("Virtual threads are not supported by this JDK, events are handled on a thread pool.");
+        }
+        this.virtualThreads = virtualThreadExecutor != null;
+        if (this.virtualThreads) {
+            this.executor = virtualThreadExecutor;
+            this.slots = new Semaphore(parallelism + queueCapacity);
+            this.workers = new Semaphore(parallelism);
+        } else {
+            RejectedExecutionHandler countingHandler = (task, pool) -> {
+                if (!this.reject(task)) {
+                    // the task will never run and so never leave the queue on its own
+                    this.submitted.decrementAndGet();
+                }
+            };
+            this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("event-dispatch-"),
+                    countingHandler);
+            this.slots = null;
+            this.workers = null;
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (this.virtualThreads && !this.slots.tryAcquire()) {
+            this.reject(task);
+            return;
+        }
+        this.submitted.incrementAndGet();
+        try {
+            this.executor.execute(() -> this.runAsWorker(task));
+        } catch (RejectedExecutionException e) {
+            // thrown by the abort policy, or because the executor has been shut down
+            this.submitted.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void runAsWorker(Runnable task) {
+        boolean acquired = false;
+        try {
+            if (this.virtualThreads) {
+                this.workers.acquireUninterruptibly();
+                acquired = true;
+            }
+            this.active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                this.active.decrementAndGet();
+            }
+        } finally {
+            this.submitted.decrementAndGet();
+            if (acquired) {
+                this.workers.release();
+            }
+            if (this.virtualThreads) {
+                this.slots.release();
+            }
+        }
+    }
+
+    /**
+     * Counts a rejected event and handles it according to the rejection policy.
+     *
+     * @return whether the task was run.
+     */
+    private boolean reject(Runnable task) {
+        this.rejections.incrementAndGet();
+        switch (this.rejectionPolicy) {
+            case CALLER_RUNS:
+                task.run();
+                return true;
+            case ABORT:
+                throw new RejectedExecutionException("The event queue is full.");
+            default:
+                return false;
+        }
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    public boolean isUsingVirtualThreads() {
+        return this.virtualThreads;
+    }
+
+    /**
+     * Returns the number of events waiting for a worker.
+     *
+     * @return the current queue depth.
+     */
+    public int getQueueDepth() {
+        return Math.max(0, this.submitted.get() - this.active.get());
+    }
+
+    /**
+     * Returns the number of workers currently handling an event.
+     *
+     * @return the number of active workers.
+     */
+    public int getActiveWorkers() {
+        return this.active.get();
+    }
+
+    /**
+     * Returns how many events arrived while the queue was full, over the lifetime of this executor.
+     *
+     * @return the number of rejected events.
+     */
+    public long getRejectionCount() {
+        return this.rejections.get();
+    }
+
+    /**
+     * Stops accepting events and waits briefly for the queued ones to be handled.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        this.executor.shutdown();
+        this.executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Looks up Executors.newVirtualThreadPerTaskExecutor, which only exists on recent JDKs.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package nl.tudelft.sem.template.cluster.config;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks at startup that H2 plans the lookups of the schedule and node repositories with the indexes declared on the
+ * Job and Node entities, rather than scanning the tables. Lookups that would scan are reported, and fail the startup
+ * if so configured.
+ */
+@Component
+public class QueryPlanVerifier implements ApplicationRunner {
+
+    private final transient JdbcTemplate jdbcTemplate;
+    private final transient boolean failOnMissingIndex;
+
+    /**
+     * The lookups of the repositories, with the index each should use. Parameters are bound as in the repositories.
+     */
+    private final transient List<Lookup> lookups = List.of(
+            new Lookup("JobScheduleRepository.existsByScheduledFor",
+                    "SELECT s.id FROM schedule s WHERE s.scheduled_for = ? LIMIT 1",
+                    "idx_schedule_scheduled_for", LocalDate.of(2000, 1, 1)),
+            new Lookup("JobScheduleRepository.findByFacultyId",
+                    "SELECT s.id FROM schedule s WHERE s.faculty_id = ?",
+                    "idx_schedule_faculty_id_scheduled_for", "EWI"),
+            new Lookup("JobScheduleRepository.findByUserNetId",
+                    "SELECT s.id FROM schedule s WHERE s.user_net_id = ?",
+                    "idx_schedule_user_net_id", "netId"),
+            new Lookup("NodeRepository.findByUrl",
+                    "SELECT n.id FROM nodes n WHERE n.url = ?",
+                    "idx_nodes_url", "url"),
+            new Lookup("NodeRepository.existsByFacultyId",
+                    "SELECT n.id FROM nodes n WHERE n.faculty_id = ? LIMIT 1",
+                    "idx_nodes_faculty_id", "EWI"));
+
+    /**
+     * Creates the verifier.
+     *
+     * @param jdbcTemplate the template to explain the lookups with.
+     * @param failOnMissingIndex whether to fail the startup when a lookup does not use its index.
+     */
+    public QueryPlanVerifier(JdbcTemplate jdbcTemplate,
+                             @Value("${database.queryPlans.failOnMissingIndex:false}") boolean failOnMissingIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.failOnMissingIndex = failOnMissingIndex;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var lookupsNotUsingIndex = this.findLookupsNotUsingIndex();
+        if (lookupsNotUsingIndex.isEmpty()) {
+            return;
+        }
+        String message = "Lookups not planned with their index: " + String.join(", ", lookupsNotUsingIndex);
+        if (this.failOnMissingIndex) {
+            throw new IllegalStateException(message);
+        }
+        System.out.println(message);
+    }
+
+    /**
+     * Explains each lookup and checks that its plan uses the expected index.
+     *
+     * @return the names of the lookups whose plan does not use the expected index.
+     */
+    public List<String> findLookupsNotUsingIndex() {
+        List<String> lookupsNotUsingIndex = new ArrayList<>();
+        for (Lookup lookup : this.lookups) {
+            String plan = this.jdbcTemplate.queryForObject("EXPLAIN " + lookup.sql, String.class, lookup.parameter);
+            // H2 names the index used for each table in a comment of the plan, in upper case
+            if (plan == null || !plan.toUpperCase(Locale.ROOT).contains(lookup.index.toUpperCase(Locale.ROOT))) {
+                lookupsNotUsingIndex.add(lookup.name + " (" + plan + ")");
+            }
+        }
+        return lookupsNotUsingIndex;
+    }
+
+    @AllArgsConstructor
+    private static class Lookup {
+        private final String name;
+        private final String sql;
+        private final String index;
+        private final Object parameter;
+    }
+}
@@ -0,0 +1,38 @@
+package nl.tudelft.sem.template.cluster.controllers;
+
+import nl.tudelft.sem.template.cluster.domain.services.FacultyMembershipCache;
+import nl.tudelft.sem.template.cluster.models.FacultyMembershipInvalidationRequestModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Receives the changes in the faculties of users from the users microservice.
+ */
+@RestController
+public class FacultyMembershipController {
+
+    private final transient FacultyMembershipCache facultyMembershipCache;
+
+    @Autowired
+    public FacultyMembershipController(FacultyMembershipCache facultyMembershipCache) {
+        this.facultyMembershipCache = facultyMembershipCache;
+    }
+
+    /**
+     * Forgets the cached faculties of a user, after they were changed in the users microservice.
+     *
+     * @param request the user whose faculties changed.
+     *
+     * @return 200 OK once the faculties of the user are no longer cached.
+     */
+    @PostMapping("/faculties/invalidate")
+    @PreAuthorize("hasRole('SYSTEM')")
+    public ResponseEntity<String> invalidateFaculties(@RequestBody FacultyMembershipInvalidationRequestModel request) {
+        this.facultyMembershipCache.invalidate(request.getNetId());
+        return ResponseEntity.ok().build();
+    }
+}
@@ -8,6 +8,7 @@ import nl.tudelft.sem.template.cluster.domain.services.JobSchedulingService;
 import nl.tudelft.sem.template.cluster.domain.services.NodeContributionService;
 import nl.tudelft.sem.template.cluster.domain.services.NodeDataProcessingService;
 import nl.tudelft.sem.template.cluster.domain.services.PrivilegeVerificationService;
+import nl.tudelft.sem.template.cluster.domain.services.ReservedResourcesService;
 import nl.tudelft.sem.template.cluster.domain.services.SchedulingDataProcessingService;
 import nl.tudelft.sem.template.cluster.models.FacultyDatedResourcesResponseModel;
 import nl.tudelft.sem.template.cluster.models.FacultyResourcesResponseModel;
@@ -19,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -30,6 +32,7 @@ public class FacultyResourcesInformationController {
     private final transient NodeDataProcessingService nodeDataProcessingService;
     private final transient SchedulingDataProcessingService schedulingDataProcessingService;
     private final transient PrivilegeVerificationService privilegeVerificationService;
+    private final transient ReservedResourcesService reservedResourcesService;
 
     private final transient DateProvider dateProvider;
 
@@ -44,13 +47,15 @@ public class FacultyResourcesInformationController {
                               NodeDataProcessingService nodeDataProcessingService,
                               SchedulingDataProcessingService schedulingDataProcessingService,
                               PrivilegeVerificationService privilegeVerificationService,
-                              ApplicationEventPublisher applicationEventPublisher) {
+                              ApplicationEventPublisher applicationEventPublisher,
+                              ReservedResourcesService reservedResourcesService) {
         this.scheduling = scheduling;
         this.nodeDataProcessingService = nodeDataProcessingService;
         this.dateProvider = dateProvider;
         this.schedulingDataProcessingService = schedulingDataProcessingService;
         this.privilegeVerificationService = privilegeVerificationService;
         this.applicationEventPublisher = applicationEventPublisher;
+        this.reservedResourcesService = reservedResourcesService;
     }
 
     /**
@@ -144,6 +149,21 @@ public class FacultyResourcesInformationController {
         }
     }
 
+    /**
+     * Checks the reserved resources per faculty per day against the schedule, and rebuilds them from the schedule if
+     * they do not match.
+     *
+     * @return response entity stating whether the reserved resources had to be rebuilt.
+     */
+    @PostMapping("/resources/reserved/rebuild")
+    @PreAuthorize("hasRole('SYSADMIN')")
+    public ResponseEntity<String> rebuildReservedResources() {
+        if (this.reservedResourcesService.checkAndRebuild()) {
+            return ResponseEntity.ok("Reserved resources were consistent with the schedule.");
+        }
+        return ResponseEntity.ok("Reserved resources were rebuilt from the schedule.");
+    }
+
     /**
      * Gets and returns the total available resources per day per faculty. U
      *
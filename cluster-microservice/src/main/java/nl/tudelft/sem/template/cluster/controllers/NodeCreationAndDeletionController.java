@@ -158,15 +158,17 @@ public class NodeCreationAndDeletionController {
         String url = request.getRequestURI().replaceFirst("/nodes/delete", "");
         String slashCheck = "/";
         if (url.isEmpty() || url.equals(slashCheck)) {
-            publisher.publishEvent(new NodesWereRemovedEvent(this, this.dataProcessingService.getAllNodes()));
+            // the jobs are rescheduled asynchronously, so the nodes must be gone before the event is published
+            var nodes = this.dataProcessingService.getAllNodes();
             this.dataProcessingService.deleteAllNodes();
+            publisher.publishEvent(new NodesWereRemovedEvent(this, nodes));
             return ResponseEntity.ok("All nodes have been deleted from the cluster.");
         }
 
         if (this.dataProcessingService.existsByUrl(url)) {
             Node node = this.dataProcessingService.getByUrl(url);
-            publisher.publishEvent(new NodesWereRemovedEvent(this, List.of(node)));
             this.dataProcessingService.deleteNode(node);
+            publisher.publishEvent(new NodesWereRemovedEvent(this, List.of(node)));
             return ResponseEntity.ok("The node has been successfully deleted");
         } else {
             return ResponseEntity.ok("Could not find the node to be deleted."
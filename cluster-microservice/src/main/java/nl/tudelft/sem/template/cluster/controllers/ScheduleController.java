@@ -1,13 +1,19 @@
 package nl.tudelft.sem.template.cluster.controllers;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import nl.tudelft.sem.template.cluster.domain.builders.JobBuilder;
 import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.events.NotificationBatchEvent;
 import nl.tudelft.sem.template.cluster.domain.events.NotificationEvent;
 import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
 import nl.tudelft.sem.template.cluster.domain.services.JobSchedulingService;
 import nl.tudelft.sem.template.cluster.domain.services.SchedulingDataProcessingService;
+import nl.tudelft.sem.template.cluster.models.BatchSchedulingReportResponseModel;
 import nl.tudelft.sem.template.cluster.models.JobRequestModel;
+import nl.tudelft.sem.template.cluster.models.JobScheduleResultResponseModel;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
@@ -62,7 +68,101 @@ public class ScheduleController {
     @PostMapping("/request")
     public ResponseEntity<String> forwardRequestToCluster(@RequestBody JobRequestModel jobModel) {
         // extract job from request model
-        Job job = new JobBuilder().requestedThroughFaculty(jobModel.getFacultyId())
+        Job job = convertToJob(jobModel);
+
+        // check that the job is valid and can ever be scheduled
+        var rejection = this.findReasonToReject(job);
+        if (rejection != null) {
+            return ResponseEntity.badRequest().body(rejection);
+        }
+
+        // schedule job
+        var scheduledFor = this.scheduling.scheduleJob(job);
+        applicationEventPublisher.publishEvent(
+                new NotificationEvent(this, scheduledFor.toString(), "JOB",
+                        "SCHEDULED", "Your job has been scheduled by the cluster!", job.getUserNetId()
+                ));
+
+        // return
+        return ResponseEntity.ok("Successfully scheduled job.");
+    }
+
+    /**
+     * Accepts a batch of requests from the request service, converts them into jobs and schedules all valid ones in a
+     * single transaction. Invalid requests are rejected individually without affecting the rest of the batch. The
+     * notifications of all scheduled jobs are sent out together.
+     *
+     * @param jobModels the deserialized JSON of the requests sent by the Request service.
+     *
+     * @return the outcome of each request, in the same order as the requests.
+     */
+    @PostMapping("/requests/batch")
+    public ResponseEntity<List<JobScheduleResultResponseModel>> forwardRequestsToCluster(
+            @RequestBody List<JobRequestModel> jobModels) {
+        List<JobScheduleResultResponseModel> results = new ArrayList<>(jobModels.size());
+        List<Job> jobsToSchedule = new ArrayList<>();
+        List<JobScheduleResultResponseModel> resultsToSchedule = new ArrayList<>();
+        for (JobRequestModel jobModel : jobModels) {
+            if (jobModel == null) {
+                results.add(new JobScheduleResultResponseModel(null, null, false, null, "The request is empty."));
+                continue;
+            }
+            Job job = convertToJob(jobModel);
+            var rejection = this.findReasonToReject(job);
+            var result = new JobScheduleResultResponseModel(job.getJobName(), job.getUserNetId(), false, null, rejection);
+            if (rejection == null) {
+                jobsToSchedule.add(job);
+                resultsToSchedule.add(result);
+            }
+            results.add(result);
+        }
+
+        // schedule jobs
+        var scheduledFor = this.scheduling.scheduleJobs(jobsToSchedule);
+        List<NotificationEvent> notifications = new ArrayList<>(jobsToSchedule.size());
+        for (int i = 0; i < jobsToSchedule.size(); ++i) {
+            var result = resultsToSchedule.get(i);
+            result.setScheduled(true);
+            result.setScheduledFor(scheduledFor.get(i));
+            result.setMessage("Successfully scheduled job.");
+            notifications.add(new NotificationEvent(this, scheduledFor.get(i).toString(), "JOB",
+                    "SCHEDULED", "Your job has been scheduled by the cluster!", jobsToSchedule.get(i).getUserNetId()));
+        }
+        if (!notifications.isEmpty()) {
+            applicationEventPublisher.publishEvent(new NotificationBatchEvent(this, notifications));
+        }
+
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Places a batch of requests, without scheduling them, with the joint packing strategy and with each single-job
+     * strategy applied greedily in arrival order, and reports the utilization each of them achieves. Invalid requests
+     * are left out.
+     *
+     * @param jobModels the deserialized JSON of the requests to place.
+     *
+     * @return one report per strategy, the joint packing strategy first.
+     */
+    @PostMapping("/requests/batch/evaluate")
+    @PreAuthorize("hasRole('SYSADMIN')")
+    public ResponseEntity<List<BatchSchedulingReportResponseModel>> evaluateBatchSchedulingStrategies(
+            @RequestBody List<JobRequestModel> jobModels) {
+        var jobs = jobModels.stream().filter(Objects::nonNull).map(ScheduleController::convertToJob)
+                .filter(job -> this.findReasonToReject(job) == null)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(this.scheduling.compareBatchSchedulingStrategies(jobs));
+    }
+
+    /**
+     * Converts the request model into a job.
+     *
+     * @param jobModel the request sent by the Request service.
+     *
+     * @return the job requested.
+     */
+    private static Job convertToJob(JobRequestModel jobModel) {
+        return new JobBuilder().requestedThroughFaculty(jobModel.getFacultyId())
                 .requestedByUserWithNetId(jobModel.getUserNetId())
                 .havingName(jobModel.getJobName())
                 .withDescription(jobModel.getJobDescription())
@@ -71,36 +171,50 @@ public class ScheduleController {
                 .needingMemoryResources(jobModel.getRequiredMemory())
                 .preferredCompletedBeforeDate(jobModel.getPreferredCompletionDate())
                 .constructJobInstance();
+    }
+
+    /**
+     * Checks whether the job is valid and can ever be scheduled. A job that fails any of these checks must not reach
+     * the schedule, where it would fail the whole batch it is saved with.
+     *
+     * @param job the job to check.
+     *
+     * @return the reason why the job cannot be scheduled, or null if it can.
+     */
+    private String findReasonToReject(Job job) {
+        // all fields the schedule requires are given
+        if (isBlank(job.getFacultyId()) || isBlank(job.getUserNetId()) || isBlank(job.getJobName())
+                || isBlank(job.getJobDescription()) || job.getPreferredCompletionDate() == null) {
+            return "The requested job must have a faculty, a user, a name, a description and a preferred completion"
+                    + " date.";
+        }
+
+        // the resources requested are not negative
+        if (job.getRequiredCpu() < 0 || job.getRequiredGpu() < 0 || job.getRequiredMemory() < 0) {
+            return "The requested job cannot require negative resources.";
+        }
 
         // preferred completion date is in the future
         if (job.getPreferredCompletionDate().isBefore(this.dateProvider.getTomorrow())) {
-            return ResponseEntity.badRequest()
-                    .body("The requested job cannot require the cluster to compute it before "
-                            + this.dateProvider.getTomorrow() + ".");
+            return "The requested job cannot require the cluster to compute it before "
+                    + this.dateProvider.getTomorrow() + ".";
         }
 
         // the resources requested are cpu >= gpu and cpu >= memory
         if (!job.areResourcesNeededValid()) {
-            return ResponseEntity.badRequest()
-                    .body("The requested job cannot require more GPU or memory than CPU.");
+            return "The requested job cannot require more GPU or memory than CPU.";
         }
 
         // can job ever be scheduled
         if (!this.scheduling.checkIfJobCanBeScheduled(job)) {
-            return ResponseEntity.badRequest()
-                    .body("The requested job requires more resources than are assigned to the "
-                            + job.getFacultyId() + " faculty.");
+            return "The requested job requires more resources than are assigned to the "
+                    + job.getFacultyId() + " faculty.";
         }
+        return null;
+    }
 
-        // schedule job
-        var scheduledFor = this.scheduling.scheduleJob(job);
-        applicationEventPublisher.publishEvent(
-                new NotificationEvent(this, scheduledFor.toString(), "JOB",
-                        "SCHEDULED", "Your job has been scheduled by the cluster!", job.getUserNetId()
-                ));
-
-        // return
-        return ResponseEntity.ok("Successfully scheduled job.");
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
     }
 
 }
\ No newline at end of file
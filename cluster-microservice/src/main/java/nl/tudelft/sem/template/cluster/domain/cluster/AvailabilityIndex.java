@@ -0,0 +1,66 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import java.time.LocalDate;
+
+/**
+ * Read access to the available resources of a single faculty over a contiguous range of days, as used by the job
+ * scheduling strategies. Implementations answer the earliest-fit and latest-fit questions without the strategies
+ * having to walk over every day themselves.
+ */
+public interface AvailabilityIndex {
+
+    /**
+     * Returns the first day of the range considered for scheduling.
+     *
+     * @return the first day of the range.
+     */
+    LocalDate getFirstDate();
+
+    /**
+     * Returns the last day of the range considered for scheduling.
+     *
+     * @return the last day of the range.
+     */
+    LocalDate getLastDate();
+
+    /**
+     * Finds the earliest day in the range, not before the given one, on which the job fits.
+     *
+     * @param from the day from which to start looking, inclusive. May lie before the first day of the range.
+     * @param job the job to fit.
+     *
+     * @return the earliest day on which the job fits, or null if there is none.
+     */
+    LocalDate findFirstFittingDateFrom(LocalDate from, Job job);
+
+    /**
+     * Finds the latest day in the range, not after the given one, on which the job fits.
+     *
+     * @param until the day until which to look, inclusive. May lie after the last day of the range.
+     * @param job the job to fit.
+     *
+     * @return the latest day on which the job fits, or null if there is none.
+     */
+    LocalDate findLastFittingDateUntil(LocalDate until, Job job);
+
+    /**
+     * Finds the earliest day in the range, not before the given one, on which any resources may be reserved. All
+     * resources of the faculty are available on the days in between, so strategies looking for the busiest or least
+     * busy day can skip them.
+     *
+     * @param from the day from which to start looking, inclusive. May lie before the first day of the range.
+     *
+     * @return the earliest day that may have reservations, or null if there is none.
+     */
+    LocalDate findNextReservedDateFrom(LocalDate from);
+
+    /**
+     * Returns the resources available on the given day of the range.
+     *
+     * @param date the day to look up.
+     *
+     * @return the available resources on that day.
+     */
+    AvailableResourcesForDate getAvailableResourcesOn(LocalDate date);
+
+}
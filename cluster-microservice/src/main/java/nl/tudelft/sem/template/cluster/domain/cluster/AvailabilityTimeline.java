@@ -0,0 +1,182 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A sparse snapshot of the available resources of a faculty over a range of days. Only the days on which resources
+ * are reserved have an entry; every other day of the range has the full capacity of the faculty available. A range
+ * of a year with a handful of reserved days thus holds a handful of entries, and the queries walk over those entries
+ * rather than over every day.
+ */
+public class AvailabilityTimeline implements ReservableAvailabilityIndex {
+
+    private final transient LocalDate firstDate;
+    private final transient LocalDate lastDate;
+
+    private final transient double capacityCpu;
+    private final transient double capacityGpu;
+    private final transient double capacityMemory;
+
+    /**
+     * The available resources on each day with reservations, by epoch day.
+     */
+    private final transient NavigableMap<Long, AvailableResourcesForDate> reservedDays = new TreeMap<>();
+
+    /**
+     * Creates a timeline between the two days, inclusive.
+     *
+     * @param firstDate the first day of the range.
+     * @param lastDate the last day of the range.
+     * @param capacityCpu the cpu resources available on a day without reservations.
+     * @param capacityGpu the gpu resources available on a day without reservations.
+     * @param capacityMemory the memory resources available on a day without reservations.
+     * @param availableOnReservedDays the available resources on each day of the range with reservations.
+     */
+    public AvailabilityTimeline(LocalDate firstDate, LocalDate lastDate,
+                                double capacityCpu, double capacityGpu, double capacityMemory,
+                                List<AvailableResourcesForDate> availableOnReservedDays) {
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+        this.capacityCpu = capacityCpu;
+        this.capacityGpu = capacityGpu;
+        this.capacityMemory = capacityMemory;
+        for (AvailableResourcesForDate available : availableOnReservedDays) {
+            this.reservedDays.put(available.getDate().toEpochDay(), new AvailableResourcesForDate(available.getDate(),
+                    available.getAvailableCpu(), available.getAvailableGpu(), available.getAvailableMemory()));
+        }
+    }
+
+    /**
+     * Returns the number of days of the range on which resources are reserved.
+     *
+     * @return the number of entries of the timeline.
+     */
+    public int getNumberOfReservedDays() {
+        return this.reservedDays.size();
+    }
+
+    @Override
+    public LocalDate getFirstDate() {
+        return this.firstDate;
+    }
+
+    @Override
+    public LocalDate getLastDate() {
+        return this.lastDate;
+    }
+
+    @Override
+    public LocalDate findFirstFittingDateFrom(LocalDate from, Job job) {
+        // reservations only take resources away, so a job that does not fit on an empty day fits nowhere
+        if (!this.fitsCapacity(job)) {
+            return null;
+        }
+        long day = Math.max(from.toEpochDay(), this.firstDate.toEpochDay());
+        long lastDay = this.lastDate.toEpochDay();
+        for (var entry : this.reservedDays.tailMap(day, true).entrySet()) {
+            if (entry.getKey() > day || entry.getKey() > lastDay) {
+                break;
+            }
+            if (fits(entry.getValue(), job)) {
+                return entry.getValue().getDate();
+            }
+            day++;
+        }
+        return day <= lastDay ? LocalDate.ofEpochDay(day) : null;
+    }
+
+    @Override
+    public LocalDate findLastFittingDateUntil(LocalDate until, Job job) {
+        if (!this.fitsCapacity(job)) {
+            return null;
+        }
+        long day = Math.min(until.toEpochDay(), this.lastDate.toEpochDay());
+        long firstDay = this.firstDate.toEpochDay();
+        for (var entry : this.reservedDays.headMap(day, true).descendingMap().entrySet()) {
+            if (entry.getKey() < day || entry.getKey() < firstDay) {
+                break;
+            }
+            if (fits(entry.getValue(), job)) {
+                return entry.getValue().getDate();
+            }
+            day--;
+        }
+        return day >= firstDay ? LocalDate.ofEpochDay(day) : null;
+    }
+
+    @Override
+    public LocalDate findNextReservedDateFrom(LocalDate from) {
+        var day = this.reservedDays.ceilingKey(Math.max(from.toEpochDay(), this.firstDate.toEpochDay()));
+        return day == null || day > this.lastDate.toEpochDay() ? null : LocalDate.ofEpochDay(day);
+    }
+
+    @Override
+    public AvailableResourcesForDate getAvailableResourcesOn(LocalDate date) {
+        this.checkInRange(date);
+        var available = this.reservedDays.get(date.toEpochDay());
+        return available != null ? available
+                : new AvailableResourcesForDate(date, this.capacityCpu, this.capacityGpu, this.capacityMemory);
+    }
+
+    /**
+     * Subtracts the resources required by the job from the resources available on the given day, adding an entry for
+     * the day if nothing was reserved on it yet.
+     *
+     * @param date the day on which the job is placed.
+     * @param job the job placed on that day.
+     */
+    @Override
+    public void reserve(LocalDate date, Job job) {
+        this.reserve(date, job.getRequiredCpu(), job.getRequiredGpu(), job.getRequiredMemory());
+    }
+
+    /**
+     * Subtracts the given resources from the resources available on the given day, adding an entry for the day if
+     * nothing was reserved on it yet.
+     *
+     * @param date the day on which the resources are reserved.
+     * @param cpu the cpu resources reserved.
+     * @param gpu the gpu resources reserved.
+     * @param memory the memory resources reserved.
+     */
+    public void reserve(LocalDate date, double cpu, double gpu, double memory) {
+        this.checkInRange(date);
+        var available = this.reservedDays.computeIfAbsent(date.toEpochDay(), x -> new AvailableResourcesForDate(date,
+                this.capacityCpu, this.capacityGpu, this.capacityMemory));
+        available.setAvailableCpu(available.getAvailableCpu() - cpu);
+        available.setAvailableGpu(available.getAvailableGpu() - gpu);
+        available.setAvailableMemory(available.getAvailableMemory() - memory);
+    }
+
+    /**
+     * Gives the given resources, reserved on the given day, back to the resources available on that day.
+     *
+     * @param date the day on which the resources were reserved.
+     * @param cpu the cpu resources released.
+     * @param gpu the gpu resources released.
+     * @param memory the memory resources released.
+     */
+    public void release(LocalDate date, double cpu, double gpu, double memory) {
+        this.reserve(date, -cpu, -gpu, -memory);
+    }
+
+    private boolean fitsCapacity(Job job) {
+        return job.getRequiredCpu() <= this.capacityCpu && job.getRequiredGpu() <= this.capacityGpu
+                && job.getRequiredMemory() <= this.capacityMemory;
+    }
+
+    private static boolean fits(AvailableResourcesForDate available, Job job) {
+        return job.getRequiredCpu() <= available.getAvailableCpu() && job.getRequiredGpu() <= available.getAvailableGpu()
+                && job.getRequiredMemory() <= available.getAvailableMemory();
+    }
+
+    private void checkInRange(LocalDate date) {
+        if (date.isBefore(this.firstDate) || date.isAfter(this.lastDate)) {
+            throw new IllegalArgumentException("Date is not part of the index.");
+        }
+    }
+
+}
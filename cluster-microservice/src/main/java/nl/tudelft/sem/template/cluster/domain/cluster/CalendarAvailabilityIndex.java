@@ -0,0 +1,61 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import java.time.LocalDate;
+
+/**
+ * An availability index over a range of days of a faculty's capacity calendar. Queries are answered directly by the
+ * calendar's segment tree, so nothing is copied when the index is created. The index is a live view: it reflects any
+ * reservations made in the calendar after its creation.
+ */
+public class CalendarAvailabilityIndex implements AvailabilityIndex {
+
+    private final transient FacultyCapacityCalendar calendar;
+    private final transient LocalDate firstDate;
+    private final transient LocalDate lastDate;
+
+    /**
+     * Creates a view of the calendar between the two days, inclusive.
+     *
+     * @param calendar the calendar to query.
+     * @param firstDate the first day of the range.
+     * @param lastDate the last day of the range.
+     */
+    public CalendarAvailabilityIndex(FacultyCapacityCalendar calendar, LocalDate firstDate, LocalDate lastDate) {
+        this.calendar = calendar;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+    }
+
+    @Override
+    public LocalDate getFirstDate() {
+        return this.firstDate;
+    }
+
+    @Override
+    public LocalDate getLastDate() {
+        return this.lastDate;
+    }
+
+    @Override
+    public LocalDate findFirstFittingDateFrom(LocalDate from, Job job) {
+        return this.calendar.findFirstFittingDate(from.isAfter(this.firstDate) ? from : this.firstDate,
+                this.lastDate, job.getRequiredCpu(), job.getRequiredGpu(), job.getRequiredMemory());
+    }
+
+    @Override
+    public LocalDate findLastFittingDateUntil(LocalDate until, Job job) {
+        return this.calendar.findLastFittingDate(this.firstDate, until.isBefore(this.lastDate) ? until : this.lastDate,
+                job.getRequiredCpu(), job.getRequiredGpu(), job.getRequiredMemory());
+    }
+
+    @Override
+    public LocalDate findNextReservedDateFrom(LocalDate from) {
+        return this.calendar.findNextReservedDate(from.isAfter(this.firstDate) ? from : this.firstDate, this.lastDate);
+    }
+
+    @Override
+    public AvailableResourcesForDate getAvailableResourcesOn(LocalDate date) {
+        return this.calendar.getAvailableResourcesOn(date);
+    }
+
+}
@@ -0,0 +1,20 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How many jobs, and how much resource volume, a rescheduling moved out of overbooked days, next to what evicting the
+ * largest jobs first would have moved on the same days.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvictionReport {
+    private String strategy;
+    private int jobsMoved;
+    private double volumeMoved;
+    private int greedyJobsMoved;
+    private double greedyVolumeMoved;
+}
@@ -0,0 +1,36 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Immutable snapshot of the total resources assigned to a faculty, as held in memory by its capacity calendar. Has
+ * the same shape as the result of aggregating the node repository, so it can be used wherever that result was.
+ */
+@AllArgsConstructor
+public class FacultyAssignedResources implements FacultyTotalResources {
+
+    private final String facultyId;
+    private final double cpuResources;
+    private final double gpuResources;
+    private final double memoryResources;
+
+    @Override
+    public String getFaculty_Id() {
+        return this.facultyId;
+    }
+
+    @Override
+    public double getCpu_Resources() {
+        return this.cpuResources;
+    }
+
+    @Override
+    public double getGpu_Resources() {
+        return this.gpuResources;
+    }
+
+    @Override
+    public double getMemory_Resources() {
+        return this.memoryResources;
+    }
+}
@@ -0,0 +1,414 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import lombok.Getter;
+
+/**
+ * In-memory record of the capacity of a single faculty. Holds the resources assigned to the faculty through its nodes,
+ * as well as the resources reserved by scheduled jobs on each day. The reserved resources are kept in primitive arrays
+ * indexed by the number of days since the first day of the calendar, so that looking up a day is a single array access.
+ * A segment tree over the negated reservations allows finding the first or last day on which a job fits in a range
+ * without scanning it; as the assigned resources are the same on every day, it does not change when nodes do.
+ */
+public class FacultyCapacityCalendar {
+
+    private static final int INITIAL_NUMBER_OF_DAYS = 64;
+
+    @Getter
+    private final String facultyId;
+
+    @Getter
+    private int numberOfNodes;
+    @Getter
+    private double assignedCpu;
+    @Getter
+    private double assignedGpu;
+    @Getter
+    private double assignedMemory;
+
+    /**
+     * Epoch day of the date stored at index 0 of the arrays.
+     */
+    private long firstEpochDay;
+    private double[] reservedCpu;
+    private double[] reservedGpu;
+    private double[] reservedMemory;
+    private int[] numberOfJobs;
+
+    /**
+     * The epoch days on which at least one job is reserved, so that days with reservations can be found without
+     * scanning the arrays. Every other day has all assigned resources available.
+     */
+    private final NavigableSet<Long> reservedDays = new TreeSet<>();
+
+    /**
+     * Segment tree holding the negated reserved resources of each day in the arrays. A job fits on a day exactly when
+     * -reserved >= required - assigned in every dimension.
+     */
+    private ResourceSegmentTree reservations;
+
+    /**
+     * Creates an empty calendar for the given faculty.
+     *
+     * @param facultyId the faculty this calendar keeps track of.
+     */
+    public FacultyCapacityCalendar(String facultyId) {
+        this.facultyId = facultyId;
+        this.reservedCpu = new double[0];
+        this.reservedGpu = new double[0];
+        this.reservedMemory = new double[0];
+        this.numberOfJobs = new int[0];
+        this.reservations = new ResourceSegmentTree(0, 0);
+    }
+
+    /**
+     * Adds the resources of a node to the resources assigned to this faculty.
+     *
+     * @param cpu the cpu resources of the node.
+     * @param gpu the gpu resources of the node.
+     * @param memory the memory resources of the node.
+     */
+    public synchronized void addNode(double cpu, double gpu, double memory) {
+        this.numberOfNodes++;
+        this.assignedCpu += cpu;
+        this.assignedGpu += gpu;
+        this.assignedMemory += memory;
+    }
+
+    /**
+     * Subtracts the resources of a node from the resources assigned to this faculty.
+     *
+     * @param cpu the cpu resources of the node.
+     * @param gpu the gpu resources of the node.
+     * @param memory the memory resources of the node.
+     */
+    public synchronized void removeNode(double cpu, double gpu, double memory) {
+        this.numberOfNodes--;
+        if (this.numberOfNodes <= 0) {
+            // avoid accumulating rounding errors once the faculty has no nodes left
+            this.numberOfNodes = 0;
+            this.assignedCpu = 0;
+            this.assignedGpu = 0;
+            this.assignedMemory = 0;
+            return;
+        }
+        this.assignedCpu -= cpu;
+        this.assignedGpu -= gpu;
+        this.assignedMemory -= memory;
+    }
+
+    /**
+     * Returns the resources currently assigned to this faculty.
+     *
+     * @return a snapshot of the total assigned resources.
+     */
+    public synchronized FacultyTotalResources getAssignedResources() {
+        return new FacultyAssignedResources(this.facultyId, this.assignedCpu, this.assignedGpu, this.assignedMemory);
+    }
+
+    /**
+     * Reserves the given resources on the given day.
+     *
+     * @param date the day on which the resources are reserved.
+     * @param cpu the cpu resources reserved.
+     * @param gpu the gpu resources reserved.
+     * @param memory the memory resources reserved.
+     */
+    public synchronized void reserve(LocalDate date, double cpu, double gpu, double memory) {
+        int index = this.indexOfAllocating(date.toEpochDay());
+        if (this.numberOfJobs[index]++ == 0) {
+            this.reservedDays.add(date.toEpochDay());
+        }
+        this.reservedCpu[index] += cpu;
+        this.reservedGpu[index] += gpu;
+        this.reservedMemory[index] += memory;
+        this.updateTree(index);
+    }
+
+    /**
+     * Releases resources that were previously reserved on the given day.
+     *
+     * @param date the day on which the resources were reserved.
+     * @param cpu the cpu resources to release.
+     * @param gpu the gpu resources to release.
+     * @param memory the memory resources to release.
+     */
+    public synchronized void release(LocalDate date, double cpu, double gpu, double memory) {
+        int index = this.indexOf(date.toEpochDay());
+        if (index < 0 || this.numberOfJobs[index] == 0) {
+            return;
+        }
+        this.numberOfJobs[index]--;
+        if (this.numberOfJobs[index] == 0) {
+            // avoid accumulating rounding errors on days that become empty
+            this.reservedDays.remove(date.toEpochDay());
+            this.reservedCpu[index] = 0;
+            this.reservedGpu[index] = 0;
+            this.reservedMemory[index] = 0;
+        } else {
+            this.reservedCpu[index] -= cpu;
+            this.reservedGpu[index] -= gpu;
+            this.reservedMemory[index] -= memory;
+        }
+        this.updateTree(index);
+    }
+
+    /**
+     * Checks whether any job is reserved on the given day.
+     *
+     * @param date the day to check.
+     *
+     * @return whether there is at least one job reserved on that day.
+     */
+    public synchronized boolean hasReservationsOn(LocalDate date) {
+        int index = this.indexOf(date.toEpochDay());
+        return index >= 0 && this.numberOfJobs[index] > 0;
+    }
+
+    /**
+     * Finds the last day on which this faculty has any resources reserved.
+     *
+     * @return the last day with reservations, or null if nothing is reserved.
+     */
+    public synchronized LocalDate findLatestReservedDate() {
+        return this.reservedDays.isEmpty() ? null : LocalDate.ofEpochDay(this.reservedDays.last());
+    }
+
+    /**
+     * Finds the first day between the two dates, inclusive, on which any resources are reserved.
+     *
+     * @param from the first day to consider.
+     * @param until the last day to consider.
+     *
+     * @return the first day with reservations, or null if all resources are available on every day in between.
+     */
+    public synchronized LocalDate findNextReservedDate(LocalDate from, LocalDate until) {
+        var day = this.reservedDays.ceiling(from.toEpochDay());
+        return day == null || day > until.toEpochDay() ? null : LocalDate.ofEpochDay(day);
+    }
+
+    /**
+     * Finds all days, starting with the given one, on which more resources are reserved than are assigned to this
+     * faculty in at least one dimension.
+     *
+     * @param from the first day to check.
+     *
+     * @return the available resources on each overbooked day, all of which have at least one negative value, in
+     * chronological order.
+     */
+    public synchronized List<AvailableResourcesForDate> findOverbookedDays(LocalDate from) {
+        List<AvailableResourcesForDate> overbookedDays = new ArrayList<>();
+        for (int i = (int) Math.max(0, from.toEpochDay() - this.firstEpochDay); i < this.numberOfJobs.length; ++i) {
+            if (this.numberOfJobs[i] > 0 && (this.reservedCpu[i] > this.assignedCpu
+                    || this.reservedGpu[i] > this.assignedGpu || this.reservedMemory[i] > this.assignedMemory)) {
+                overbookedDays.add(this.availableResourcesOn(this.firstEpochDay + i));
+            }
+        }
+        return overbookedDays;
+    }
+
+    /**
+     * Calculates the available resources of this faculty for each day between the two dates, inclusive.
+     *
+     * @param from the first day to calculate the available resources for.
+     * @param until the last day to calculate the available resources for.
+     *
+     * @return the available resources for each day, in chronological order.
+     */
+    public synchronized List<AvailableResourcesForDate> getAvailableResources(LocalDate from, LocalDate until) {
+        long firstDay = from.toEpochDay();
+        long lastDay = until.toEpochDay();
+        List<AvailableResourcesForDate> availableResources = new ArrayList<>((int) Math.max(0, lastDay - firstDay + 1));
+        for (long day = firstDay; day <= lastDay; ++day) {
+            availableResources.add(this.availableResourcesOn(day));
+        }
+        return availableResources;
+    }
+
+    /**
+     * Creates a sparse copy of the available resources of this faculty between the two dates, inclusive, which holds
+     * an entry for each day with reservations only.
+     *
+     * @param from the first day of the timeline.
+     * @param until the last day of the timeline.
+     *
+     * @return the timeline, which is not affected by later changes to this calendar.
+     */
+    public synchronized AvailabilityTimeline getAvailabilityTimeline(LocalDate from, LocalDate until) {
+        List<AvailableResourcesForDate> availableOnReservedDays = new ArrayList<>();
+        if (!from.isAfter(until)) {
+            for (long day : this.reservedDays.subSet(from.toEpochDay(), true, until.toEpochDay(), true)) {
+                availableOnReservedDays.add(this.availableResourcesOn(day));
+            }
+        }
+        return new AvailabilityTimeline(from, until, this.assignedCpu, this.assignedGpu, this.assignedMemory,
+                availableOnReservedDays);
+    }
+
+    /**
+     * Calculates the available resources of this faculty on the given day.
+     *
+     * @param date the day to calculate the available resources for.
+     *
+     * @return the available resources on that day.
+     */
+    public synchronized AvailableResourcesForDate getAvailableResourcesOn(LocalDate date) {
+        return this.availableResourcesOn(date.toEpochDay());
+    }
+
+    /**
+     * Finds the first day between the two dates, inclusive, on which the given resources are available.
+     *
+     * @param from the first day to consider.
+     * @param until the last day to consider.
+     * @param cpu the cpu resources needed.
+     * @param gpu the gpu resources needed.
+     * @param memory the memory resources needed.
+     *
+     * @return the first day on which the resources are available, or null if there is none.
+     */
+    public synchronized LocalDate findFirstFittingDate(LocalDate from, LocalDate until,
+                                                       double cpu, double gpu, double memory) {
+        if (from.isAfter(until) || !this.fitsWithoutReservations(cpu, gpu, memory)) {
+            return null;
+        }
+        long fromDay = from.toEpochDay();
+        long untilDay = until.toEpochDay();
+        long lastStoredDay = this.firstEpochDay + this.numberOfJobs.length - 1;
+        if (this.indexOf(fromDay) < 0) {
+            // nothing is reserved outside the arrays
+            return from;
+        }
+        int found = this.reservations.findFirst((int) (fromDay - this.firstEpochDay),
+                (int) (Math.min(untilDay, lastStoredDay) - this.firstEpochDay),
+                cpu - this.assignedCpu, gpu - this.assignedGpu, memory - this.assignedMemory);
+        if (found >= 0) {
+            return LocalDate.ofEpochDay(this.firstEpochDay + found);
+        }
+        return untilDay > lastStoredDay ? LocalDate.ofEpochDay(lastStoredDay + 1) : null;
+    }
+
+    /**
+     * Finds the last day between the two dates, inclusive, on which the given resources are available.
+     *
+     * @param from the first day to consider.
+     * @param until the last day to consider.
+     * @param cpu the cpu resources needed.
+     * @param gpu the gpu resources needed.
+     * @param memory the memory resources needed.
+     *
+     * @return the last day on which the resources are available, or null if there is none.
+     */
+    public synchronized LocalDate findLastFittingDate(LocalDate from, LocalDate until,
+                                                      double cpu, double gpu, double memory) {
+        if (from.isAfter(until) || !this.fitsWithoutReservations(cpu, gpu, memory)) {
+            return null;
+        }
+        long fromDay = from.toEpochDay();
+        long untilDay = until.toEpochDay();
+        if (this.indexOf(untilDay) < 0) {
+            // nothing is reserved outside the arrays
+            return until;
+        }
+        int found = this.reservations.findLast((int) (Math.max(fromDay, this.firstEpochDay) - this.firstEpochDay),
+                (int) (untilDay - this.firstEpochDay),
+                cpu - this.assignedCpu, gpu - this.assignedGpu, memory - this.assignedMemory);
+        if (found >= 0) {
+            return LocalDate.ofEpochDay(this.firstEpochDay + found);
+        }
+        return fromDay < this.firstEpochDay ? LocalDate.ofEpochDay(this.firstEpochDay - 1) : null;
+    }
+
+    private AvailableResourcesForDate availableResourcesOn(long epochDay) {
+        int index = this.indexOf(epochDay);
+        if (index < 0) {
+            return new AvailableResourcesForDate(LocalDate.ofEpochDay(epochDay),
+                    this.assignedCpu, this.assignedGpu, this.assignedMemory);
+        }
+        return new AvailableResourcesForDate(LocalDate.ofEpochDay(epochDay),
+                this.assignedCpu - this.reservedCpu[index],
+                this.assignedGpu - this.reservedGpu[index],
+                this.assignedMemory - this.reservedMemory[index]);
+    }
+
+    /**
+     * Checks whether the given resources fit on a day without any reservations.
+     */
+    private boolean fitsWithoutReservations(double cpu, double gpu, double memory) {
+        return cpu <= this.assignedCpu && gpu <= this.assignedGpu && memory <= this.assignedMemory;
+    }
+
+    private void updateTree(int index) {
+        this.reservations.set(index, -this.reservedCpu[index], -this.reservedGpu[index], -this.reservedMemory[index]);
+    }
+
+    /**
+     * Returns the index of the given day in the arrays, or -1 if the day lies outside them.
+     *
+     * @param epochDay the day to look up.
+     *
+     * @return the index of the day, or -1.
+     */
+    private int indexOf(long epochDay) {
+        long index = epochDay - this.firstEpochDay;
+        return index < 0 || index >= this.numberOfJobs.length ? -1 : (int) index;
+    }
+
+    /**
+     * Returns the index of the given day in the arrays, growing the arrays if the day lies outside them.
+     *
+     * @param epochDay the day to look up.
+     *
+     * @return the index of the day.
+     */
+    private int indexOfAllocating(long epochDay) {
+        int length = this.numberOfJobs.length;
+        if (length == 0) {
+            this.firstEpochDay = epochDay;
+            this.resize(epochDay, INITIAL_NUMBER_OF_DAYS);
+        } else if (epochDay < this.firstEpochDay) {
+            int missing = (int) (this.firstEpochDay - epochDay);
+            this.resize(epochDay, Math.max(length * 2, length + missing));
+        } else if (epochDay >= this.firstEpochDay + length) {
+            int missing = (int) (epochDay - this.firstEpochDay - length + 1);
+            this.resize(this.firstEpochDay, Math.max(length * 2, length + missing));
+        }
+        return (int) (epochDay - this.firstEpochDay);
+    }
+
+    /**
+     * Copies the reservations into new arrays starting at the given day and having the given length, and rebuilds the
+     * segment tree over them.
+     *
+     * @param newFirstEpochDay the day that will be at index 0 after resizing.
+     * @param newLength the number of days the new arrays can hold.
+     */
+    private void resize(long newFirstEpochDay, int newLength) {
+        int offset = (int) (this.firstEpochDay - newFirstEpochDay);
+        int length = this.numberOfJobs.length;
+
+        double[] cpu = new double[newLength];
+        double[] gpu = new double[newLength];
+        double[] memory = new double[newLength];
+        int[] jobs = new int[newLength];
+        System.arraycopy(this.reservedCpu, 0, cpu, offset, length);
+        System.arraycopy(this.reservedGpu, 0, gpu, offset, length);
+        System.arraycopy(this.reservedMemory, 0, memory, offset, length);
+        System.arraycopy(this.numberOfJobs, 0, jobs, offset, length);
+
+        this.firstEpochDay = newFirstEpochDay;
+        this.reservedCpu = cpu;
+        this.reservedGpu = gpu;
+        this.reservedMemory = memory;
+        this.numberOfJobs = jobs;
+
+        this.reservations = new ResourceSegmentTree(newLength, 0);
+        for (int i = offset; i < offset + length; ++i) {
+            this.updateTree(i);
+        }
+    }
+}
@@ -5,15 +5,28 @@ import java.time.LocalDate;
 import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import nl.tudelft.sem.template.cluster.listeners.ReservedResourcesListener;
+import nl.tudelft.sem.template.cluster.listeners.ScheduleCapacityListener;
 
+/**
+ * A job in the schedule. The indexes match the ways the schedule is looked up: by day, by faculty (alone, for a set of
+ * days, and when aggregating per faculty per day), and by the user who requested the job.
+ */
 @Entity
-@Table(name = "schedule")
+@Table(name = "schedule", indexes = {
+    @Index(name = "idx_schedule_scheduled_for", columnList = "scheduledFor"),
+    @Index(name = "idx_schedule_faculty_id_scheduled_for", columnList = "facultyId, scheduledFor"),
+    @Index(name = "idx_schedule_user_net_id", columnList = "userNetId")
+})
+@EntityListeners({ScheduleCapacityListener.class, ReservedResourcesListener.class})
 @Getter
 @Setter
 public class Job {
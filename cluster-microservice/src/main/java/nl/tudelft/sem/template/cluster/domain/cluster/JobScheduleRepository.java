@@ -1,7 +1,10 @@
 package nl.tudelft.sem.template.cluster.domain.cluster;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -59,6 +62,16 @@ public interface JobScheduleRepository extends JpaRepository<Job, Long> {
      */
     List<Job> findByScheduledFor(LocalDate scheduledFor);
 
+    /**
+     * Looks for one page of the jobs which have been scheduled for the given date.
+     *
+     * @param scheduledFor the date to find the jobs by.
+     * @param pageable the page to return, which should be sorted for consecutive pages not to overlap.
+     *
+     * @return a slice of the jobs scheduled for the given date, which knows whether there is a next page.
+     */
+    Slice<Job> findByScheduledFor(LocalDate scheduledFor, Pageable pageable);
+
     /**
      * Checks if there exists any job scheduled for the provided date.
      *
@@ -68,6 +81,16 @@ public interface JobScheduleRepository extends JpaRepository<Job, Long> {
      */
     boolean existsByScheduledFor(LocalDate scheduledFor);
 
+    /**
+     * Looks for all jobs which have been requested through the given faculty and scheduled for any of the given dates.
+     *
+     * @param facultyId the facultyID to find the jobs by.
+     * @param scheduledFor the dates to find the jobs by.
+     *
+     * @return a list of all jobs of the faculty scheduled for one of the dates.
+     */
+    List<Job> findByFacultyIdAndScheduledForIn(String facultyId, Collection<LocalDate> scheduledFor);
+
     /**
      * Gets and returns the last date on which any job is currently scheduled.
      *
@@ -0,0 +1,117 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An availability index built over an already computed list of available resources per day. The list must be in
+ * chronological order and contain each day at most once; it does not need to be contiguous. As the index does not know
+ * the capacity of the faculty, any of its days may have reservations.
+ */
+public class ListAvailabilityIndex implements ReservableAvailabilityIndex {
+
+    private final transient List<AvailableResourcesForDate> availableResourcesForDates;
+
+    /**
+     * The epoch day of each entry of the list, used to binary search for dates.
+     */
+    private final transient long[] epochDays;
+
+    private final transient ResourceSegmentTree tree;
+
+    /**
+     * Builds the index over the given list.
+     *
+     * @param availableResourcesForDates the available resources for each considered day, in chronological order.
+     */
+    public ListAvailabilityIndex(List<AvailableResourcesForDate> availableResourcesForDates) {
+        this.availableResourcesForDates = availableResourcesForDates;
+        this.epochDays = new long[availableResourcesForDates.size()];
+        this.tree = new ResourceSegmentTree(availableResourcesForDates.size(), 0);
+        for (int i = 0; i < availableResourcesForDates.size(); ++i) {
+            var availableResources = availableResourcesForDates.get(i);
+            this.epochDays[i] = availableResources.getDate().toEpochDay();
+            this.tree.set(i, availableResources.getAvailableCpu(), availableResources.getAvailableGpu(),
+                    availableResources.getAvailableMemory());
+        }
+    }
+
+    /**
+     * Returns the first day of the list.
+     *
+     * @return the first day of the list, or null if the list is empty.
+     */
+    @Override
+    public LocalDate getFirstDate() {
+        return this.availableResourcesForDates.isEmpty() ? null : this.availableResourcesForDates.get(0).getDate();
+    }
+
+    /**
+     * Returns the last day of the list.
+     *
+     * @return the last day of the list, or null if the list is empty.
+     */
+    @Override
+    public LocalDate getLastDate() {
+        return this.availableResourcesForDates.isEmpty() ? null
+                : this.availableResourcesForDates.get(this.availableResourcesForDates.size() - 1).getDate();
+    }
+
+    @Override
+    public LocalDate findFirstFittingDateFrom(LocalDate from, Job job) {
+        int position = Arrays.binarySearch(this.epochDays, from.toEpochDay());
+        int start = position >= 0 ? position : -position - 1;
+        int found = this.tree.findFirst(start, this.epochDays.length - 1,
+                job.getRequiredCpu(), job.getRequiredGpu(), job.getRequiredMemory());
+        return found < 0 ? null : this.availableResourcesForDates.get(found).getDate();
+    }
+
+    @Override
+    public LocalDate findLastFittingDateUntil(LocalDate until, Job job) {
+        int position = Arrays.binarySearch(this.epochDays, until.toEpochDay());
+        int end = position >= 0 ? position : -position - 2;
+        int found = this.tree.findLast(0, end,
+                job.getRequiredCpu(), job.getRequiredGpu(), job.getRequiredMemory());
+        return found < 0 ? null : this.availableResourcesForDates.get(found).getDate();
+    }
+
+    @Override
+    public LocalDate findNextReservedDateFrom(LocalDate from) {
+        int position = Arrays.binarySearch(this.epochDays, from.toEpochDay());
+        int start = position >= 0 ? position : -position - 1;
+        return start < this.epochDays.length ? this.availableResourcesForDates.get(start).getDate() : null;
+    }
+
+    @Override
+    public AvailableResourcesForDate getAvailableResourcesOn(LocalDate date) {
+        return this.availableResourcesForDates.get(this.positionOf(date));
+    }
+
+    /**
+     * Subtracts the resources required by the job from the resources available on the given day, so that later
+     * queries take the job into account. The entry of the underlying list is updated in place.
+     *
+     * @param date the day on which the job is placed.
+     * @param job the job placed on that day.
+     */
+    @Override
+    public void reserve(LocalDate date, Job job) {
+        int position = this.positionOf(date);
+        var availableResources = this.availableResourcesForDates.get(position);
+        availableResources.setAvailableCpu(availableResources.getAvailableCpu() - job.getRequiredCpu());
+        availableResources.setAvailableGpu(availableResources.getAvailableGpu() - job.getRequiredGpu());
+        availableResources.setAvailableMemory(availableResources.getAvailableMemory() - job.getRequiredMemory());
+        this.tree.set(position, availableResources.getAvailableCpu(), availableResources.getAvailableGpu(),
+                availableResources.getAvailableMemory());
+    }
+
+    private int positionOf(LocalDate date) {
+        int position = Arrays.binarySearch(this.epochDays, date.toEpochDay());
+        if (position < 0) {
+            throw new IllegalArgumentException("Date is not part of the index.");
+        }
+        return position;
+    }
+
+}
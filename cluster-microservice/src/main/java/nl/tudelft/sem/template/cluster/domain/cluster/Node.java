@@ -1,17 +1,29 @@
 package nl.tudelft.sem.template.cluster.domain.cluster;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
+import nl.tudelft.sem.template.cluster.listeners.NodeCapacityListener;
 //import java.time.LocalDate;
 
 
+/**
+ * A node contributed to the cluster. The indexes match the ways the nodes are looked up: by url, which is unique, and
+ * by the faculty they are assigned to.
+ */
 @Entity
-@Table(name = "nodes")
+@Table(name = "nodes", indexes = {
+    @Index(name = "idx_nodes_url", columnList = "url", unique = true),
+    @Index(name = "idx_nodes_faculty_id", columnList = "facultyId")
+})
+@EntityListeners(NodeCapacityListener.class)
 public class Node {
 
     /**
@@ -34,7 +46,7 @@ public class Node {
     @Column(name = "node_name", nullable = false)
     private String name;
 
-    @Column(name = "url", nullable = false, unique = true)
+    @Column(name = "url", nullable = false)
     private String url;
 
     @Column(name = "userId", nullable = false)
@@ -69,6 +81,16 @@ public class Node {
         this.userNetId = userNetId;
     }
 
+    /**
+     * Returns the identifier of this node in the cluster.
+     *
+     * @return the id of this node.
+     */
+    @JsonIgnore
+    public long getId() {
+        return this.id;
+    }
+
     /**
      * Returns the amount of GPU resources.
      *
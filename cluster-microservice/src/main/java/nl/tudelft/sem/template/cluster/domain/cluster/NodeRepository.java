@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.cluster.domain.cluster;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -21,6 +22,15 @@ public interface NodeRepository extends JpaRepository<Node, Long> {
      */
     Node findByUrl(String url);
 
+    /**
+     * Finds and returns all nodes found at any of the given urls.
+     *
+     * @param urls the urls to find the nodes by.
+     *
+     * @return a list of the nodes found, in no particular order.
+     */
+    List<Node> findByUrlIn(Collection<String> urls);
+
     /**
      * Checks if a node exists with the given url.
      *
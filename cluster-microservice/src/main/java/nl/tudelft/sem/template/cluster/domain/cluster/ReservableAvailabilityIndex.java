@@ -0,0 +1,20 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import java.time.LocalDate;
+
+/**
+ * An availability index over a snapshot of the available resources, in which jobs can be placed tentatively, as the
+ * batch scheduling strategies do. Reserving in the snapshot does not affect the schedule or the capacity calendar.
+ */
+public interface ReservableAvailabilityIndex extends AvailabilityIndex {
+
+    /**
+     * Subtracts the resources required by the job from the resources available on the given day, so that later
+     * queries take the job into account.
+     *
+     * @param date the day on which the job is placed.
+     * @param job the job placed on that day.
+     */
+    void reserve(LocalDate date, Job job);
+
+}
@@ -0,0 +1,64 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The total resources reserved by the jobs of one faculty on one day, i.e. the sum of the jobs in the schedule table
+ * with that facultyId and scheduledFor. The table is kept up to date in the same transaction as every change to the
+ * schedule (see ReservedResourcesListener), so reading it does not have to aggregate the schedule.
+ */
+@Entity
+@Table(name = "reserved_per_faculty_day",
+        indexes = @Index(name = "idx_reserved_per_faculty_day_scheduled_for", columnList = "scheduledFor"))
+@IdClass(ReservedResources.Key.class)
+@Getter
+@NoArgsConstructor
+public class ReservedResources {
+
+    @Id
+    @Column(name = "facultyId", nullable = false)
+    private String facultyId;
+
+    @Id
+    @Column(name = "scheduledFor", nullable = false, columnDefinition = "DATE")
+    private LocalDate scheduledFor;
+
+    @Column(name = "cpuResources", nullable = false)
+    private double cpuResources;
+
+    @Column(name = "gpuResources", nullable = false)
+    private double gpuResources;
+
+    @Column(name = "memoryResources", nullable = false)
+    private double memoryResources;
+
+    /**
+     * Number of jobs the resources are reserved by, so the row can be removed once the last of them is.
+     */
+    @Column(name = "jobs", nullable = false)
+    private long jobs;
+
+    /**
+     * The primary key of the table: a faculty and a day.
+     */
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private String facultyId;
+        private LocalDate scheduledFor;
+    }
+}
@@ -0,0 +1,103 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * A DDD repository for querying the resources reserved per faculty per day. The rows are written by the
+ * ReservedResourcesService only; the queries read them by primary key (facultyId, scheduledFor) or by the index on
+ * scheduledFor. The warnings have been suppressed because the String literals are in queries and thus should not be
+ * using a variable.
+ */
+@Repository
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public interface ReservedResourcesRepository extends JpaRepository<ReservedResources, ReservedResources.Key> {
+
+    /**
+     * For each day in the scheduler (including the past) and for each faculty, returns the total number of resources
+     * that have already been reserved.
+     *
+     * @return list of FacultyDatedTotalResources, sorted by facultyId and date.
+     */
+    @Query(nativeQuery = true,
+            value = "SELECT r.faculty_id,"
+                    + " r.scheduled_for AS Scheduled_Date,"
+                    + " r.cpu_resources AS Cpu_Resources,"
+                    + " r.gpu_resources AS Gpu_Resources,"
+                    + " r.memory_resources AS Memory_Resources"
+                    + " FROM reserved_per_faculty_day r ORDER BY r.faculty_id, r.scheduled_for")
+    List<FacultyDatedTotalResources> findAllReservedResources();
+
+    /**
+     * Returns the resources reserved by each faculty on the given day.
+     *
+     * @param date the day to find the reserved resources on.
+     *
+     * @return list of FacultyDatedTotalResources, sorted by facultyId.
+     */
+    @Query(nativeQuery = true,
+            value = "SELECT r.faculty_id,"
+                    + " r.scheduled_for AS Scheduled_Date,"
+                    + " r.cpu_resources AS Cpu_Resources,"
+                    + " r.gpu_resources AS Gpu_Resources,"
+                    + " r.memory_resources AS Memory_Resources"
+                    + " FROM reserved_per_faculty_day r WHERE r.scheduled_for = :date ORDER BY r.faculty_id")
+    List<FacultyDatedTotalResources> findReservedResourcesOn(@Param("date") LocalDate date);
+
+    /**
+     * Returns the resources reserved by each faculty on each day between the two dates, inclusive.
+     *
+     * @param from the first day.
+     * @param until the last day.
+     *
+     * @return list of FacultyDatedTotalResources, sorted by date and facultyId.
+     */
+    @Query(nativeQuery = true,
+            value = "SELECT r.faculty_id,"
+                    + " r.scheduled_for AS Scheduled_Date,"
+                    + " r.cpu_resources AS Cpu_Resources,"
+                    + " r.gpu_resources AS Gpu_Resources,"
+                    + " r.memory_resources AS Memory_Resources"
+                    + " FROM reserved_per_faculty_day r WHERE r.scheduled_for BETWEEN :from AND :until"
+                    + " ORDER BY r.scheduled_for, r.faculty_id")
+    List<FacultyDatedTotalResources> findReservedResourcesBetween(@Param("from") LocalDate from,
+                                                                  @Param("until") LocalDate until);
+
+    /**
+     * Returns the resources reserved by the given faculty on each day.
+     *
+     * @param facultyId the faculty to find the reserved resources of.
+     *
+     * @return list of FacultyDatedTotalResources, sorted by date.
+     */
+    @Query(nativeQuery = true,
+            value = "SELECT r.faculty_id,"
+                    + " r.scheduled_for AS Scheduled_Date,"
+                    + " r.cpu_resources AS Cpu_Resources,"
+                    + " r.gpu_resources AS Gpu_Resources,"
+                    + " r.memory_resources AS Memory_Resources"
+                    + " FROM reserved_per_faculty_day r WHERE r.faculty_id = :facultyId ORDER BY r.scheduled_for")
+    List<FacultyDatedTotalResources> findReservedResourcesOf(@Param("facultyId") String facultyId);
+
+    /**
+     * Returns the resources reserved by the given faculty on the given day, if any.
+     *
+     * @param facultyId the faculty to find the reserved resources of.
+     * @param date the day to find the reserved resources on.
+     *
+     * @return a list of at most one FacultyDatedTotalResources.
+     */
+    @Query(nativeQuery = true,
+            value = "SELECT r.faculty_id,"
+                    + " r.scheduled_for AS Scheduled_Date,"
+                    + " r.cpu_resources AS Cpu_Resources,"
+                    + " r.gpu_resources AS Gpu_Resources,"
+                    + " r.memory_resources AS Memory_Resources"
+                    + " FROM reserved_per_faculty_day r WHERE r.faculty_id = :facultyId AND r.scheduled_for = :date")
+    List<FacultyDatedTotalResources> findReservedResourcesOf(@Param("facultyId") String facultyId,
+                                                             @Param("date") LocalDate date);
+}
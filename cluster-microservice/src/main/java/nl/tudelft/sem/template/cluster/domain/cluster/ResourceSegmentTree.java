@@ -0,0 +1,151 @@
+package nl.tudelft.sem.template.cluster.domain.cluster;
+
+import java.util.Arrays;
+
+/**
+ * A segment tree over a sequence of slots, each holding a cpu, gpu and memory value. Every node of the tree stores the
+ * maximum of each of the three values over its range, which allows finding the first or last slot in a range whose
+ * values are all at least the given thresholds without visiting every slot. Subtrees whose maxima are below any
+ * threshold are skipped entirely; when all three dimensions peak on the same slots this takes O(log n), otherwise the
+ * search may have to descend into several subtrees before finding a slot that satisfies all three at once.
+ */
+public class ResourceSegmentTree {
+
+    /**
+     * Number of leaves in the tree, a power of two.
+     */
+    private final int size;
+
+    /**
+     * Number of slots actually in use. Leaves beyond this never match any query.
+     */
+    private final int length;
+
+    private final double[] cpu;
+    private final double[] gpu;
+    private final double[] memory;
+
+    /**
+     * Creates a tree with the given number of slots, all holding the same initial value in every dimension.
+     *
+     * @param length the number of slots.
+     * @param initialValue the initial cpu, gpu and memory value of every slot.
+     */
+    public ResourceSegmentTree(int length, double initialValue) {
+        int leaves = 1;
+        while (leaves < length) {
+            leaves <<= 1;
+        }
+        this.size = leaves;
+        this.length = length;
+        this.cpu = new double[2 * leaves];
+        this.gpu = new double[2 * leaves];
+        this.memory = new double[2 * leaves];
+        Arrays.fill(this.cpu, Double.NEGATIVE_INFINITY);
+        Arrays.fill(this.gpu, Double.NEGATIVE_INFINITY);
+        Arrays.fill(this.memory, Double.NEGATIVE_INFINITY);
+        Arrays.fill(this.cpu, leaves, leaves + length, initialValue);
+        Arrays.fill(this.gpu, leaves, leaves + length, initialValue);
+        Arrays.fill(this.memory, leaves, leaves + length, initialValue);
+        for (int node = leaves - 1; node >= 1; --node) {
+            this.recompute(node);
+        }
+    }
+
+    public int getLength() {
+        return this.length;
+    }
+
+    /**
+     * Sets the values of a slot and updates the maxima of all its ancestors.
+     *
+     * @param index the slot to update.
+     * @param cpuValue the new cpu value.
+     * @param gpuValue the new gpu value.
+     * @param memoryValue the new memory value.
+     */
+    public void set(int index, double cpuValue, double gpuValue, double memoryValue) {
+        int node = this.size + index;
+        this.cpu[node] = cpuValue;
+        this.gpu[node] = gpuValue;
+        this.memory[node] = memoryValue;
+        for (node >>= 1; node >= 1; node >>= 1) {
+            this.recompute(node);
+        }
+    }
+
+    /**
+     * Finds the first slot in the given range whose values are all at least the given thresholds.
+     *
+     * @param from the first slot of the range, inclusive.
+     * @param to the last slot of the range, inclusive.
+     * @param minCpu the cpu threshold.
+     * @param minGpu the gpu threshold.
+     * @param minMemory the memory threshold.
+     *
+     * @return the index of the first matching slot, or -1 if there is none.
+     */
+    public int findFirst(int from, int to, double minCpu, double minGpu, double minMemory) {
+        if (from > to) {
+            return -1;
+        }
+        return this.findFirst(1, 0, this.size - 1, from, to, new double[] {minCpu, minGpu, minMemory});
+    }
+
+    /**
+     * Finds the last slot in the given range whose values are all at least the given thresholds.
+     *
+     * @param from the first slot of the range, inclusive.
+     * @param to the last slot of the range, inclusive.
+     * @param minCpu the cpu threshold.
+     * @param minGpu the gpu threshold.
+     * @param minMemory the memory threshold.
+     *
+     * @return the index of the last matching slot, or -1 if there is none.
+     */
+    public int findLast(int from, int to, double minCpu, double minGpu, double minMemory) {
+        if (from > to) {
+            return -1;
+        }
+        return this.findLast(1, 0, this.size - 1, from, to, new double[] {minCpu, minGpu, minMemory});
+    }
+
+    private int findFirst(int node, int left, int right, int from, int to, double[] thresholds) {
+        if (right < from || left > to || !this.canContainMatch(node, thresholds)) {
+            return -1;
+        }
+        if (left == right) {
+            return left;
+        }
+        int middle = (left + right) >>> 1;
+        int found = this.findFirst(2 * node, left, middle, from, to, thresholds);
+        return found != -1 ? found : this.findFirst(2 * node + 1, middle + 1, right, from, to, thresholds);
+    }
+
+    private int findLast(int node, int left, int right, int from, int to, double[] thresholds) {
+        if (right < from || left > to || !this.canContainMatch(node, thresholds)) {
+            return -1;
+        }
+        if (left == right) {
+            return left;
+        }
+        int middle = (left + right) >>> 1;
+        int found = this.findLast(2 * node + 1, middle + 1, right, from, to, thresholds);
+        return found != -1 ? found : this.findLast(2 * node, left, middle, from, to, thresholds);
+    }
+
+    /**
+     * Whether some slot below the node may satisfy all thresholds. For a leaf this is exact.
+     */
+    private boolean canContainMatch(int node, double[] thresholds) {
+        return this.cpu[node] >= thresholds[0]
+                && this.gpu[node] >= thresholds[1]
+                && this.memory[node] >= thresholds[2];
+    }
+
+    private void recompute(int node) {
+        this.cpu[node] = Math.max(this.cpu[2 * node], this.cpu[2 * node + 1]);
+        this.gpu[node] = Math.max(this.gpu[2 * node], this.gpu[2 * node + 1]);
+        this.memory[node] = Math.max(this.memory[2 * node], this.memory[2 * node + 1]);
+    }
+}
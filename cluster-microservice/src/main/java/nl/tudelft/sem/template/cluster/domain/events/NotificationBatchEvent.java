@@ -0,0 +1,20 @@
+package nl.tudelft.sem.template.cluster.domain.events;
+
+import java.util.List;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * An event carrying several notifications that are to be sent out together, e.g. for all jobs of a batch request.
+ */
+@Getter
+public class NotificationBatchEvent extends ApplicationEvent {
+
+    public static final long serialVersionUID = -213769421;
+    private final List<NotificationEvent> notifications;
+
+    public NotificationBatchEvent(Object source, List<NotificationEvent> notifications) {
+        super(source);
+        this.notifications = notifications;
+    }
+}
@@ -0,0 +1,23 @@
+package nl.tudelft.sem.template.cluster.domain.notifications;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * A DDD repository for the notifications waiting to be delivered to the users microservice.
+ */
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<OutboxNotification, Long> {
+
+    /**
+     * Looks for the oldest notifications whose delivery is due at the given time.
+     *
+     * @param now the current time, in milliseconds since the epoch.
+     * @param pageable the maximum number of notifications to return.
+     *
+     * @return the notifications due for delivery, oldest first.
+     */
+    List<OutboxNotification> findByNextAttemptAtLessThanEqualOrderByIdAsc(long now, Pageable pageable);
+}
@@ -0,0 +1,78 @@
+package nl.tudelft.sem.template.cluster.domain.notifications;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import nl.tudelft.sem.template.cluster.models.NotificationRequestModel;
+
+/**
+ * A notification that is waiting to be delivered to the users microservice. It stays in the outbox until the users
+ * microservice has confirmed receiving it, so every notification is delivered at least once.
+ */
+@Entity
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_next_attempt", columnList = "nextAttemptAt"))
+@Getter
+@Setter
+public class OutboxNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "id", nullable = false, unique = true)
+    private long id;
+
+    @Column(name = "notificationDate")
+    private String date;
+
+    @Column(name = "notificationType")
+    private String type;
+
+    @Column(name = "notificationState")
+    private String state;
+
+    @Column(name = "message")
+    private String message;
+
+    @Column(name = "netId")
+    private String netId;
+
+    /**
+     * Number of failed attempts to deliver this notification so far.
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * The earliest time, in milliseconds since the epoch, at which delivery is (re)tried.
+     */
+    @Column(name = "nextAttemptAt", nullable = false)
+    private long nextAttemptAt;
+
+    public OutboxNotification() {
+    }
+
+    /**
+     * Creates an outbox entry for the given notification, to be delivered as soon as possible.
+     *
+     * @param notification the notification to deliver.
+     * @param now the current time, in milliseconds since the epoch.
+     */
+    public OutboxNotification(NotificationRequestModel notification, long now) {
+        this.date = notification.getDate();
+        this.type = notification.getType();
+        this.state = notification.getState();
+        this.message = notification.getMessage();
+        this.netId = notification.getNetId();
+        this.nextAttemptAt = now;
+    }
+
+    public NotificationRequestModel toNotification() {
+        return new NotificationRequestModel(this.date, this.type, this.state, this.message, this.netId);
+    }
+}
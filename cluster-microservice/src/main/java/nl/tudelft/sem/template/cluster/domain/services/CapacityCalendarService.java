@@ -0,0 +1,402 @@
+package nl.tudelft.sem.template.cluster.domain.services;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailabilityIndex;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailabilityTimeline;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
+import nl.tudelft.sem.template.cluster.domain.cluster.CalendarAvailabilityIndex;
+import nl.tudelft.sem.template.cluster.domain.cluster.FacultyCapacityCalendar;
+import nl.tudelft.sem.template.cluster.domain.cluster.FacultyTotalResources;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.JobScheduleRepository;
+import nl.tudelft.sem.template.cluster.domain.cluster.Node;
+import nl.tudelft.sem.template.cluster.domain.cluster.NodeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps a resident calendar of the assigned and reserved resources of every faculty for every day, so that scheduling
+ * and resource lookups do not have to aggregate the schedule and node tables on every call. The calendar is loaded
+ * from the repositories at startup and is afterwards updated incrementally whenever a job or a node is saved or
+ * deleted (see the entity listeners in the listeners package). Changes made within a transaction are only applied
+ * once it commits, so that a rolled back transaction leaves no reservations or releases behind in the calendar.
+ */
+@Service
+public class CapacityCalendarService {
+
+    private final transient NodeRepository nodeRepository;
+    private final transient JobScheduleRepository jobScheduleRepository;
+    private final transient EntityManager entityManager;
+
+    /**
+     * Calendar of each faculty, sorted by facultyId.
+     */
+    private final transient Map<String, FacultyCapacityCalendar> calendars = new ConcurrentSkipListMap<>();
+
+    /**
+     * What each job and node currently contributes to the calendars, so that it can be undone when they change.
+     */
+    private final transient Map<Long, Contribution> jobContributions = new ConcurrentHashMap<>();
+    private final transient Map<Long, Contribution> nodeContributions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates this service object.
+     *
+     * @param nodeRepository the node repository to load the assigned resources from.
+     * @param jobScheduleRepository the schedule repository to load the reserved resources from.
+     * @param entityManager the entity manager to flush before taking a snapshot within a transaction.
+     */
+    @Autowired
+    public CapacityCalendarService(NodeRepository nodeRepository, JobScheduleRepository jobScheduleRepository,
+                                   EntityManager entityManager) {
+        this.nodeRepository = nodeRepository;
+        this.jobScheduleRepository = jobScheduleRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Discards the calendars and rebuilds them from the repositories. Called once at startup.
+     */
+    @PostConstruct
+    public synchronized void reload() {
+        this.calendars.clear();
+        this.jobContributions.clear();
+        this.nodeContributions.clear();
+        this.nodeRepository.findAll().forEach(node -> this.apply(nodeChange(node)));
+        for (Job job : this.jobScheduleRepository.findAll()) {
+            if (job.getFacultyId() != null && job.getScheduledFor() != null) {
+                this.apply(jobChange(job));
+            }
+        }
+    }
+
+    /**
+     * Records that the given job has been saved in the schedule. If the job was already known, its previous
+     * reservation is released first.
+     *
+     * @param job the job that was saved.
+     */
+    public void jobSaved(Job job) {
+        if (job.getFacultyId() == null || job.getScheduledFor() == null) {
+            return;
+        }
+        this.applyOnCommit(jobChange(job));
+    }
+
+    /**
+     * Records that the given job has been deleted from the schedule.
+     *
+     * @param job the job that was deleted.
+     */
+    public void jobRemoved(Job job) {
+        this.applyOnCommit(new Change(true, job.getId(), null));
+    }
+
+    /**
+     * Records that the given node has been saved in the cluster. If the node was already known, its previous
+     * resources are subtracted first.
+     *
+     * @param node the node that was saved.
+     */
+    public void nodeSaved(Node node) {
+        this.applyOnCommit(nodeChange(node));
+    }
+
+    /**
+     * Records that the given node has been removed from the cluster.
+     *
+     * @param node the node that was removed.
+     */
+    public void nodeRemoved(Node node) {
+        this.applyOnCommit(new Change(false, node.getId(), null));
+    }
+
+    /**
+     * Returns all faculties that currently have at least one node assigned, sorted by facultyId.
+     *
+     * @return the list of faculties known to the cluster.
+     */
+    public List<String> getFaculties() {
+        return this.calendars.values().stream()
+                .filter(x -> x.getNumberOfNodes() > 0)
+                .map(FacultyCapacityCalendar::getFacultyId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the resources assigned to each faculty that currently has at least one node assigned.
+     *
+     * @return the assigned resources of each faculty, sorted by facultyId.
+     */
+    public List<FacultyTotalResources> getAssignedResources() {
+        return this.calendars.values().stream()
+                .filter(x -> x.getNumberOfNodes() > 0)
+                .map(FacultyCapacityCalendar::getAssignedResources)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the resources assigned to the given faculty.
+     *
+     * @param facultyId the faculty to find the assigned resources of.
+     *
+     * @return the assigned resources of the faculty, or null if it has no nodes assigned.
+     */
+    public FacultyTotalResources getAssignedResources(String facultyId) {
+        var calendar = this.calendars.get(facultyId);
+        return calendar == null || calendar.getNumberOfNodes() == 0 ? null : calendar.getAssignedResources();
+    }
+
+    /**
+     * Calculates the available resources of the given faculty for each day between the two dates, inclusive.
+     *
+     * @param facultyId the faculty to calculate the available resources for.
+     * @param from the first day.
+     * @param until the last day.
+     *
+     * @return the available resources for each day, in chronological order.
+     */
+    public List<AvailableResourcesForDate> getAvailableResources(String facultyId, LocalDate from, LocalDate until) {
+        // unknown faculties have nothing assigned and nothing reserved; do not store a calendar for them
+        return this.calendars.getOrDefault(facultyId, new FacultyCapacityCalendar(facultyId))
+                .getAvailableResources(from, until);
+    }
+
+    /**
+     * Creates a sparse snapshot of the availability of the given faculty between the two dates, inclusive, holding
+     * an entry for each day with reservations only. Jobs saved or deleted by the current transaction, which are not
+     * part of the calendar until it commits, are already reserved or released in the snapshot. To that end the changes
+     * of the transaction are flushed first.
+     *
+     * @param facultyId the faculty whose availability to copy.
+     * @param from the first day.
+     * @param until the last day.
+     *
+     * @return the timeline of the faculty's availability in that range.
+     */
+    public AvailabilityTimeline getAvailabilityTimeline(String facultyId, LocalDate from, LocalDate until) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // the entity listeners only report saved and deleted jobs once they are flushed
+            this.entityManager.flush();
+        }
+        var timeline = this.calendars.getOrDefault(facultyId, new FacultyCapacityCalendar(facultyId))
+                .getAvailabilityTimeline(from, until);
+        var pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            return timeline;
+        }
+
+        // the last change of each job wins; a removed job has no contribution
+        Map<Long, Contribution> changedJobs = new LinkedHashMap<>();
+        for (Change change : pending.changes) {
+            if (change.job) {
+                changedJobs.put(change.id, change.contribution);
+            }
+        }
+        for (var entry : changedJobs.entrySet()) {
+            var before = this.jobContributions.get(entry.getKey());
+            if (isPartOf(before, facultyId, timeline)) {
+                timeline.release(before.date, before.cpu, before.gpu, before.memory);
+            }
+            var after = entry.getValue();
+            if (isPartOf(after, facultyId, timeline)) {
+                timeline.reserve(after.date, after.cpu, after.gpu, after.memory);
+            }
+        }
+        return timeline;
+    }
+
+    /**
+     * Calculates the available resources of the given faculty on a single day.
+     *
+     * @param facultyId the faculty to calculate the available resources for.
+     * @param date the day to calculate the available resources on.
+     *
+     * @return the available resources on that day.
+     */
+    public AvailableResourcesForDate getAvailableResourcesOn(String facultyId, LocalDate date) {
+        return this.calendars.getOrDefault(facultyId, new FacultyCapacityCalendar(facultyId))
+                .getAvailableResourcesOn(date);
+    }
+
+    /**
+     * Creates an availability index over the calendar of the given faculty between the two dates, inclusive.
+     *
+     * @param facultyId the faculty whose availability to index.
+     * @param from the first day.
+     * @param until the last day.
+     *
+     * @return a live view of the faculty's availability in that range.
+     */
+    public AvailabilityIndex getAvailabilityIndex(String facultyId, LocalDate from, LocalDate until) {
+        return new CalendarAvailabilityIndex(this.calendars.getOrDefault(facultyId, new FacultyCapacityCalendar(facultyId)),
+                from, until);
+    }
+
+    /**
+     * Finds all days, starting with the given one, on which the given faculty has more resources reserved than
+     * assigned.
+     *
+     * @param facultyId the faculty to check.
+     * @param from the first day to check.
+     *
+     * @return the available resources on each overbooked day, in chronological order.
+     */
+    public List<AvailableResourcesForDate> findOverbookedDays(String facultyId, LocalDate from) {
+        var calendar = this.calendars.get(facultyId);
+        return calendar == null ? List.of() : calendar.findOverbookedDays(from);
+    }
+
+    /**
+     * Finds the last day on which any faculty has resources reserved.
+     *
+     * @return the latest reserved day, or null if the schedule is empty.
+     */
+    public LocalDate findLatestReservedDate() {
+        LocalDate latest = null;
+        for (FacultyCapacityCalendar calendar : this.calendars.values()) {
+            var latestForFaculty = calendar.findLatestReservedDate();
+            if (latestForFaculty != null && (latest == null || latestForFaculty.isAfter(latest))) {
+                latest = latestForFaculty;
+            }
+        }
+        return latest;
+    }
+
+    private FacultyCapacityCalendar getOrCreateCalendar(String facultyId) {
+        return this.calendars.computeIfAbsent(facultyId, FacultyCapacityCalendar::new);
+    }
+
+    private static Change jobChange(Job job) {
+        return new Change(true, job.getId(), new Contribution(job.getFacultyId(), job.getScheduledFor(),
+                job.getRequiredCpu(), job.getRequiredGpu(), job.getRequiredMemory()));
+    }
+
+    private static Change nodeChange(Node node) {
+        // a node without a faculty contributes nothing
+        return new Change(false, node.getId(), node.getFacultyId() == null ? null
+                : new Contribution(node.getFacultyId(), null,
+                        node.getCpuResources(), node.getGpuResources(), node.getMemoryResources()));
+    }
+
+    private static boolean isPartOf(Contribution contribution, String facultyId, AvailabilityTimeline timeline) {
+        return contribution != null && contribution.facultyId.equals(facultyId)
+                && !contribution.date.isBefore(timeline.getFirstDate())
+                && !contribution.date.isAfter(timeline.getLastDate());
+    }
+
+    /**
+     * Applies the change right away outside of a transaction, and otherwise queues it until the transaction commits.
+     * The queue of a transaction is discarded when it rolls back.
+     */
+    private void applyOnCommit(Change change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.apply(change);
+            return;
+        }
+        var pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(change);
+    }
+
+    /**
+     * Undoes what the job or node of the change contributed so far, and adds its new contribution, if any.
+     */
+    private void apply(Change change) {
+        var contributions = change.job ? this.jobContributions : this.nodeContributions;
+        if (change.contribution == null) {
+            this.release(contributions.remove(change.id));
+            return;
+        }
+        this.release(contributions.put(change.id, change.contribution));
+        var calendar = this.getOrCreateCalendar(change.contribution.facultyId);
+        if (change.job) {
+            calendar.reserve(change.contribution.date,
+                    change.contribution.cpu, change.contribution.gpu, change.contribution.memory);
+        } else {
+            calendar.addNode(change.contribution.cpu, change.contribution.gpu, change.contribution.memory);
+        }
+    }
+
+    /**
+     * Undoes a contribution of a job (when date is set) or of a node (when date is null).
+     *
+     * @param contribution the contribution to undo, may be null.
+     */
+    private void release(Contribution contribution) {
+        if (contribution == null) {
+            return;
+        }
+        var calendar = this.getOrCreateCalendar(contribution.facultyId);
+        if (contribution.date == null) {
+            calendar.removeNode(contribution.cpu, contribution.gpu, contribution.memory);
+        } else {
+            calendar.release(contribution.date, contribution.cpu, contribution.gpu, contribution.memory);
+        }
+    }
+
+    /**
+     * A job or node that was saved, with its new contribution, or removed, without one.
+     */
+    @AllArgsConstructor
+    private static class Change {
+        private final boolean job;
+        private final long id;
+        private final Contribution contribution;
+    }
+
+    /**
+     * The changes made by a transaction, applied to the calendar once it commits.
+     */
+    private class PendingChanges extends TransactionSynchronizationAdapter {
+        private final List<Change> changes = new ArrayList<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(CapacityCalendarService.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(CapacityCalendarService.this, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            this.changes.forEach(CapacityCalendarService.this::apply);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CapacityCalendarService.this);
+        }
+    }
+
+    /**
+     * The resources that a single job reserves on a day, or that a single node adds to a faculty.
+     */
+    @AllArgsConstructor
+    private static class Contribution {
+        private final String facultyId;
+        private final LocalDate date;
+        private final double cpu;
+        private final double gpu;
+        private final double memory;
+    }
+}
@@ -1,16 +1,25 @@
 package nl.tudelft.sem.template.cluster.domain.services;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
+import nl.tudelft.sem.template.cluster.domain.cluster.EvictionReport;
 import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.Node;
+import nl.tudelft.sem.template.cluster.domain.events.NotificationBatchEvent;
 import nl.tudelft.sem.template.cluster.domain.events.NotificationEvent;
+import nl.tudelft.sem.template.cluster.domain.strategies.EvictionStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.LargestJobsFirstEvictionStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.MinimumDisruptionEvictionStrategy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Getter
 @Service
@@ -25,6 +34,19 @@ public class JobReschedulingService {
 
     private transient JobSchedulingService jobSchedulingService;
 
+    private final transient SchedulingLockService schedulingLockService;
+
+    private final transient TransactionTemplate transactionTemplate;
+
+    /**
+     * Current strategy of selecting the jobs to evict from overbooked days.
+     */
+    private transient EvictionStrategy evictionStrategy;
+
+    /**
+     * What evicting the largest jobs first would move, reported next to the current strategy.
+     */
+    private final transient EvictionStrategy greedyEvictionStrategy = new LargestJobsFirstEvictionStrategy();
 
     /**
      * Constructor for JobReschedulingService that injects all needed services.
@@ -32,137 +54,171 @@ public class JobReschedulingService {
      * @param schedulingDataProcessingService the service providing access to data.
      * @param applicationEventPublisher the event listerner for sending notifications
      * @param jobSchedulingService job scheduling service for scheduling new jobs
+     * @param schedulingLockService the per-faculty locks held while rescheduling
+     * @param transactionManager the transaction manager used to evict and place back jobs atomically
      */
     @Autowired
     public JobReschedulingService(SchedulingDataProcessingService schedulingDataProcessingService,
                                   ApplicationEventPublisher applicationEventPublisher,
-                                  JobSchedulingService jobSchedulingService) {
+                                  JobSchedulingService jobSchedulingService,
+                                  SchedulingLockService schedulingLockService,
+                                  PlatformTransactionManager transactionManager) {
         this.jobSchedulingService = jobSchedulingService;
         this.schedulingDataProcessingService = schedulingDataProcessingService;
         this.publisher = applicationEventPublisher;
-    }
+        this.schedulingLockService = schedulingLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
 
+        // default eviction strategy: move as few jobs as possible
+        this.evictionStrategy = new MinimumDisruptionEvictionStrategy();
+    }
 
+    /**
+     * Changes the eviction strategy to the provided one.
+     *
+     * @param evictionStrategy the strategy by which this service will select the jobs to evict from overbooked days.
+     */
+    public void changeEvictionStrategy(EvictionStrategy evictionStrategy) {
+        this.evictionStrategy = evictionStrategy;
+    }
 
+    /**
+     * This is triggered by the NodesWereRemovedEvent, once the removed nodes are no longer part of the cluster. Only
+     * the faculties whose assigned resources actually shrank, i.e. which lost a node with any resources, can have
+     * become overbooked, so only those are rescheduled.
+     *
+     * @param removedNodes the nodes that were removed from the cluster.
+     *
+     * @return how many jobs were moved by the current eviction strategy compared to evicting the largest jobs first.
+     */
+    public EvictionReport rescheduleJobsAfterNodesWereRemoved(List<Node> removedNodes) {
+        var faculties = removedNodes.stream()
+                .filter(x -> x.getFacultyId() != null)
+                .filter(x -> x.getCpuResources() > 0 || x.getGpuResources() > 0 || x.getMemoryResources() > 0)
+                .map(Node::getFacultyId)
+                .distinct()
+                .collect(Collectors.toList());
+        return this.rescheduleJobsForFacultiesWithRemovedNodes(faculties);
+    }
 
     /**
-     * This is triggered by the NodesWereRemovedEvent. The listener extracts all facultyIds from the removed nodes and
-     * sends the unique values to this method. This method then goes over each of the faculties, checking whether the
-     * available resources for any day have gone below zero, which indicates that rescheduling is necessary. Then,
-     * for each such day, jobs are removed and put in a temporary list. Once available resources are non-negative again,
-     * the method moves on to other days and then faculties. At the end of these loops, there should no longer be days
-     * when more resources are reserved than available.
-     * After that, the method iterates over temp, and for each job
-     * checks whether it can ever be scheduled (i.e., if its resource requirement does not exceed its faculty's new
-     * total assigned resources after removal of some nodes.) If it cannot, it is dropped and a notification sent to the
-     * user who requested the job. If it can be, scheduleJob is called to insert the job back into the schedule. A delay
-     * notification is sent to the user along with the new scheduled date.
+     * Goes over each of the given faculties, looking up the days on which more resources are reserved than are still
+     * assigned to it. These are read from the capacity calendar, so days that are not overbooked are never touched.
+     * Then only the jobs of those days are loaded, in a single query, and for each such day the current eviction
+     * strategy selects jobs to evict so that the available resources are non-negative again. All selected jobs are
+     * deleted from the schedule in one statement, after which there are no longer days when more resources are
+     * reserved than available.
+     * After that, the evicted jobs which can never be scheduled again (i.e., whose resource requirement exceeds their
+     * faculty's new total assigned resources) are dropped, and the others are placed back into the schedule on a
+     * single snapshot of their faculty's available resources. The jobs are deleted and placed back in a single
+     * transaction, so that no evicted job is lost if placing them fails. Once it has committed, a delay or drop
+     * notification is sent to each affected user, all at once.
+     * The locks of all given faculties are held throughout, so that no new job is placed into the capacity that is
+     * being freed for the rescheduled ones.
      *
      * @param faculties all the faculties who have lost nodes in the removal that triggered the event.
+     *
+     * @return how many jobs were moved by the current eviction strategy compared to evicting the largest jobs first.
      */
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
-    public void rescheduleJobsForFacultiesWithRemovedNodes(List<String> faculties) {
-        // temp
-        List<Job> jobsToReschedule = new ArrayList<>();
-
-        // accessing repository only once to optimize
-        List<Job> fullSchedule = this.schedulingDataProcessingService.getAllJobsFromSchedule();
+    public EvictionReport rescheduleJobsForFacultiesWithRemovedNodes(List<String> faculties) {
+        return this.schedulingLockService.runLockedForFaculties(faculties,
+                () -> this.rescheduleJobsWhileLocked(faculties));
+    }
 
-        // available resources for each faculty
+    private EvictionReport rescheduleJobsWhileLocked(List<String> faculties) {
+        var report = new EvictionReport(this.evictionStrategy.getClass().getSimpleName(), 0, 0, 0, 0);
+        List<Job> jobsToReschedule = new ArrayList<>();
         for (String facultyId : faculties) {
-            // this list will only contain dates with the resources, when at least one resource's balance is negative.
-            // this means that some jobs need to be rescheduled
-            var resourcesForDaysWhereReschedulingNecessary =
-                    this.schedulingDataProcessingService
-                            .getAvailableResourcesForGivenFacultyUntilDay(facultyId,
-                                    this.schedulingDataProcessingService.findLatestDateWithReservedResources()).stream()
-                            .filter(x -> x.getAvailableCpu() < 0
-                                    || x.getAvailableGpu() < 0
-                                    || x.getAvailableMemory() < 0)
-                            .collect(Collectors.toList());
+            var overbookedDays = this.schedulingDataProcessingService.getOverbookedDaysForGivenFaculty(facultyId);
 
             // this faculty needs no rescheduling - all the jobs are still within available resources
-            if (!resourcesForDaysWhereReschedulingNecessary.isEmpty()) {
-                // go over all days with insufficient resources
-                jobsToReschedule.addAll(removeScheduledJobs(
-                        fullSchedule, resourcesForDaysWhereReschedulingNecessary, facultyId));
+            if (overbookedDays.isEmpty()) {
+                continue;
             }
-        }
-        rescheduleJobs(jobsToReschedule);
 
+            var jobsOnOverbookedDays = this.schedulingDataProcessingService.getJobsForGivenFacultyOnDays(facultyId,
+                    overbookedDays.stream().map(AvailableResourcesForDate::getDate).collect(Collectors.toList()));
+            var jobsToEvict = this.selectJobsToEvict(jobsOnOverbookedDays, overbookedDays);
+            var greedyJobsToEvict = this.selectJobsToEvict(this.greedyEvictionStrategy, jobsOnOverbookedDays,
+                    overbookedDays);
+            jobsToReschedule.addAll(jobsToEvict);
+
+            report.setJobsMoved(report.getJobsMoved() + jobsToEvict.size());
+            report.setVolumeMoved(report.getVolumeMoved()
+                    + jobsToEvict.stream().mapToDouble(EvictionStrategy::volumeOf).sum());
+            report.setGreedyJobsMoved(report.getGreedyJobsMoved() + greedyJobsToEvict.size());
+            report.setGreedyVolumeMoved(report.getGreedyVolumeMoved()
+                    + greedyJobsToEvict.stream().mapToDouble(EvictionStrategy::volumeOf).sum());
+        }
 
+        if (jobsToReschedule.isEmpty()) {
+            return report;
+        }
 
+        var notifications = this.transactionTemplate.execute(status -> {
+            this.schedulingDataProcessingService.deleteJobsInBatch(jobsToReschedule);
+            return this.rescheduleJobs(jobsToReschedule);
+        });
+        if (!notifications.isEmpty()) {
+            publisher.publishEvent(new NotificationBatchEvent(this, notifications));
+        }
+        return report;
     }
 
     /**
-     * This is a helper function for rescheduling jobs where nodes were removed,
-     * it removes jobs until there are enough resources.
-     * And gives back a list of the removed jobs.
+     * This is a helper function for rescheduling jobs where nodes were removed. For each overbooked day, it selects
+     * the jobs to evict with the current eviction strategy. The jobs are not removed from the schedule.
+     *
+     * @param jobsOnOverbookedDays the jobs scheduled on the overbooked days.
+     * @param overbookedDays the available resources on each overbooked day, at least one of which is negative.
      *
-     * @param fullSchedule a schedule of all the jobs that are already scheduled
-     * @param resourcesForDaysWhereReschedulingNecessary A list of the resources for the certain days
-     * @param facultyId the faculty at hand
      * @return List of jobs that need to be rescheduled
      */
-    public List<Job> removeScheduledJobs(List<Job> fullSchedule, List<AvailableResourcesForDate>
-            resourcesForDaysWhereReschedulingNecessary, String facultyId) {
-        List<Job> jobsToReschedule = new ArrayList<>();
-        for (AvailableResourcesForDate lackingResources : resourcesForDaysWhereReschedulingNecessary) {
-            // get jobs scheduled for that date and faculty sorted descendingly by total cost
-            var jobsOnProblematicDay = fullSchedule.stream()
-                    .filter(x -> x.getFacultyId().equals(facultyId))
-                    .filter(x -> x.getScheduledFor().equals(lackingResources.getDate()))
-                    .sorted(Comparator.comparingDouble(
-                            (Job x) -> x.getRequiredCpu() + x.getRequiredGpu() + x.getRequiredMemory()
-                    ).reversed())
-                    .collect(Collectors.toList());
-
-            // remove until all available values are non-negative
-            double cpu = lackingResources.getAvailableCpu();
-            double gpu = lackingResources.getAvailableGpu();
-            double memory = lackingResources.getAvailableMemory();
-            while (!jobsOnProblematicDay.isEmpty() && (cpu < 0 || gpu < 0 || memory < 0)) {
-                var removedJob = jobsOnProblematicDay.remove(0); // the most costly job
-                this.schedulingDataProcessingService.deleteJob(removedJob);
-
-                // append to temp to reschedule
-                jobsToReschedule.add(removedJob);
-
-                // update resources
-                cpu += removedJob.getRequiredCpu();
-                gpu += removedJob.getRequiredGpu();
-                memory += removedJob.getRequiredMemory();
-            }
+    public List<Job> selectJobsToEvict(List<Job> jobsOnOverbookedDays, List<AvailableResourcesForDate> overbookedDays) {
+        return this.selectJobsToEvict(this.evictionStrategy, jobsOnOverbookedDays, overbookedDays);
+    }
+
+    private List<Job> selectJobsToEvict(EvictionStrategy evictionStrategy, List<Job> jobsOnOverbookedDays,
+                                        List<AvailableResourcesForDate> overbookedDays) {
+        Map<LocalDate, List<Job>> jobsPerDay = jobsOnOverbookedDays.stream()
+                .collect(Collectors.groupingBy(Job::getScheduledFor));
+
+        List<Job> jobsToEvict = new ArrayList<>();
+        for (AvailableResourcesForDate lackingResources : overbookedDays) {
+            jobsToEvict.addAll(evictionStrategy.selectJobsToEvict(
+                    jobsPerDay.getOrDefault(lackingResources.getDate(), List.of()), lackingResources));
         }
-        return jobsToReschedule;
+        return jobsToEvict;
     }
 
-    /** This method is a helper function for rescheduling jobs if nodes are removed.
-     * It also sends a notification on the job status.
+    /** This method is a helper function for rescheduling jobs if nodes are removed. The jobs that can still be
+     * scheduled are placed in the given order, on a single snapshot of the available resources of each faculty, the
+     * others are dropped.
      *
-     * @param jobsToReschedule A list of jobs to schedule agian.
+     * @param jobsToReschedule A list of jobs, no longer in the schedule, to schedule again.
+     *
+     * @return the notification on the status of each job, to be sent once the transaction has committed.
      */
-    public void rescheduleJobs(List<Job> jobsToReschedule) {
-
+    private List<NotificationEvent> rescheduleJobs(List<Job> jobsToReschedule) {
+        List<NotificationEvent> notifications = new ArrayList<>(jobsToReschedule.size());
+        List<Job> jobsThatCanBeScheduled = new ArrayList<>(jobsToReschedule.size());
         for (Job jobToReschedule : jobsToReschedule) {
             // check if job can ever be scheduled, drop if no
-            if (!jobSchedulingService.checkIfJobCanBeScheduled(jobToReschedule)) {
-                //send notification of dropping
-                publisher.publishEvent(
-                        new NotificationEvent(this, jobToReschedule.getScheduledFor().toString(), "JOB",
-                                "DROPPED", "Your job has been dropped by the cluster!"
-                                + " We are sorry for the inconvenience.", jobToReschedule.getUserNetId()
-                        ));
-                continue;
+            if (jobSchedulingService.checkIfJobCanBeScheduled(jobToReschedule)) {
+                jobsThatCanBeScheduled.add(jobToReschedule);
+            } else {
+                notifications.add(new NotificationEvent(this, jobToReschedule.getScheduledFor().toString(), "JOB",
+                        "DROPPED", "Your job has been dropped by the cluster!"
+                        + " We are sorry for the inconvenience.", jobToReschedule.getUserNetId()));
             }
+        }
 
-            // reschedule if yes
-            jobSchedulingService.scheduleJob(jobToReschedule);
-            publisher.publishEvent(
-                    new NotificationEvent(this, jobToReschedule.getScheduledFor().toString(), "JOB",
-                            "RESCHEDULED", "Your job has been rescheduled by the cluster!",
-                            jobToReschedule.getUserNetId()
-                    ));
+        // reschedule the others
+        jobSchedulingService.scheduleJobsInOrder(jobsThatCanBeScheduled);
+        for (Job rescheduledJob : jobsThatCanBeScheduled) {
+            notifications.add(new NotificationEvent(this, rescheduledJob.getScheduledFor().toString(), "JOB",
+                    "RESCHEDULED", "Your job has been rescheduled by the cluster!", rescheduledJob.getUserNetId()));
         }
+        return notifications;
     }
 }
@@ -3,15 +3,27 @@ package nl.tudelft.sem.template.cluster.domain.services;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import lombok.Getter;
-import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailabilityTimeline;
+import nl.tudelft.sem.template.cluster.domain.cluster.FacultyAssignedResources;
+import nl.tudelft.sem.template.cluster.domain.cluster.FacultyTotalResources;
 import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.events.NotificationBatchEvent;
 import nl.tudelft.sem.template.cluster.domain.events.NotificationEvent;
 import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
+import nl.tudelft.sem.template.cluster.domain.strategies.BatchSchedulingStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.EarliestPossibleDateStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.GreedyBatchSchedulingStrategy;
 import nl.tudelft.sem.template.cluster.domain.strategies.JobSchedulingStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.LatestAcceptableDateStrategy;
 import nl.tudelft.sem.template.cluster.domain.strategies.LeastBusyDateStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.VectorPackingBatchStrategy;
+import nl.tudelft.sem.template.cluster.models.BatchSchedulingReportResponseModel;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
@@ -19,6 +31,8 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * This service handles scheduling a job according to the current strategy.
@@ -30,6 +44,11 @@ import org.springframework.stereotype.Service;
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
 public class JobSchedulingService {
 
+    /**
+     * Number of jobs read, and notifications sent, at once by the midnight notifications.
+     */
+    private static final int NOTIFICATION_PAGE_SIZE = 500;
+
     /**
      * Provides access to information related to the resources.
      */
@@ -45,6 +64,11 @@ public class JobSchedulingService {
      */
     private transient JobSchedulingStrategy strategy;
 
+    /**
+     * Current strategy of scheduling batches of jobs.
+     */
+    private transient BatchSchedulingStrategy batchStrategy;
+
     /**
      * The provider for dates.
      */
@@ -52,22 +76,38 @@ public class JobSchedulingService {
 
     private final transient ApplicationEventPublisher publisher;
 
+    /**
+     * Keeps jobs of the same faculty from being placed concurrently on the basis of the same free capacity.
+     */
+    private final transient SchedulingLockService schedulingLockService;
+
+    private final transient TransactionTemplate transactionTemplate;
+
     /**
      * Creates a new JobSchedulingService object and injects the repository.
      *
      * @param schedulingDataProcessingService the service providing access to data.
+     * @param schedulingLockService the per-faculty locks held while scheduling.
+     * @param transactionManager the transaction manager used to save batches of jobs atomically.
      */
     @Autowired
     public JobSchedulingService(SchedulingDataProcessingService schedulingDataProcessingService, DateProvider dateProvider,
                                 ApplicationEventPublisher publisher,
-                                NodeDataProcessingService nodeDataProcessingService) {
+                                NodeDataProcessingService nodeDataProcessingService,
+                                SchedulingLockService schedulingLockService,
+                                PlatformTransactionManager transactionManager) {
         this.dateProvider = dateProvider;
         this.publisher = publisher;
         this.schedulingDataProcessingService = schedulingDataProcessingService;
         this.nodeDataProcessingService = nodeDataProcessingService;
+        this.schedulingLockService = schedulingLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
 
         // default strategy: first come, first served; the earliest possible date
         this.strategy = new LeastBusyDateStrategy();
+
+        // default batch strategy: pack the whole batch jointly
+        this.batchStrategy = new VectorPackingBatchStrategy();
     }
 
     /**
@@ -79,40 +119,42 @@ public class JobSchedulingService {
         this.strategy = strategy;
     }
 
+    /**
+     * Changes the batch scheduling strategy to the provided one.
+     *
+     * @param batchStrategy the strategy by which this service will be scheduling batches of jobs.
+     */
+    public void changeBatchSchedulingStrategy(BatchSchedulingStrategy batchStrategy) {
+        this.batchStrategy = batchStrategy;
+    }
+
     /**
      * This method sends notifications every midnight: to all users whose jobs are in the schedule for the previous day,
-     * it sends a FINISHED notification, while those that are scheduled for today get a STARTED notification.
+     * it sends a FINISHED notification, while those that are scheduled for today get a STARTED notification. Only the
+     * jobs of these two days are read, a page at a time, and the notifications of each page are sent together.
      */
     @Scheduled(cron = "0 0 0 * * *")
     @Async
     public void sendNotificationsOfStartedAndCompletedJobs() {
-        // get all jobs for yesterday
-        var jobsCompleted = this.schedulingDataProcessingService.getAllJobsFromSchedule().stream()
-                .filter(x -> x.getScheduledFor().isEqual(dateProvider.getCurrentDate().minusDays(1)))
-                .collect(Collectors.toList());
-
-        // send notifications of completion
-        for (Job completed : jobsCompleted) {
-            publisher.publishEvent(new NotificationEvent(
-                    this, dateProvider.getCurrentDate().minusDays(1).toString(),
-                    "JOB", "COMPLETED", "The job you requested has been completed!",
-                    completed.getUserNetId()
-            ));
-        }
+        // send notifications of completion for all jobs of yesterday
+        var yesterday = dateProvider.getCurrentDate().minusDays(1);
+        this.schedulingDataProcessingService.forEachPageOfJobsScheduledFor(yesterday, NOTIFICATION_PAGE_SIZE,
+                jobsCompleted -> this.publishNotifications(jobsCompleted, yesterday, "COMPLETED",
+                        "The job you requested has been completed!"));
+
+        // send notifications of commencement for all jobs of today
+        var today = dateProvider.getCurrentDate();
+        this.schedulingDataProcessingService.forEachPageOfJobsScheduledFor(today, NOTIFICATION_PAGE_SIZE,
+                jobsStarted -> this.publishNotifications(jobsStarted, today, "STARTED",
+                        "The job you requested has been started!"));
+    }
 
-        // get all jobs for today
-        var jobsStarted = this.schedulingDataProcessingService.getAllJobsFromSchedule().stream()
-                .filter(x -> x.getScheduledFor().isEqual(dateProvider.getCurrentDate()))
-                .collect(Collectors.toList());
-
-        // send notifications of commencement
-        for (Job started : jobsStarted) {
-            publisher.publishEvent(new NotificationEvent(
-                    this, dateProvider.getCurrentDate().toString(),
-                    "JOB", "STARTED", "The job you requested has been started!",
-                    started.getUserNetId()
-            ));
+    private void publishNotifications(List<Job> jobs, LocalDate date, String state, String message) {
+        List<NotificationEvent> notifications = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            notifications.add(new NotificationEvent(this, date.toString(), "JOB", state, message, job.getUserNetId()));
         }
+        publisher.publishEvent(new NotificationBatchEvent(this, notifications));
     }
 
     /**
@@ -135,33 +177,188 @@ public class JobSchedulingService {
 
     /**
      * Uses the current scheduling strategy to schedule the given job. Persists the scheduled job in the repository.
+     * Holds the lock of the job's faculty from reading the available resources until the job is saved.
      *
      * @param job the job to be scheduled.
      *
      * @return the date the job is scheduled for.
      */
     public LocalDate scheduleJob(Job job) {
-        // available resources from tomorrow to day after last scheduled job, inclusive
-        // this way, since a check whether this job can be scheduled has been passed, the job can always be fit into
-        // the schedule
+        return this.schedulingLockService.runLockedForFaculty(job.getFacultyId(), () -> {
+            // available resources from tomorrow to day after last scheduled job, inclusive
+            // this way, since a check whether this job can be scheduled has been passed, the job can always be fit
+            // into the schedule
+            var maxDateInSchedule = this.schedulingDataProcessingService.findLatestDateWithReservedResources();
+            if (job.getPreferredCompletionDate().isAfter(maxDateInSchedule)) {
+                maxDateInSchedule = job.getPreferredCompletionDate();
+            }
+            var availability = this.schedulingDataProcessingService
+                    .getAvailabilityIndexForGivenFacultyUntilDay(job.getFacultyId(),
+                            maxDateInSchedule.plusDays(1));
+
+            // use strategy to determine a date to schedule the job for
+            var dateToScheduleJob = this.strategy.scheduleJobFor(availability, job);
+
+            // assign scheduled date to job
+            job.setScheduledFor(dateToScheduleJob);
+
+            // save to schedule
+            this.schedulingDataProcessingService.saveInSchedule(job);
+
+            return dateToScheduleJob;
+        });
+    }
+
+    /**
+     * Uses the current batch scheduling strategy to schedule all given jobs and persists them in the repository in a
+     * single transaction. The available resources of each faculty are read once into a snapshot, on which all jobs of
+     * that faculty are placed together, while holding the locks of all faculties of the batch. All jobs must have
+     * passed checkIfJobCanBeScheduled.
+     *
+     * @param jobs the jobs to be scheduled.
+     *
+     * @return the date each job is scheduled for, in the same order as the jobs.
+     */
+    public List<LocalDate> scheduleJobs(List<Job> jobs) {
+        return this.scheduleJobsWith(this.batchStrategy, jobs);
+    }
+
+    /**
+     * Uses the current scheduling strategy to place the given jobs one after another, in the given order, and persists
+     * them in the repository in a single transaction. Like scheduleJobs, each faculty's available resources are read
+     * only once; the jobs are placed on that snapshot instead of re-reading the schedule for every job. All jobs must
+     * have passed checkIfJobCanBeScheduled.
+     *
+     * @param jobs the jobs to be scheduled, in order of priority.
+     *
+     * @return the date each job is scheduled for, in the same order as the jobs.
+     */
+    public List<LocalDate> scheduleJobsInOrder(List<Job> jobs) {
+        return this.scheduleJobsWith(new GreedyBatchSchedulingStrategy(this.strategy), jobs);
+    }
+
+    private List<LocalDate> scheduleJobsWith(BatchSchedulingStrategy batchStrategy, List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return List.of();
+        }
+        var jobsPerFaculty = this.groupByFaculty(jobs);
+
+        // the locks are only released once the transaction has committed, so that no other job of these faculties can
+        // be placed before the batch is visible in the available resources
+        return this.schedulingLockService.runLockedForFaculties(jobsPerFaculty.keySet(), () ->
+                this.transactionTemplate.execute(status -> {
+                    var maxDateInSchedule = this.schedulingDataProcessingService.findLatestDateWithReservedResources();
+                    for (List<Job> jobsOfFaculty : jobsPerFaculty.values()) {
+                        var dates = batchStrategy.scheduleJobsFor(this.takeSnapshot(jobsOfFaculty, maxDateInSchedule),
+                                this.getCapacity(jobsOfFaculty), jobsOfFaculty);
+                        for (int i = 0; i < jobsOfFaculty.size(); ++i) {
+                            jobsOfFaculty.get(i).setScheduledFor(dates.get(i));
+                        }
+                    }
+
+                    this.schedulingDataProcessingService.saveAllInSchedule(jobs);
+                    return jobs.stream().map(Job::getScheduledFor).collect(Collectors.toList());
+                }));
+    }
+
+    /**
+     * Places the given jobs, without saving them, once with the joint packing strategy and once with each single-job
+     * strategy applied greedily in arrival order, and reports how well each of them uses the cluster. All jobs must
+     * have passed checkIfJobCanBeScheduled.
+     *
+     * @param jobs the jobs to be placed.
+     *
+     * @return one report per strategy, the joint packing strategy first.
+     */
+    public List<BatchSchedulingReportResponseModel> compareBatchSchedulingStrategies(List<Job> jobs) {
+        List<BatchSchedulingStrategy> strategies = List.of(new VectorPackingBatchStrategy(),
+                new GreedyBatchSchedulingStrategy(new EarliestPossibleDateStrategy()),
+                new GreedyBatchSchedulingStrategy(new LatestAcceptableDateStrategy()),
+                new GreedyBatchSchedulingStrategy(new LeastBusyDateStrategy()));
+        List<String> names = List.of("VectorPacking", "EarliestPossibleDate", "LatestAcceptableDate", "LeastBusyDate");
+
+        var jobsPerFaculty = this.groupByFaculty(jobs);
         var maxDateInSchedule = this.schedulingDataProcessingService.findLatestDateWithReservedResources();
-        if (job.getPreferredCompletionDate().isAfter(maxDateInSchedule)) {
-            maxDateInSchedule = job.getPreferredCompletionDate();
+        List<BatchSchedulingReportResponseModel> reports = new ArrayList<>(strategies.size());
+        for (int index = 0; index < strategies.size(); ++index) {
+            int byPreferredDate = 0;
+            int daysUsed = 0;
+            double utilization = 0;
+            for (List<Job> jobsOfFaculty : jobsPerFaculty.values()) {
+                var snapshot = this.takeSnapshot(jobsOfFaculty, maxDateInSchedule);
+                var capacity = this.getCapacity(jobsOfFaculty);
+                double cpu = capacity.getCpu_Resources();
+                double gpu = capacity.getGpu_Resources();
+                double memory = capacity.getMemory_Resources();
+
+                var dates = strategies.get(index).scheduleJobsFor(snapshot, capacity, jobsOfFaculty);
+                for (int i = 0; i < jobsOfFaculty.size(); ++i) {
+                    if (!dates.get(i).isAfter(jobsOfFaculty.get(i).getPreferredCompletionDate())) {
+                        byPreferredDate++;
+                    }
+                }
+                for (LocalDate date : new TreeSet<>(dates)) {
+                    var available = snapshot.getAvailableResourcesOn(date);
+                    utilization += (share(cpu - available.getAvailableCpu(), cpu)
+                            + share(gpu - available.getAvailableGpu(), gpu)
+                            + share(memory - available.getAvailableMemory(), memory)) / 3;
+                    daysUsed++;
+                }
+            }
+            reports.add(new BatchSchedulingReportResponseModel(names.get(index), jobs.size(), byPreferredDate, daysUsed,
+                    daysUsed == 0 ? 0 : utilization / daysUsed, 0));
         }
-        var availableResourcesPerDay = this.schedulingDataProcessingService
-                .getAvailableResourcesForGivenFacultyUntilDay(job.getFacultyId(),
-                        maxDateInSchedule.plusDays(1));
 
-        // use strategy to determine a date to schedule the job for
-        var dateToScheduleJob = this.strategy.scheduleJobFor(availableResourcesPerDay, job);
+        // utilization gained by packing jointly rather than greedily
+        var joint = reports.get(0);
+        for (BatchSchedulingReportResponseModel report : reports) {
+            report.setUtilizationGained(joint.getAverageUtilization() - report.getAverageUtilization());
+        }
+        return reports;
+    }
 
-        // assign scheduled date to job
-        job.setScheduledFor(dateToScheduleJob);
+    /**
+     * Groups the jobs by the faculty they were requested through, keeping their order.
+     */
+    private Map<String, List<Job>> groupByFaculty(List<Job> jobs) {
+        Map<String, List<Job>> jobsPerFaculty = new LinkedHashMap<>();
+        for (Job job : jobs) {
+            jobsPerFaculty.computeIfAbsent(job.getFacultyId(), x -> new ArrayList<>()).add(job);
+        }
+        return jobsPerFaculty;
+    }
 
-        // save to schedule
-        this.schedulingDataProcessingService.saveInSchedule(job);
+    /**
+     * Reads the available resources of the faculty of the given jobs from tomorrow until a day by which all of them can
+     * certainly be placed: every job can always be placed on one of the days after its preferred date and the last
+     * scheduled job, as at most one of those days is taken by each other job of the batch.
+     */
+    private AvailabilityTimeline takeSnapshot(List<Job> jobsOfFaculty, LocalDate maxDateInSchedule) {
+        var end = maxDateInSchedule;
+        for (Job job : jobsOfFaculty) {
+            if (job.getPreferredCompletionDate().isAfter(end)) {
+                end = job.getPreferredCompletionDate();
+            }
+        }
+        return this.schedulingDataProcessingService.getAvailabilityTimelineForGivenFacultyUntilDay(
+                jobsOfFaculty.get(0).getFacultyId(), end.plusDays(jobsOfFaculty.size()));
+    }
+
+    /**
+     * Reads the resources assigned to the faculty of the given jobs from the capacity calendar. A faculty whose nodes
+     * have all been removed has nothing assigned.
+     */
+    private FacultyTotalResources getCapacity(List<Job> jobsOfFaculty) {
+        var facultyId = jobsOfFaculty.get(0).getFacultyId();
+        try {
+            return this.schedulingDataProcessingService.getAssignedResourcesForGivenFaculty(facultyId);
+        } catch (IllegalArgumentException e) {
+            return new FacultyAssignedResources(facultyId, 0, 0, 0);
+        }
+    }
 
-        return dateToScheduleJob;
+    private static double share(double value, double capacity) {
+        return capacity > 0 ? value / capacity : 0;
     }
 
 
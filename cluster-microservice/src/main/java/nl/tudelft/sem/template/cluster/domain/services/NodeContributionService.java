@@ -2,6 +2,7 @@ package nl.tudelft.sem.template.cluster.domain.services;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.Setter;
 import nl.tudelft.sem.template.cluster.domain.cluster.FacultyTotalResources;
 import nl.tudelft.sem.template.cluster.domain.cluster.Node;
@@ -139,22 +140,23 @@ public class NodeContributionService {
     }
 
     /**
-     * This method removes the nodes in the nodesToRemoveList every time it's midnight.
+     * This method removes the nodes in the nodesToRemoveList every time it's midnight. The nodes are looked up and
+     * deleted with one statement each, however many there are.
      */
     @Scheduled(cron = "0 0 0 * * *")
     @Async
     public void removeNodesAtMidnight() {
-        var removedNodes = new ArrayList<Node>();
-        for (Node node : this.nodesToRemove) {
-            Node n = this.nodeDataProcessingService.getByUrl(node.getUrl());
-            removedNodes.add(n);
-            this.nodeDataProcessingService.deleteNode(n);
+        var urls = this.nodesToRemove.stream().map(Node::getUrl).collect(Collectors.toSet());
+        this.nodesToRemove = new ArrayList<>();
+        if (urls.isEmpty()) {
+            return;
         }
 
+        var removedNodes = this.nodeDataProcessingService.getByUrls(urls);
+        this.nodeDataProcessingService.deleteNodesInBatch(removedNodes);
+
         // all at once
         publisher.publishEvent(new NodesWereRemovedEvent(this, removedNodes));
-
-        this.nodesToRemove = new ArrayList<>();
     }
 
 }
@@ -1,11 +1,13 @@
 package nl.tudelft.sem.template.cluster.domain.services;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import nl.tudelft.sem.template.cluster.domain.cluster.Node;
 import nl.tudelft.sem.template.cluster.domain.cluster.NodeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Provides access to node-related information from the repositories and processes it for further use.
@@ -15,14 +17,18 @@ public class NodeDataProcessingService {
 
     private final transient NodeRepository nodeRepository;
 
+    private final transient CapacityCalendarService capacityCalendarService;
+
     /**
      * Creates this service object.
      *
      * @param nodeRepository the node repository to get node information from.
+     * @param capacityCalendarService the in-memory calendar of assigned and reserved resources.
      */
     @Autowired
-    public NodeDataProcessingService(NodeRepository nodeRepository) {
+    public NodeDataProcessingService(NodeRepository nodeRepository, CapacityCalendarService capacityCalendarService) {
         this.nodeRepository = nodeRepository;
+        this.capacityCalendarService = capacityCalendarService;
     }
 
     public int getNumberOfNodesInRepository() {
@@ -41,6 +47,10 @@ public class NodeDataProcessingService {
         return this.nodeRepository.findByUrl(url);
     }
 
+    public List<Node> getByUrls(Collection<String> urls) {
+        return this.nodeRepository.findByUrlIn(urls);
+    }
+
     public List<Node> getByFacultyId(String facultyId) {
         return this.getAllNodes().stream().filter(x -> x.getFacultyId().equals(facultyId)).collect(Collectors.toList());
     }
@@ -57,6 +67,18 @@ public class NodeDataProcessingService {
         this.nodeRepository.delete(node);
     }
 
+    /**
+     * Deletes all given nodes from the cluster in a single statement. As a bulk delete bypasses the entity listeners,
+     * the capacity calendar is updated here, once the transaction has committed.
+     *
+     * @param nodes the nodes to delete.
+     */
+    @Transactional
+    public void deleteNodesInBatch(List<Node> nodes) {
+        this.nodeRepository.deleteInBatch(nodes);
+        nodes.forEach(this.capacityCalendarService::nodeRemoved);
+    }
+
     public void deleteAllNodes() {
         this.nodeRepository.deleteAll();
     }
@@ -3,40 +3,42 @@ package nl.tudelft.sem.template.cluster.domain.services;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import java.util.Date;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
+import nl.tudelft.sem.template.cluster.config.InterServiceClient;
 import nl.tudelft.sem.template.cluster.domain.providers.TimeProvider;
 import nl.tudelft.sem.template.cluster.models.NotificationRequestModel;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 @Getter
 @Setter
 public class NotificationManagerService {
 
-    private RestTemplate restTemplate;
+    private InterServiceClient interServiceClient;
     private TimeProvider timeProvider;
 
     /**
      * Initializes the class.
      *
-     * @param restTemplateBuilder the restTemplateBuilder
+     * @param interServiceClient the client for sending requests to the user microservice
+     * @param timeProvider the provider of the current time
      */
     @Autowired
-    public NotificationManagerService(RestTemplateBuilder restTemplateBuilder, TimeProvider timeProvider) {
-        this.restTemplate = restTemplateBuilder.build();
+    public NotificationManagerService(InterServiceClient interServiceClient, TimeProvider timeProvider) {
+        this.interServiceClient = interServiceClient;
         this.timeProvider = timeProvider;
     }
 
     /**
-     * This method sends a notification to the user microservice 'notification'
+     * This method sends a notification to the user microservice 'notifications/batch'
      * endpoint.
      *
      * @param model the notification in the correct model
@@ -44,6 +46,18 @@ public class NotificationManagerService {
      * @return whether the notification was sent correctly or not
      */
     public boolean sendNotification(NotificationRequestModel model) {
+        return this.sendNotifications(List.of(model));
+    }
+
+    /**
+     * Sends several notifications to the user microservice 'notifications/batch' endpoint in a single request,
+     * authenticated with a single token.
+     *
+     * @param models the notifications in the correct model
+     *
+     * @return whether the notifications were received by the user microservice or not
+     */
+    public boolean sendNotifications(List<NotificationRequestModel> models) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -54,18 +68,13 @@ public class NotificationManagerService {
                     .signWith(SignatureAlgorithm.HS512, "exampleSecret").compact();
             headers.setBearerAuth(token);
 
-            String url = "http://localhost:8081/notification";
-
-            HttpEntity<NotificationRequestModel> entity = new HttpEntity<>(model, headers);
-            ResponseEntity<String> result = restTemplate.postForEntity(url, entity, String.class);
-            int okCode = 200;
-            if (result.getStatusCode().value() == okCode) {
-                return true;
-            }
+            HttpEntity<List<NotificationRequestModel>> entity = new HttpEntity<>(models, headers);
+            ResponseEntity<String> result = interServiceClient.exchange(InterServiceClient.USERS,
+                    "/notifications/batch", HttpMethod.POST, entity, String.class);
+            return result.getStatusCode().is2xxSuccessful();
         } catch (Exception e) {
             System.out.println("error with post" + e);
             return false;
         }
-        return true;
     }
 }
@@ -0,0 +1,119 @@
+package nl.tudelft.sem.template.cluster.domain.services;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import nl.tudelft.sem.template.cluster.domain.notifications.NotificationOutboxRepository;
+import nl.tudelft.sem.template.cluster.domain.notifications.OutboxNotification;
+import nl.tudelft.sem.template.cluster.domain.providers.TimeProvider;
+import nl.tudelft.sem.template.cluster.models.NotificationRequestModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Collects the notifications for the users microservice in a persistent outbox and delivers them in batches. A batch
+ * is only removed from the outbox once the users microservice has accepted it; otherwise its delivery is retried
+ * with exponential backoff, so notifications are delivered at least once, also across restarts of the users
+ * microservice.
+ */
+@Service
+@EnableScheduling
+public class NotificationOutboxService {
+
+    private final transient NotificationOutboxRepository notificationOutboxRepository;
+    private final transient NotificationManagerService notificationManagerService;
+    private final transient TimeProvider timeProvider;
+
+    private final transient int batchSize;
+    private final transient long initialBackoffMillis;
+    private final transient long maxBackoffMillis;
+
+    /**
+     * Creates this service object.
+     *
+     * @param notificationOutboxRepository the repository holding the notifications to deliver.
+     * @param notificationManagerService the service sending notifications to the users microservice.
+     * @param timeProvider the provider of the current time.
+     * @param batchSize the maximum number of notifications sent in one request.
+     * @param initialBackoffMillis how long to wait before retrying a batch that failed once.
+     * @param maxBackoffMillis the longest time to wait before retrying a batch.
+     */
+    @Autowired
+    public NotificationOutboxService(NotificationOutboxRepository notificationOutboxRepository,
+                                     NotificationManagerService notificationManagerService,
+                                     TimeProvider timeProvider,
+                                     @Value("${notifications.outbox.batchSize:200}") int batchSize,
+                                     @Value("${notifications.outbox.initialBackoffMillis:1000}")
+                                             long initialBackoffMillis,
+                                     @Value("${notifications.outbox.maxBackoffMillis:300000}") long maxBackoffMillis) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationManagerService = notificationManagerService;
+        this.timeProvider = timeProvider;
+        this.batchSize = batchSize;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * Adds the given notifications to the outbox, to be delivered by the next dispatch.
+     *
+     * @param notifications the notifications to deliver.
+     */
+    public void append(List<NotificationRequestModel> notifications) {
+        long now = this.timeProvider.getCurrentTime().toEpochMilli();
+        this.notificationOutboxRepository.saveAll(notifications.stream()
+                .map(x -> new OutboxNotification(x, now))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Sends all notifications that are due, in batches, until the outbox holds no more due notifications or a batch
+     * fails. A failed batch is retried after a delay which doubles with every failure, up to the maximum.
+     *
+     * @return the number of notifications delivered.
+     */
+    @Scheduled(initialDelayString = "${notifications.outbox.pollIntervalMillis:1000}",
+            fixedDelayString = "${notifications.outbox.pollIntervalMillis:1000}")
+    public int dispatch() {
+        int delivered = 0;
+        while (true) {
+            long now = this.timeProvider.getCurrentTime().toEpochMilli();
+            var batch = this.notificationOutboxRepository
+                    .findByNextAttemptAtLessThanEqualOrderByIdAsc(now, PageRequest.of(0, this.batchSize));
+            if (batch.isEmpty()) {
+                return delivered;
+            }
+
+            boolean sent = this.notificationManagerService.sendNotifications(batch.stream()
+                    .map(OutboxNotification::toNotification).collect(Collectors.toList()));
+            if (!sent) {
+                for (OutboxNotification notification : batch) {
+                    notification.setAttempts(notification.getAttempts() + 1);
+                    notification.setNextAttemptAt(now + this.backoff(notification.getAttempts()));
+                }
+                this.notificationOutboxRepository.saveAll(batch);
+                return delivered;
+            }
+
+            this.notificationOutboxRepository.deleteInBatch(batch);
+            delivered += batch.size();
+        }
+    }
+
+    /**
+     * Returns the number of notifications in the outbox, including those waiting for a retry.
+     *
+     * @return the number of undelivered notifications.
+     */
+    public long getNumberOfPendingNotifications() {
+        return this.notificationOutboxRepository.count();
+    }
+
+    private long backoff(int attempts) {
+        // cap the shift, the maximum is reached long before it would overflow
+        return Math.min(this.maxBackoffMillis, this.initialBackoffMillis << Math.min(attempts - 1, 30));
+    }
+}
@@ -6,17 +6,17 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import nl.tudelft.sem.template.cluster.authentication.AuthManager;
+import nl.tudelft.sem.template.cluster.config.InterServiceClient;
 import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
 import nl.tudelft.sem.template.cluster.models.GetFacultyResponseModel;
 import nl.tudelft.sem.template.cluster.models.TokenRequestModel;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * The second layer of authorization. Verifies whether a user is allowed to make the request they are making.
@@ -25,55 +25,75 @@ import org.springframework.web.client.RestTemplate;
 public class PrivilegeVerificationService {
 
     private final transient AuthManager authManager;
-    private final transient RestTemplate restTemplate;
+    private final transient InterServiceClient interServiceClient;
     private final transient DateProvider dateProvider;
+    private final transient FacultyMembershipCache facultyMembershipCache;
 
     /**
      * Creates this service object.
      *
      * @param authManager the auth manager to get user data from.
-     * @param restTemplateBuilder the rest template builder for sending HTTP requests.
+     * @param interServiceClient the client for sending HTTP requests to the user service.
      * @param dateProvider the date provider for current day and tomorrow.
+     * @param facultyMembershipCache the cache of the faculties acquired from the user service.
      */
     @Autowired
-    public PrivilegeVerificationService(AuthManager authManager, RestTemplateBuilder restTemplateBuilder,
-                                        DateProvider dateProvider) {
+    public PrivilegeVerificationService(AuthManager authManager, InterServiceClient interServiceClient,
+                                        DateProvider dateProvider, FacultyMembershipCache facultyMembershipCache) {
         this.authManager = authManager;
-        this.restTemplate = restTemplateBuilder.build();
+        this.interServiceClient = interServiceClient;
         this.dateProvider = dateProvider;
+        this.facultyMembershipCache = facultyMembershipCache;
     }
 
     /**
-     * Contacts the user service to acquire all faculties assigned to a given user.
+     * Acquires all faculties assigned to a given user. They are taken from the token of the user if it contains them
+     * and they are recent enough; otherwise, they are taken from the cache, or the user service is contacted.
      *
      * @param userToken the authorization token of the user.
      *
      * @return the list of all faculties assigned to the user with the given token.
      */
     private List<String> getFacultiesOfGivenUser(String userToken) {
+        var facultiesFromToken = this.authManager.getFaculties();
+        if (facultiesFromToken.isPresent()) {
+            return facultiesFromToken.get();
+        }
+
         try {
-            String url = "http://localhost:8081/getUserFaculties";
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(userToken);
+            return this.facultyMembershipCache.get(this.authManager.getNetId(),
+                    () -> this.requestFacultiesOfGivenUser(userToken));
+        } catch (Exception e) {
+            System.out.println("Could not acquire faculties associated with user.");
+        }
+        return new ArrayList<>();
+    }
 
-            HttpEntity<TokenRequestModel> entity = new HttpEntity<>(new TokenRequestModel(userToken), headers);
-            ResponseEntity<GetFacultyResponseModel> result = restTemplate
-                    .postForEntity(url, entity, GetFacultyResponseModel.class);
+    /**
+     * Asks the user service for all faculties assigned to a given user.
+     *
+     * @param userToken the authorization token of the user.
+     *
+     * @return the list of all faculties assigned to the user with the given token.
+     */
+    private List<String> requestFacultiesOfGivenUser(String userToken) {
+        org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(userToken);
 
-            String faculties = result.getBody().getFaculties();
+        HttpEntity<TokenRequestModel> entity = new HttpEntity<>(new TokenRequestModel(userToken), headers);
+        ResponseEntity<GetFacultyResponseModel> result = this.interServiceClient.exchange(InterServiceClient.USERS,
+                "/getUserFaculties", HttpMethod.POST, entity, GetFacultyResponseModel.class);
 
-            assert faculties != null;
-            faculties = faculties.replace("[", "").replace("]", "");
-            if (faculties.equals("")) {
-                return new ArrayList<>();
-            }
+        String faculties = result.getBody().getFaculties();
 
-            return Arrays.stream(faculties.split(", ")).collect(Collectors.toList());
-        } catch (Exception e) {
-            System.out.println("Could not acquire faculties associated with user.");
+        assert faculties != null;
+        faculties = faculties.replace("[", "").replace("]", "");
+        if (faculties.equals("")) {
+            return new ArrayList<>();
         }
-        return new ArrayList<>();
+
+        return Arrays.stream(faculties.split(", ")).collect(Collectors.toList());
     }
 
     /**
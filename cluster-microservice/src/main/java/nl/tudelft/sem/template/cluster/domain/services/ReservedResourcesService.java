@@ -0,0 +1,184 @@
+package nl.tudelft.sem.template.cluster.domain.services;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.PostConstruct;
+import nl.tudelft.sem.template.cluster.domain.cluster.FacultyDatedTotalResources;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.JobScheduleRepository;
+import nl.tudelft.sem.template.cluster.domain.cluster.ReservedResourcesRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the reserved_per_faculty_day table, which holds the resources reserved per faculty per day. Every change
+ * to a job is applied to the table as a delta, with plain JDBC on the connection of the transaction changing the job,
+ * so the table commits or rolls back together with the schedule. As JDBC does not go through the persistence context,
+ * this is safe to do from entity listeners while the schedule is being flushed.
+ */
+@Service
+public class ReservedResourcesService {
+
+    /**
+     * Resources are doubles, so sums computed in a different order may differ in the last bits.
+     */
+    private static final double TOLERANCE = 1e-6;
+
+    private final transient JdbcTemplate jdbcTemplate;
+    private final transient JobScheduleRepository jobScheduleRepository;
+    private final transient ReservedResourcesRepository reservedResourcesRepository;
+    private final transient TransactionTemplate transactionTemplate;
+
+    /**
+     * Creates this service object.
+     *
+     * @param jdbcTemplate the template to update the table with.
+     * @param jobScheduleRepository the schedule repository to check and rebuild the table from.
+     * @param reservedResourcesRepository the repository to read the table with.
+     * @param transactionManager the transaction manager used to rebuild the table atomically at startup.
+     */
+    @Autowired
+    public ReservedResourcesService(JdbcTemplate jdbcTemplate, JobScheduleRepository jobScheduleRepository,
+                                    ReservedResourcesRepository reservedResourcesRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobScheduleRepository = jobScheduleRepository;
+        this.reservedResourcesRepository = reservedResourcesRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Rebuilds the table from the schedule at startup, in case the schedule was changed while the table did not exist.
+     * This is called on the bean itself rather than through its proxy, so the transaction is started explicitly.
+     */
+    @PostConstruct
+    public void initialize() {
+        this.transactionTemplate.executeWithoutResult(status -> this.rebuild());
+    }
+
+    /**
+     * Adds the resources of a job that has just been inserted or updated in the schedule.
+     *
+     * @param job the job that was saved.
+     */
+    public void jobSaved(Job job) {
+        if (job.getFacultyId() == null || job.getScheduledFor() == null) {
+            return;
+        }
+        this.apply(job.getFacultyId(), job.getScheduledFor(),
+                job.getRequiredCpu(), job.getRequiredGpu(), job.getRequiredMemory(), 1);
+    }
+
+    /**
+     * Subtracts the resources of a job as it is currently stored in the schedule. Called right before the job is
+     * updated or deleted, so that whatever was changed on the entity, exactly what was added for it is subtracted.
+     *
+     * @param jobId the id of the job that is about to change.
+     */
+    public void jobChanging(long jobId) {
+        this.jdbcTemplate.query("SELECT s.faculty_id, s.scheduled_for, s.requiredcpu, s.requiredgpu,"
+                        + " s.required_memory FROM schedule s WHERE s.id = ?",
+                (RowCallbackHandler) rs -> {
+                    if (rs.getString(1) != null && rs.getDate(2) != null) {
+                        this.apply(rs.getString(1), rs.getDate(2).toLocalDate(),
+                                -rs.getDouble(3), -rs.getDouble(4), -rs.getDouble(5), -1);
+                    }
+                }, jobId);
+    }
+
+    /**
+     * Subtracts the resources of jobs that have been deleted without going through the entity listeners, e.g. by a
+     * batch delete.
+     *
+     * @param jobs the jobs that were deleted.
+     */
+    public void jobsRemoved(List<Job> jobs) {
+        for (Job job : jobs) {
+            if (job.getFacultyId() != null && job.getScheduledFor() != null) {
+                this.apply(job.getFacultyId(), job.getScheduledFor(),
+                        -job.getRequiredCpu(), -job.getRequiredGpu(), -job.getRequiredMemory(), -1);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the table matches the schedule, by aggregating the whole schedule.
+     *
+     * @return whether the resources reserved per faculty per day match the jobs in the schedule.
+     */
+    public boolean isConsistent() {
+        Map<String, FacultyDatedTotalResources> expected = new HashMap<>();
+        for (var resources : this.jobScheduleRepository.findResourcesRequiredForEachDay()) {
+            expected.put(resources.getFaculty_Id() + "/" + resources.getScheduled_Date(), resources);
+        }
+        var actual = this.reservedResourcesRepository.findAllReservedResources();
+        if (actual.size() != expected.size()) {
+            return false;
+        }
+        for (var resources : actual) {
+            var other = expected.get(resources.getFaculty_Id() + "/" + resources.getScheduled_Date());
+            if (other == null
+                    || Math.abs(other.getCpu_Resources() - resources.getCpu_Resources()) > TOLERANCE
+                    || Math.abs(other.getGpu_Resources() - resources.getGpu_Resources()) > TOLERANCE
+                    || Math.abs(other.getMemory_Resources() - resources.getMemory_Resources()) > TOLERANCE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Discards the table and rebuilds it from the schedule.
+     */
+    @Transactional
+    public void rebuild() {
+        this.jdbcTemplate.update("DELETE FROM reserved_per_faculty_day");
+        this.jdbcTemplate.update("INSERT INTO reserved_per_faculty_day"
+                + " (faculty_id, scheduled_for, cpu_resources, gpu_resources, memory_resources, jobs)"
+                + " SELECT s.faculty_id, s.scheduled_for, SUM(s.requiredcpu), SUM(s.requiredgpu),"
+                + " SUM(s.required_memory), COUNT(*) FROM schedule s GROUP BY s.faculty_id, s.scheduled_for");
+    }
+
+    /**
+     * Checks the table against the schedule, and rebuilds it if they do not match.
+     *
+     * @return whether the table was consistent, i.e. did not have to be rebuilt.
+     */
+    @Transactional
+    public boolean checkAndRebuild() {
+        if (this.isConsistent()) {
+            return true;
+        }
+        this.rebuild();
+        return false;
+    }
+
+    /**
+     * Adds the given amounts to the row of the given faculty and day, creating it if needed, and deleting it once no
+     * jobs are left.
+     */
+    private void apply(String facultyId, LocalDate date, double cpu, double gpu, double memory, int jobs) {
+        var day = Date.valueOf(date);
+        int updated = this.jdbcTemplate.update("UPDATE reserved_per_faculty_day SET cpu_resources = cpu_resources + ?,"
+                        + " gpu_resources = gpu_resources + ?, memory_resources = memory_resources + ?, jobs = jobs + ?"
+                        + " WHERE faculty_id = ? AND scheduled_for = ?",
+                cpu, gpu, memory, jobs, facultyId, day);
+        if (updated == 0 && jobs > 0) {
+            this.jdbcTemplate.update("INSERT INTO reserved_per_faculty_day"
+                            + " (faculty_id, scheduled_for, cpu_resources, gpu_resources, memory_resources, jobs)"
+                            + " VALUES (?, ?, ?, ?, ?, ?)",
+                    facultyId, day, cpu, gpu, memory, jobs);
+        } else if (jobs < 0) {
+            this.jdbcTemplate.update("DELETE FROM reserved_per_faculty_day"
+                    + " WHERE faculty_id = ? AND scheduled_for = ? AND jobs <= 0", facultyId, day);
+        }
+    }
+}
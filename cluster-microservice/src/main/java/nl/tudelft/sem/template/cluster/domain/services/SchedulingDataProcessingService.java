@@ -2,19 +2,27 @@ package nl.tudelft.sem.template.cluster.domain.services;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailabilityIndex;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailabilityTimeline;
 import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
 import nl.tudelft.sem.template.cluster.domain.cluster.FacultyDatedTotalResources;
 import nl.tudelft.sem.template.cluster.domain.cluster.FacultyTotalResources;
 import nl.tudelft.sem.template.cluster.domain.cluster.Job;
 import nl.tudelft.sem.template.cluster.domain.cluster.JobScheduleRepository;
-import nl.tudelft.sem.template.cluster.domain.cluster.NodeRepository;
+import nl.tudelft.sem.template.cluster.domain.cluster.ReservedResourcesRepository;
 import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
 import nl.tudelft.sem.template.cluster.models.FacultyDatedResourcesResponseModel;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Provides access to information from the repositories and processes it for further use.
@@ -22,9 +30,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class SchedulingDataProcessingService {
 
-    private final transient NodeRepository nodeRepository;
     private final transient JobScheduleRepository jobScheduleRepository;
 
+    /**
+     * The reserved resources per faculty per day, maintained alongside the schedule.
+     */
+    private final transient ReservedResourcesRepository reservedResourcesRepository;
+    private final transient ReservedResourcesService reservedResourcesService;
+
+    /**
+     * The resident calendar of assigned and reserved resources, used instead of aggregating the repositories.
+     */
+    private final transient CapacityCalendarService capacityCalendarService;
+
     /**
      * The provider for dates.
      */
@@ -33,31 +51,41 @@ public class SchedulingDataProcessingService {
     /**
      * Creates this service object.
      *
-     * @param nodeRepository the node repository to get node information from.
      * @param jobScheduleRepository the schedule repository to get schedule and available resource information from.
+     * @param reservedResourcesRepository the repository of the reserved resources per faculty per day.
      * @param dateProvider the date provider for current date and tomorrow.
+     * @param capacityCalendarService the in-memory calendar of assigned and reserved resources.
+     * @param reservedResourcesService the service maintaining the reserved resources per faculty per day.
      */
     @Autowired
-    public SchedulingDataProcessingService(NodeRepository nodeRepository, JobScheduleRepository jobScheduleRepository,
-                                           DateProvider dateProvider) {
-        this.nodeRepository = nodeRepository;
+    public SchedulingDataProcessingService(JobScheduleRepository jobScheduleRepository,
+                                           ReservedResourcesRepository reservedResourcesRepository,
+                                           DateProvider dateProvider, CapacityCalendarService capacityCalendarService,
+                                           ReservedResourcesService reservedResourcesService) {
         this.jobScheduleRepository = jobScheduleRepository;
+        this.reservedResourcesRepository = reservedResourcesRepository;
         this.dateProvider = dateProvider;
+        this.capacityCalendarService = capacityCalendarService;
+        this.reservedResourcesService = reservedResourcesService;
     }
 
     /**
      * Returns all facultyIds that have any assigned nodes in the repository.
      *
-     * @return a list of all faculties known to the cluster.
+     * @return a list of all faculties known to the cluster, sorted by facultyId.
      */
     public List<String> getAllFaculties() {
-        return this.nodeRepository.findTotalResourcesPerFaculty().stream()
-                .map(FacultyTotalResources::getFaculty_Id)
-                .collect(Collectors.toList());
+        return this.capacityCalendarService.getFaculties();
     }
 
+    /**
+     * Returns the total resources in the three categories assigned to each faculty, from the capacity calendar rather
+     * than by aggregating the nodes.
+     *
+     * @return the assigned resources of each faculty that has nodes, sorted by facultyId.
+     */
     public List<FacultyTotalResources> getAssignedResourcesPerFaculty() {
-        return this.nodeRepository.findTotalResourcesPerFaculty();
+        return this.capacityCalendarService.getAssignedResources();
     }
 
     /**
@@ -70,13 +98,11 @@ public class SchedulingDataProcessingService {
     public FacultyTotalResources getAssignedResourcesForGivenFaculty(String facultyId)
         throws IllegalArgumentException {
 
-        if (this.getAllFaculties().contains(facultyId)) {
-            return getAssignedResourcesPerFaculty().stream()
-                .filter(x -> x.getFaculty_Id().equals(facultyId))
-                .collect(Collectors.toList()).get(0);
-        } else {
+        var resources = this.capacityCalendarService.getAssignedResources(facultyId);
+        if (resources == null) {
             throw new IllegalArgumentException("Faculty does not exist.");
         }
+        return resources;
     }
 
     /**
@@ -111,14 +137,75 @@ public class SchedulingDataProcessingService {
         return this.jobScheduleRepository.findAll();
     }
 
+    /**
+     * Goes over all jobs scheduled for the given day one page at a time, so that no more than one page of jobs is
+     * held in memory however many jobs there are. The pages are read with the index on the scheduled date.
+     *
+     * @param date the day whose jobs to go over.
+     * @param pageSize the maximum number of jobs in a page.
+     * @param action what to do with each page of jobs.
+     */
+    public void forEachPageOfJobsScheduledFor(LocalDate date, int pageSize, Consumer<List<Job>> action) {
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by("id"));
+        Slice<Job> page;
+        do {
+            page = this.jobScheduleRepository.findByScheduledFor(date, pageable);
+            if (page.hasContent()) {
+                action.accept(page.getContent());
+            }
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+    }
+
     public void saveInSchedule(Job job) {
         this.jobScheduleRepository.save(job);
     }
 
+    public void saveAllInSchedule(List<Job> jobs) {
+        this.jobScheduleRepository.saveAll(jobs);
+    }
+
     public void deleteJob(Job job) {
         this.jobScheduleRepository.delete(job);
     }
 
+    /**
+     * Deletes all given jobs from the schedule in a single statement. As a bulk delete bypasses the entity listeners,
+     * the capacity calendar and the reserved resources are updated here, the latter in the same transaction.
+     *
+     * @param jobs the jobs to delete.
+     */
+    @Transactional
+    public void deleteJobsInBatch(List<Job> jobs) {
+        this.jobScheduleRepository.deleteInBatch(jobs);
+        this.reservedResourcesService.jobsRemoved(jobs);
+        jobs.forEach(this.capacityCalendarService::jobRemoved);
+    }
+
+    /**
+     * Gets and returns all jobs of the given faculty scheduled for any of the given days.
+     *
+     * @param facultyId the faculty to look for jobs of.
+     * @param dates the days to look for jobs on.
+     *
+     * @return a list of the matching jobs.
+     */
+    public List<Job> getJobsForGivenFacultyOnDays(String facultyId, Collection<LocalDate> dates) {
+        return this.jobScheduleRepository.findByFacultyIdAndScheduledForIn(facultyId, dates);
+    }
+
+    /**
+     * Finds all days from tomorrow on which the given faculty has more resources reserved than assigned, e.g. because
+     * nodes were removed. The days are read from the capacity calendar, so no queries are made.
+     *
+     * @param facultyId the faculty to check.
+     *
+     * @return the available resources, at least one of which is negative, for each overbooked day.
+     */
+    public List<AvailableResourcesForDate> getOverbookedDaysForGivenFaculty(String facultyId) {
+        return this.capacityCalendarService.findOverbookedDays(facultyId, this.dateProvider.getTomorrow());
+    }
+
     public void deleteAllJobsScheduled() {
         this.jobScheduleRepository.deleteAll();
     }
@@ -130,7 +217,20 @@ public class SchedulingDataProcessingService {
      * resources for that faculty on that day.
      */
     public List<FacultyDatedTotalResources> getReservedResourcesPerFacultyPerDay() {
-        return this.jobScheduleRepository.findResourcesRequiredForEachDay();
+        return this.reservedResourcesRepository.findAllReservedResources();
+    }
+
+    /**
+     * Gets and returns the already reserved resources per faculty for each day between the given days, inclusive.
+     *
+     * @param from the first day.
+     * @param until the last day.
+     *
+     * @return list of object containing dates, facultyIds, and the three doubles, representing the reserved
+     * resources for that faculty on that day.
+     */
+    public List<FacultyDatedTotalResources> getReservedResourcesPerFacultyBetweenDays(LocalDate from, LocalDate until) {
+        return this.reservedResourcesRepository.findReservedResourcesBetween(from, until);
     }
 
     /**
@@ -142,8 +242,7 @@ public class SchedulingDataProcessingService {
      * resources for that faculty on the given day.
      */
     public List<FacultyDatedTotalResources> getReservedResourcesPerFacultyForGivenDay(LocalDate date) {
-        return this.getReservedResourcesPerFacultyPerDay().stream()
-                .filter(x -> x.getScheduled_Date().equals(date)).collect(Collectors.toList());
+        return this.reservedResourcesRepository.findReservedResourcesOn(date);
     }
 
     /**
@@ -155,8 +254,7 @@ public class SchedulingDataProcessingService {
      * resources for the given faculty per day.
      */
     public List<FacultyDatedTotalResources> getReservedResourcesPerDayForGivenFaculty(String facultyId) {
-        return this.getReservedResourcesPerFacultyPerDay().stream()
-                .filter(x -> x.getFaculty_Id().equals(facultyId)).collect(Collectors.toList());
+        return this.reservedResourcesRepository.findReservedResourcesOf(facultyId);
     }
 
     /**
@@ -170,19 +268,16 @@ public class SchedulingDataProcessingService {
      */
     public List<FacultyDatedTotalResources> getReservedResourcesForGivenDayForGivenFaculty(LocalDate date,
                                                                                            String facultyId) {
-        return this.getReservedResourcesPerFacultyPerDay().stream()
-                .filter(x -> x.getFaculty_Id().equals(facultyId))
-                .filter(x -> x.getScheduled_Date().equals(date))
-                .collect(Collectors.toList());
+        return this.reservedResourcesRepository.findReservedResourcesOf(facultyId, date);
     }
 
     /**
-     * Queries the schedule for the latest date that occurs.
+     * Looks up the latest date that occurs in the schedule.
      *
      * @return the latest date in the schedule.
      */
     public LocalDate findLatestDateWithReservedResources() {
-        var latestDateInSchedule = this.jobScheduleRepository.findMaximumDate();
+        var latestDateInSchedule = this.capacityCalendarService.findLatestReservedDate();
 
         // if null, there are no jobs scheduled - thus we can go only until tomorrow
         return latestDateInSchedule != null ? latestDateInSchedule : dateProvider.getTomorrow();
@@ -191,48 +286,42 @@ public class SchedulingDataProcessingService {
     // SCHEDULE/JOB - AVAILABLE RESOURCES
 
     /**
-     * Calculates and returns a list of available resources for each day for the given faculty.
+     * Calculates and returns a list of available resources for each day for the given faculty. The resources are read
+     * from the capacity calendar, so no queries are made.
      *
      * @param facultyId the faculty to perform the calculation for.
      *
      * @return a list of available resources for each date until the specified one.
      */
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     public List<AvailableResourcesForDate> getAvailableResourcesForGivenFacultyUntilDay(String facultyId,
                                                                                         LocalDate until) {
-        var assignedResources = this.nodeRepository.findTotalResourcesForGivenFaculty(facultyId);
-        var availableResources = new ArrayList<AvailableResourcesForDate>();
-
-        // for each day from tomorrow until specified date
-        for (LocalDate day : this.dateProvider.getTomorrow().datesUntil(until.plusDays(1))
-                .collect(Collectors.toList())) {
-            AvailableResourcesForDate availableResourcesForTheDay;
-
-            // if there are no jobs scheduled on the current date or for the current faculty, available resources are
-            // full
-            var reserved = this
-                    .getReservedResourcesForGivenDayForGivenFaculty(day, facultyId);
-            if (!this.jobScheduleRepository.existsByFacultyId(facultyId)
-                    || !this.jobScheduleRepository.existsByScheduledFor(day)
-                    || (reserved.isEmpty())) {
-                availableResourcesForTheDay = new AvailableResourcesForDate(day,
-                        assignedResources.getCpu_Resources(),
-                        assignedResources.getGpu_Resources(),
-                        assignedResources.getMemory_Resources()
-                );
-            } else {
-                // there are jobs scheduled for the given date
-                var reservedResources = reserved.get(0);
-                availableResourcesForTheDay = new AvailableResourcesForDate(day,
-                        assignedResources.getCpu_Resources() - reservedResources.getCpu_Resources(),
-                        assignedResources.getGpu_Resources() - reservedResources.getGpu_Resources(),
-                        assignedResources.getMemory_Resources() - reservedResources.getMemory_Resources()
-                );
-            }
+        return this.capacityCalendarService.getAvailableResources(facultyId, this.dateProvider.getTomorrow(), until);
+    }
 
-            availableResources.add(availableResourcesForTheDay);
-        }
-        return availableResources;
+    /**
+     * Creates an index over the available resources of the given faculty for each day from tomorrow until the given
+     * day, inclusive, which the scheduling strategies can query without materializing the days.
+     *
+     * @param facultyId the id of the faculty whose resources to index.
+     * @param until the last day of the index.
+     *
+     * @return the availability index.
+     */
+    public AvailabilityIndex getAvailabilityIndexForGivenFacultyUntilDay(String facultyId, LocalDate until) {
+        return this.capacityCalendarService.getAvailabilityIndex(facultyId, this.dateProvider.getTomorrow(), until);
+    }
+
+    /**
+     * Takes a sparse snapshot of the available resources of the given faculty for each day from tomorrow until the
+     * given day, inclusive, in which jobs can be placed tentatively. Only the days with reservations are copied.
+     *
+     * @param facultyId the id of the faculty whose resources to copy.
+     * @param until the last day of the snapshot.
+     *
+     * @return the availability timeline.
+     */
+    public AvailabilityTimeline getAvailabilityTimelineForGivenFacultyUntilDay(String facultyId, LocalDate until) {
+        return this.capacityCalendarService.getAvailabilityTimeline(facultyId, this.dateProvider.getTomorrow(), until);
     }
 
     /**
@@ -244,7 +333,7 @@ public class SchedulingDataProcessingService {
      */
     @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     public List<FacultyDatedResourcesResponseModel> getAvailableResourcesForAllFacultiesForAllDays() {
-        var faculties = this.getAllFaculties();
+        var faculties = this.capacityCalendarService.getFaculties();
         var latestDate = this.findLatestDateWithReservedResources();
         List<FacultyDatedResourcesResponseModel> models = new ArrayList<>();
         for (String faculty : faculties) {
@@ -257,7 +346,8 @@ public class SchedulingDataProcessingService {
     }
 
     /**
-     * Gets and returns the available resources per day for the given faculty.
+     * Gets and returns the available resources per day for the given faculty, for the same days as
+     * getAvailableResourcesForAllFacultiesForAllDays, without calculating them for the other faculties.
      *
      * @param facultyId the facultyId by which to look for available resources per day.
      *
@@ -265,12 +355,18 @@ public class SchedulingDataProcessingService {
      * resources for the given faculty per day.
      */
     public List<FacultyDatedResourcesResponseModel> getAvailableResourcesForGivenFacultyForAllDays(String facultyId) {
-        return this.getAvailableResourcesForAllFacultiesForAllDays().stream()
-                .filter(x -> x.getFacultyId().equals(facultyId)).collect(Collectors.toList());
+        if (this.capacityCalendarService.getAssignedResources(facultyId) == null) {
+            return new ArrayList<>();
+        }
+        return FacultyDatedResourcesResponseModel.convertToResponseModelsWithSeparateFaculty(this
+                .getAvailableResourcesForGivenFacultyUntilDay(facultyId, this.findLatestDateWithReservedResources()),
+                facultyId);
     }
 
     /**
-     * Gets and returns the available resources per faculty for a given day.
+     * Gets and returns the available resources per faculty for a given day. Only that day is looked up in the
+     * calendar of each faculty; for days outside the range covered by getAvailableResourcesForAllFacultiesForAllDays,
+     * the assigned resources are returned.
      *
      * @param date the date on which to check available resources.
      *
@@ -278,21 +374,22 @@ public class SchedulingDataProcessingService {
      * resources for that faculty on the given day.
      */
     public List<FacultyDatedResourcesResponseModel> getAvailableResourcesForAllFacultiesForGivenDay(LocalDate date) {
-        var res = this.getAvailableResourcesForAllFacultiesForAllDays().stream()
-                .filter(x -> x.getDate().isEqual(date)).collect(Collectors.toList());
-        if (res.isEmpty()) {
-            return this.getAssignedResourcesPerFaculty().stream()
-                    .map(x -> new FacultyDatedResourcesResponseModel(
-                            date, x.getFaculty_Id(), x.getCpu_Resources(), x.getGpu_Resources(), x.getMemory_Resources()
-                    )).collect(Collectors.toList());
-        } else {
-            return res;
+        if (this.isWithinAvailableDays(date)) {
+            return this.capacityCalendarService.getFaculties().stream()
+                    .map(faculty -> toResponseModel(faculty, this.capacityCalendarService
+                            .getAvailableResourcesOn(faculty, date)))
+                    .collect(Collectors.toList());
         }
+        return this.getAssignedResourcesPerFaculty().stream()
+                .map(x -> new FacultyDatedResourcesResponseModel(
+                        date, x.getFaculty_Id(), x.getCpu_Resources(), x.getGpu_Resources(), x.getMemory_Resources()
+                )).collect(Collectors.toList());
     }
 
     /**
      * Gets and returns the total available resources for a given faculty for a given day. This should be a list of one
-     * object.
+     * object. Only that day is looked up in the calendar of the faculty; for days outside the range covered by
+     * getAvailableResourcesForAllFacultiesForAllDays, the assigned resources are returned.
      *
      * @param date the day on which to look for available resources.
      * @param facultyId the facultyId for which to look for available resources.
@@ -301,18 +398,28 @@ public class SchedulingDataProcessingService {
      */
     public List<FacultyDatedResourcesResponseModel> getAvailableResourcesForGivenFacultyForGivenDay(LocalDate date,
                                                                                                     String facultyId) {
-        var res = this.getAvailableResourcesForAllFacultiesForAllDays().stream()
-                .filter(x -> x.getDate().isEqual(date))
-                .filter(x -> x.getFacultyId().equals(facultyId))
-                .collect(Collectors.toList());
-        if (res.isEmpty()) {
-            return Stream.of(this.getAssignedResourcesForGivenFaculty(facultyId))
-                    .map(x -> new FacultyDatedResourcesResponseModel(
-                            date, x.getFaculty_Id(), x.getCpu_Resources(), x.getGpu_Resources(), x.getMemory_Resources()
-                    )).collect(Collectors.toList());
-        } else {
-            return res;
+        if (this.isWithinAvailableDays(date) && this.capacityCalendarService.getAssignedResources(facultyId) != null) {
+            return List.of(toResponseModel(facultyId,
+                    this.capacityCalendarService.getAvailableResourcesOn(facultyId, date)));
         }
+        var assigned = this.getAssignedResourcesForGivenFaculty(facultyId);
+        return List.of(new FacultyDatedResourcesResponseModel(date, assigned.getFaculty_Id(),
+                assigned.getCpu_Resources(), assigned.getGpu_Resources(), assigned.getMemory_Resources()));
+    }
+
+    /**
+     * Checks whether the given day is one of the days from tomorrow until the latest day in the schedule, inclusive,
+     * for which getAvailableResourcesForAllFacultiesForAllDays calculates the available resources.
+     */
+    private boolean isWithinAvailableDays(LocalDate date) {
+        return !date.isBefore(this.dateProvider.getTomorrow())
+                && !date.isAfter(this.findLatestDateWithReservedResources());
+    }
+
+    private static FacultyDatedResourcesResponseModel toResponseModel(String facultyId,
+                                                                      AvailableResourcesForDate available) {
+        return new FacultyDatedResourcesResponseModel(available.getDate(), facultyId,
+                available.getAvailableCpu(), available.getAvailableGpu(), available.getAvailableMemory());
     }
 
 }
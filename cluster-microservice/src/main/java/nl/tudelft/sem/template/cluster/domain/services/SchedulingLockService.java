@@ -0,0 +1,96 @@
+package nl.tudelft.sem.template.cluster.domain.services;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serializes the read-decide-write cycle of scheduling per faculty. Each faculty maps onto one of a fixed number of
+ * lock stripes, so that jobs of the same faculty are never placed on the basis of the same free capacity, while
+ * different faculties (almost always on different stripes) schedule in parallel. The locks are reentrant, so an
+ * operation holding the lock of a faculty may call other locked operations of the same faculty.
+ */
+@Service
+public class SchedulingLockService {
+
+    private final transient ReentrantLock[] stripes;
+
+    /**
+     * Creates the lock stripes.
+     *
+     * @param numberOfStripes the number of stripes; more stripes make it less likely that two faculties share one.
+     */
+    @Autowired
+    public SchedulingLockService(@Value("${scheduling.lockStripes:64}") int numberOfStripes) {
+        this.stripes = new ReentrantLock[Math.max(1, numberOfStripes)];
+        for (int i = 0; i < this.stripes.length; ++i) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs the action while holding the lock of the given faculty.
+     *
+     * @param facultyId the faculty whose schedule the action reads and modifies.
+     * @param action the action to run.
+     * @param <T> the type of the result of the action.
+     *
+     * @return the result of the action.
+     */
+    public <T> T runLockedForFaculty(String facultyId, Supplier<T> action) {
+        var lock = this.stripes[this.stripeOf(facultyId)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs the action while holding the locks of all given faculties. The locks are always taken in the same order,
+     * so that operations on overlapping sets of faculties cannot deadlock.
+     *
+     * @param facultyIds the faculties whose schedules the action reads and modifies.
+     * @param action the action to run.
+     * @param <T> the type of the result of the action.
+     *
+     * @return the result of the action.
+     */
+    public <T> T runLockedForFaculties(Collection<String> facultyIds, Supplier<T> action) {
+        int[] indices = facultyIds.stream().mapToInt(this::stripeOf).distinct().sorted().toArray();
+        int locked = 0;
+        try {
+            for (int index : indices) {
+                this.stripes[index].lock();
+                locked++;
+            }
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; --i) {
+                this.stripes[indices[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * Runs the action while holding the locks of all given faculties.
+     *
+     * @param facultyIds the faculties whose schedules the action reads and modifies.
+     * @param action the action to run.
+     */
+    public void runLockedForFaculties(Collection<String> facultyIds, Runnable action) {
+        this.runLockedForFaculties(facultyIds, () -> {
+            action.run();
+            return Boolean.TRUE;
+        });
+    }
+
+    private int stripeOf(String facultyId) {
+        return Math.floorMod(Objects.hashCode(facultyId), this.stripes.length);
+    }
+}
@@ -0,0 +1,20 @@
+package nl.tudelft.sem.template.cluster.domain.strategies;
+
+import java.time.LocalDate;
+import java.util.List;
+import nl.tudelft.sem.template.cluster.domain.cluster.FacultyTotalResources;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.ReservableAvailabilityIndex;
+
+/**
+ * Defines how a batch of jobs of a single faculty is placed on the days of an availability snapshot. The snapshot
+ * always ends with a day on which nothing is reserved, and has at least one such day for each job of the batch. The
+ * resources assigned to the faculty, which every day without reservations has available, are passed along with it.
+ * Implementations reserve every job they place in the snapshot, but do not modify the jobs themselves.
+ */
+public interface BatchSchedulingStrategy {
+
+    List<LocalDate> scheduleJobsFor(ReservableAvailabilityIndex availability, FacultyTotalResources capacity,
+                                    List<Job> jobs);
+
+}
@@ -0,0 +1,26 @@
+package nl.tudelft.sem.template.cluster.domain.strategies;
+
+import java.util.List;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+
+/**
+ * Defines which jobs are evicted from a day on which more resources are reserved than are assigned to the faculty,
+ * e.g. after nodes were removed. The evicted jobs must free at least as much of each resource as is lacking, which
+ * evicting all jobs of the day always does. Implementations do not modify the jobs or remove them from the schedule.
+ */
+public interface EvictionStrategy {
+
+    List<Job> selectJobsToEvict(List<Job> jobsOnDay, AvailableResourcesForDate lackingResources);
+
+    /**
+     * The resource volume of a job, which is what evicting it moves to another day.
+     *
+     * @param job the job to measure.
+     *
+     * @return the sum of the job's required cpu, gpu and memory.
+     */
+    static double volumeOf(Job job) {
+        return job.getRequiredCpu() + job.getRequiredGpu() + job.getRequiredMemory();
+    }
+}
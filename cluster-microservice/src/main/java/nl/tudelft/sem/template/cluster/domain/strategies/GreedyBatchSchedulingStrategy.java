@@ -0,0 +1,44 @@
+package nl.tudelft.sem.template.cluster.domain.strategies;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import nl.tudelft.sem.template.cluster.domain.cluster.FacultyTotalResources;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.ReservableAvailabilityIndex;
+
+/**
+ * Defines a batch strategy in which the jobs are placed one at a time, in the order in which they arrived, by a
+ * single-job scheduling strategy. This is what scheduling the jobs one request at a time amounts to.
+ */
+@Getter
+public class GreedyBatchSchedulingStrategy implements BatchSchedulingStrategy {
+
+    private final transient JobSchedulingStrategy strategy;
+
+    public GreedyBatchSchedulingStrategy(JobSchedulingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Places each job, in order, on the date chosen by the single-job strategy.
+     *
+     * @param availability the snapshot of the available resources of the faculty.
+     * @param capacity the resources assigned to the faculty, not needed to place the jobs one at a time.
+     * @param jobs the jobs to schedule.
+     *
+     * @return the date each job is to be scheduled on, in the same order as the jobs.
+     */
+    public List<LocalDate> scheduleJobsFor(ReservableAvailabilityIndex availability, FacultyTotalResources capacity,
+                                           List<Job> jobs) {
+        List<LocalDate> dates = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            var date = this.strategy.scheduleJobFor(availability, job);
+            availability.reserve(date, job);
+            dates.add(date);
+        }
+        return dates;
+    }
+
+}
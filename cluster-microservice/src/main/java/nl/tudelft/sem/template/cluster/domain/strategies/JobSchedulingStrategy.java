@@ -2,11 +2,25 @@ package nl.tudelft.sem.template.cluster.domain.strategies;
 
 import java.time.LocalDate;
 import java.util.List;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailabilityIndex;
 import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
 import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.ListAvailabilityIndex;
 
 public interface JobSchedulingStrategy {
 
-    LocalDate scheduleJobFor(List<AvailableResourcesForDate> availableResourcesForDates, Job job);
+    LocalDate scheduleJobFor(AvailabilityIndex availability, Job job);
+
+    /**
+     * Schedules the job against an already computed list of available resources per day, in chronological order.
+     *
+     * @param availableResourcesForDates the list of available resources for each considered day.
+     * @param job the job to schedule.
+     *
+     * @return the date on which the job is to be scheduled, or null if the list is empty.
+     */
+    default LocalDate scheduleJobFor(List<AvailableResourcesForDate> availableResourcesForDates, Job job) {
+        return this.scheduleJobFor(new ListAvailabilityIndex(availableResourcesForDates), job);
+    }
 
 }
@@ -0,0 +1,38 @@
+package nl.tudelft.sem.template.cluster.domain.strategies;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+
+/**
+ * Evicts the most costly jobs of the day, by total required resources, until there are enough resources for the rest.
+ */
+public class LargestJobsFirstEvictionStrategy implements EvictionStrategy {
+
+    @Override
+    public List<Job> selectJobsToEvict(List<Job> jobsOnDay, AvailableResourcesForDate lackingResources) {
+        // jobs sorted descendingly by total cost
+        var jobsByCost = jobsOnDay.stream()
+                .sorted(Comparator.comparingDouble(EvictionStrategy::volumeOf).reversed())
+                .collect(Collectors.toList());
+
+        // evict until all available values are non-negative
+        List<Job> jobsToEvict = new ArrayList<>();
+        double cpu = lackingResources.getAvailableCpu();
+        double gpu = lackingResources.getAvailableGpu();
+        double memory = lackingResources.getAvailableMemory();
+        for (int i = 0; i < jobsByCost.size() && (cpu < 0 || gpu < 0 || memory < 0); ++i) {
+            var evictedJob = jobsByCost.get(i); // the most costly job left
+            jobsToEvict.add(evictedJob);
+
+            // update resources
+            cpu += evictedJob.getRequiredCpu();
+            gpu += evictedJob.getRequiredGpu();
+            memory += evictedJob.getRequiredMemory();
+        }
+        return jobsToEvict;
+    }
+}
@@ -0,0 +1,243 @@
+package nl.tudelft.sem.template.cluster.domain.strategies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+
+/**
+ * Evicts the smallest number of jobs whose resources together cover what is lacking on the day, and among those the
+ * set with the least total resource volume, so that as few users as possible are affected and as little work as
+ * possible is moved. This is a multi-dimensional covering problem, which is solved by a branch and bound search that
+ * starts from a greedy solution. The search stops once its time budget is spent, in which case the best set found so
+ * far is evicted; it is never worse than the greedy solution.
+ */
+public class MinimumDisruptionEvictionStrategy implements EvictionStrategy {
+
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 20;
+
+    private static final double EPSILON = 1e-9;
+
+    private final transient long timeBudgetNanos;
+
+    public MinimumDisruptionEvictionStrategy() {
+        this(DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    /**
+     * Creates the strategy with the given time budget for the search on a single day.
+     *
+     * @param timeBudgetMillis how long the search may take for each day, in milliseconds.
+     */
+    public MinimumDisruptionEvictionStrategy(long timeBudgetMillis) {
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000;
+    }
+
+    @Override
+    public List<Job> selectJobsToEvict(List<Job> jobsOnDay, AvailableResourcesForDate lackingResources) {
+        double[] deficit = {
+            Math.max(0, -lackingResources.getAvailableCpu()),
+            Math.max(0, -lackingResources.getAvailableGpu()),
+            Math.max(0, -lackingResources.getAvailableMemory())
+        };
+        if (isCovered(deficit)) {
+            return new ArrayList<>();
+        }
+
+        // only jobs that free some of a lacking resource can help; the ones covering most of the deficit come first,
+        // so that good solutions are found early
+        var candidates = jobsOnDay.stream()
+                .filter(x -> coverage(x, deficit) > 0)
+                .sorted(Comparator.comparingDouble((Job x) -> -coverage(x, deficit))
+                        .thenComparingDouble(EvictionStrategy::volumeOf))
+                .collect(Collectors.toList());
+
+        var search = new Search(candidates, deficit, System.nanoTime() + this.timeBudgetNanos);
+        if (!search.startGreedily()) {
+            // the deficit cannot be covered at all, free as much as possible
+            return new ArrayList<>(jobsOnDay);
+        }
+        search.branch(0, deficit, 0, 0);
+        return search.getBest();
+    }
+
+    /**
+     * The share of the deficit that evicting the job would cover, summed over the lacking resources.
+     */
+    private static double coverage(Job job, double[] deficit) {
+        double[] demand = {job.getRequiredCpu(), job.getRequiredGpu(), job.getRequiredMemory()};
+        double covered = 0;
+        for (int k = 0; k < deficit.length; ++k) {
+            if (deficit[k] > EPSILON) {
+                covered += Math.min(Math.max(demand[k], 0), deficit[k]) / deficit[k];
+            }
+        }
+        return covered;
+    }
+
+    private static boolean isCovered(double[] remaining) {
+        for (double value : remaining) {
+            if (value > EPSILON) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The state of the search on a single day.
+     */
+    private static class Search {
+        private final List<Job> candidates;
+        private final double[][] demand;
+        private final double[] volume;
+        private final double[] deficit;
+
+        /**
+         * The largest demand in each dimension among the candidates from each index on, used to bound the number of
+         * jobs still needed.
+         */
+        private final double[][] maxDemandFrom;
+
+        private final long deadline;
+        private long nodesVisited;
+        private boolean outOfTime;
+
+        private final int[] path;
+        private int[] best;
+        private int bestCount;
+        private double bestVolume;
+
+        Search(List<Job> candidates, double[] deficit, long deadline) {
+            int n = candidates.size();
+            this.candidates = candidates;
+            this.demand = new double[n][];
+            this.volume = new double[n];
+            for (int i = 0; i < n; ++i) {
+                var job = candidates.get(i);
+                this.demand[i] = new double[] {job.getRequiredCpu(), job.getRequiredGpu(), job.getRequiredMemory()};
+                this.volume[i] = EvictionStrategy.volumeOf(job);
+            }
+            this.maxDemandFrom = new double[n + 1][deficit.length];
+            for (int i = n - 1; i >= 0; --i) {
+                for (int k = 0; k < deficit.length; ++k) {
+                    this.maxDemandFrom[i][k] = Math.max(this.maxDemandFrom[i + 1][k], this.demand[i][k]);
+                }
+            }
+            this.deficit = deficit;
+            this.deadline = deadline;
+            this.path = new int[n];
+        }
+
+        /**
+         * Finds an initial solution by repeatedly evicting the job that covers most of the remaining deficit.
+         *
+         * @return whether the candidates can cover the deficit at all.
+         */
+        boolean startGreedily() {
+            int n = this.candidates.size();
+            boolean[] taken = new boolean[n];
+            double[] remaining = this.deficit.clone();
+            int count = 0;
+            double totalVolume = 0;
+            while (!isCovered(remaining)) {
+                int pick = -1;
+                double pickCoverage = 0;
+                for (int i = 0; i < n; ++i) {
+                    if (taken[i]) {
+                        continue;
+                    }
+                    double covered = coverage(this.candidates.get(i), remaining);
+                    if (covered > pickCoverage + EPSILON
+                            || pick != -1 && covered > pickCoverage - EPSILON && this.volume[i] < this.volume[pick]) {
+                        pick = i;
+                        pickCoverage = covered;
+                    }
+                }
+                if (pick == -1) {
+                    return false;
+                }
+                taken[pick] = true;
+                this.path[count++] = pick;
+                totalVolume += this.volume[pick];
+                for (int k = 0; k < remaining.length; ++k) {
+                    remaining[k] = Math.max(0, remaining[k] - this.demand[pick][k]);
+                }
+            }
+            this.record(count, totalVolume);
+            return true;
+        }
+
+        /**
+         * Extends the current partial solution, whose jobs are on the path, with candidates from the given index on.
+         * Candidates are only considered in increasing index order, so that every set is visited at most once.
+         */
+        void branch(int start, double[] remaining, int count, double totalVolume) {
+            if (isCovered(remaining)) {
+                if (count < this.bestCount || count == this.bestCount && totalVolume < this.bestVolume - EPSILON) {
+                    this.record(count, totalVolume);
+                }
+                return;
+            }
+            for (int i = start; i < this.candidates.size() && !this.isOutOfTime(); ++i) {
+                // the bound only grows with i, as fewer and fewer candidates are left
+                int needed = this.jobsNeeded(i, remaining);
+                if (count + needed > this.bestCount) {
+                    break;
+                }
+                if (count + needed == this.bestCount && totalVolume + this.volume[i] >= this.bestVolume - EPSILON) {
+                    continue;
+                }
+
+                double[] next = new double[remaining.length];
+                for (int k = 0; k < remaining.length; ++k) {
+                    next[k] = Math.max(0, remaining[k] - this.demand[i][k]);
+                }
+                this.path[count] = i;
+                this.branch(i + 1, next, count + 1, totalVolume + this.volume[i]);
+            }
+        }
+
+        /**
+         * A lower bound on the number of candidates from the given index on that are needed to cover the remaining
+         * deficit, or a number larger than any solution if they cannot cover it.
+         */
+        private int jobsNeeded(int from, double[] remaining) {
+            int needed = 0;
+            for (int k = 0; k < remaining.length; ++k) {
+                if (remaining[k] <= EPSILON) {
+                    continue;
+                }
+                if (this.maxDemandFrom[from][k] <= EPSILON) {
+                    return this.candidates.size() + 1;
+                }
+                needed = Math.max(needed, (int) Math.ceil(remaining[k] / this.maxDemandFrom[from][k] - EPSILON));
+            }
+            return needed;
+        }
+
+        private boolean isOutOfTime() {
+            if (!this.outOfTime && (++this.nodesVisited & 0xFF) == 0 && System.nanoTime() > this.deadline) {
+                this.outOfTime = true;
+            }
+            return this.outOfTime;
+        }
+
+        private void record(int count, double totalVolume) {
+            this.best = Arrays.copyOf(this.path, count);
+            this.bestCount = count;
+            this.bestVolume = totalVolume;
+        }
+
+        List<Job> getBest() {
+            List<Job> jobs = new ArrayList<>(this.best.length);
+            for (int index : this.best) {
+                jobs.add(this.candidates.get(index));
+            }
+            return jobs;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package nl.tudelft.sem.template.cluster.domain.strategies;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import nl.tudelft.sem.template.cluster.domain.cluster.FacultyTotalResources;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.ReservableAvailabilityIndex;
+import org.springframework.stereotype.Component;
+
+/**
+ * Defines a batch strategy in which the whole batch is packed jointly, treating every day as a bin with a cpu, gpu
+ * and memory dimension. Jobs are placed in decreasing order of size, each on the day before its preferred date whose
+ * current load is most aligned with the job's demands (the largest dot product of the two, both normalized by the
+ * capacity of the faculty). This fills days that are already partially used in the dimensions the job needs, and keeps
+ * whole days free for the large jobs that follow. Jobs that fit on no day before their preferred date default to the
+ * "earliest possible date" strategy starting with the preferred date.
+ */
+@Component
+public class VectorPackingBatchStrategy implements BatchSchedulingStrategy {
+
+    /**
+     * Packs the jobs onto the days of the snapshot.
+     *
+     * @param availability the snapshot of the available resources of the faculty.
+     * @param capacity the resources assigned to the faculty, which the loads and demands are normalized by.
+     * @param jobs the jobs to schedule.
+     *
+     * @return the date each job is to be scheduled on, in the same order as the jobs.
+     */
+    public List<LocalDate> scheduleJobsFor(ReservableAvailabilityIndex availability, FacultyTotalResources capacity,
+                                           List<Job> jobs) {
+        // largest first; among equally large jobs, the most urgent first
+        var order = IntStream.range(0, jobs.size()).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> -normalizedSize(jobs.get(i), capacity))
+                        .thenComparing(i -> jobs.get(i).getPreferredCompletionDate()))
+                .collect(Collectors.toList());
+
+        LocalDate[] dates = new LocalDate[jobs.size()];
+        for (int i : order) {
+            var job = jobs.get(i);
+            var date = findMostAlignedDate(availability, capacity, job);
+            if (date == null) {
+                // no match - default to the earliest possible
+                date = availability.findFirstFittingDateFrom(job.getPreferredCompletionDate(), job);
+            }
+            if (date == null) {
+                // should never be reached
+                date = availability.getLastDate();
+            }
+            availability.reserve(date, job);
+            dates[i] = date;
+        }
+        return Arrays.asList(dates);
+    }
+
+    /**
+     * Finds the day, not after the job's preferred date, on which the job fits and whose load is most aligned with
+     * the job's demands. Ties go to the earliest day. Days without reservations have nothing to align with, so after
+     * the first fitting day only the days with reservations are considered.
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private static LocalDate findMostAlignedDate(ReservableAvailabilityIndex availability,
+                                                 FacultyTotalResources capacity, Job job) {
+        LocalDate best = null;
+        double bestAlignment = Double.NEGATIVE_INFINITY;
+        var date = availability.findFirstFittingDateFrom(LocalDate.MIN, job);
+        while (date != null && !date.isAfter(job.getPreferredCompletionDate())) {
+            var available = availability.getAvailableResourcesOn(date);
+            double alignment = share(job.getRequiredCpu(), capacity.getCpu_Resources())
+                    * share(capacity.getCpu_Resources() - available.getAvailableCpu(), capacity.getCpu_Resources())
+                    + share(job.getRequiredGpu(), capacity.getGpu_Resources())
+                    * share(capacity.getGpu_Resources() - available.getAvailableGpu(), capacity.getGpu_Resources())
+                    + share(job.getRequiredMemory(), capacity.getMemory_Resources())
+                    * share(capacity.getMemory_Resources() - available.getAvailableMemory(),
+                            capacity.getMemory_Resources());
+            if (alignment > bestAlignment) {
+                bestAlignment = alignment;
+                best = date;
+            }
+            var next = availability.findNextReservedDateFrom(date.plusDays(1));
+            date = next == null ? null : availability.findFirstFittingDateFrom(next, job);
+        }
+        return best;
+    }
+
+    private static double normalizedSize(Job job, FacultyTotalResources capacity) {
+        return share(job.getRequiredCpu(), capacity.getCpu_Resources())
+                + share(job.getRequiredGpu(), capacity.getGpu_Resources())
+                + share(job.getRequiredMemory(), capacity.getMemory_Resources());
+    }
+
+    /**
+     * Normalizes a value by the capacity of the faculty in its dimension. A faculty that has none of a resource
+     * assigned cannot be loaded in that dimension, and no job placed on it requires any of it.
+     */
+    private static double share(double value, double capacity) {
+        return capacity > 0 ? value / capacity : 0;
+    }
+
+}
@@ -0,0 +1,39 @@
+package nl.tudelft.sem.template.cluster.listeners;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import nl.tudelft.sem.template.cluster.domain.cluster.Node;
+import nl.tudelft.sem.template.cluster.domain.services.CapacityCalendarService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener which keeps the capacity calendar up to date with every node that is added to, updated in or
+ * removed from the cluster, regardless of which service or repository performed the change. The calendar only applies the
+ * change once the transaction making it commits.
+ */
+@Component
+public class NodeCapacityListener {
+
+    /**
+     * Resolved lazily, as entity listeners are created while the repositories the calendar depends on are still being
+     * set up.
+     */
+    private final transient ObjectProvider<CapacityCalendarService> capacityCalendarService;
+
+    public NodeCapacityListener(ObjectProvider<CapacityCalendarService> capacityCalendarService) {
+        this.capacityCalendarService = capacityCalendarService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onNodeSaved(Node node) {
+        this.capacityCalendarService.getObject().nodeSaved(node);
+    }
+
+    @PostRemove
+    public void onNodeRemoved(Node node) {
+        this.capacityCalendarService.getObject().nodeRemoved(node);
+    }
+}
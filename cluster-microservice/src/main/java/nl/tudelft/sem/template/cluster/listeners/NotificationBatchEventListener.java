@@ -0,0 +1,26 @@
+package nl.tudelft.sem.template.cluster.listeners;
+
+import java.util.stream.Collectors;
+import nl.tudelft.sem.template.cluster.domain.events.NotificationBatchEvent;
+import nl.tudelft.sem.template.cluster.domain.events.NotificationEvent;
+import nl.tudelft.sem.template.cluster.domain.services.NotificationOutboxService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationBatchEventListener implements ApplicationListener<NotificationBatchEvent> {
+
+    private transient NotificationOutboxService notificationOutboxService;
+
+    @Autowired
+    public NotificationBatchEventListener(NotificationOutboxService notificationOutboxService) {
+        this.notificationOutboxService = notificationOutboxService;
+    }
+
+    @Override
+    public void onApplicationEvent(NotificationBatchEvent notificationBatchEvent) {
+        this.notificationOutboxService.append(notificationBatchEvent.getNotifications().stream()
+                .map(NotificationEvent::toNotification).collect(Collectors.toList()));
+    }
+}
@@ -1,7 +1,8 @@
 package nl.tudelft.sem.template.cluster.listeners;
 
+import java.util.List;
 import nl.tudelft.sem.template.cluster.domain.events.NotificationEvent;
-import nl.tudelft.sem.template.cluster.domain.services.NotificationManagerService;
+import nl.tudelft.sem.template.cluster.domain.services.NotificationOutboxService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
@@ -9,16 +10,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class NotificationEventListener implements ApplicationListener<NotificationEvent> {
 
-    private transient NotificationManagerService notificationManagerService;
+    private transient NotificationOutboxService notificationOutboxService;
 
 
     @Autowired
-    public NotificationEventListener(NotificationManagerService notificationManagerService) {
-        this.notificationManagerService = notificationManagerService;
+    public NotificationEventListener(NotificationOutboxService notificationOutboxService) {
+        this.notificationOutboxService = notificationOutboxService;
     }
 
     @Override
     public void onApplicationEvent(NotificationEvent notificationEvent) {
-        this.notificationManagerService.sendNotification(notificationEvent.toNotification());
+        this.notificationOutboxService.append(List.of(notificationEvent.toNotification()));
     }
 }
@@ -0,0 +1,41 @@
+package nl.tudelft.sem.template.cluster.listeners;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostUpdate;
+import javax.persistence.PreRemove;
+import javax.persistence.PreUpdate;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.services.ReservedResourcesService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener which keeps the reserved_per_faculty_day table up to date with every job that is inserted into,
+ * updated in or deleted from the schedule, in the same transaction. Before a job is updated or deleted, the resources
+ * it has stored are subtracted; after it is inserted or updated, its new resources are added.
+ */
+@Component
+public class ReservedResourcesListener {
+
+    /**
+     * Resolved lazily, as entity listeners are created while the repositories the service depends on are still being
+     * set up.
+     */
+    private final transient ObjectProvider<ReservedResourcesService> reservedResourcesService;
+
+    public ReservedResourcesListener(ObjectProvider<ReservedResourcesService> reservedResourcesService) {
+        this.reservedResourcesService = reservedResourcesService;
+    }
+
+    @PreUpdate
+    @PreRemove
+    public void onJobChanging(Job job) {
+        this.reservedResourcesService.getObject().jobChanging(job.getId());
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onJobSaved(Job job) {
+        this.reservedResourcesService.getObject().jobSaved(job);
+    }
+}
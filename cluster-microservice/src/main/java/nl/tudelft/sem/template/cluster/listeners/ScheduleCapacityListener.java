@@ -0,0 +1,39 @@
+package nl.tudelft.sem.template.cluster.listeners;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.services.CapacityCalendarService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener which keeps the capacity calendar up to date with every job that is inserted into, updated in or
+ * deleted from the schedule, regardless of which service or repository performed the change. The calendar only applies the
+ * change once the transaction making it commits.
+ */
+@Component
+public class ScheduleCapacityListener {
+
+    /**
+     * Resolved lazily, as entity listeners are created while the repositories the calendar depends on are still being
+     * set up.
+     */
+    private final transient ObjectProvider<CapacityCalendarService> capacityCalendarService;
+
+    public ScheduleCapacityListener(ObjectProvider<CapacityCalendarService> capacityCalendarService) {
+        this.capacityCalendarService = capacityCalendarService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onJobSaved(Job job) {
+        this.capacityCalendarService.getObject().jobSaved(job);
+    }
+
+    @PostRemove
+    public void onJobRemoved(Job job) {
+        this.capacityCalendarService.getObject().jobRemoved(job);
+    }
+}
@@ -0,0 +1,22 @@
+package nl.tudelft.sem.template.cluster.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How well a batch scheduling strategy places a given batch of jobs. The average utilization is the mean share of the
+ * cpu, gpu and memory of a faculty that is reserved on the days the batch was placed on, averaged over those days.
+ * The utilization gained is how much higher the average utilization of the joint packing strategy is.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchSchedulingReportResponseModel {
+    private String strategy;
+    private int jobsScheduled;
+    private int jobsScheduledByPreferredDate;
+    private int daysUsed;
+    private double averageUtilization;
+    private double utilizationGained;
+}
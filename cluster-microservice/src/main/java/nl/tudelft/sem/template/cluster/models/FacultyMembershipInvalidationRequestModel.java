@@ -0,0 +1,12 @@
+package nl.tudelft.sem.template.cluster.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FacultyMembershipInvalidationRequestModel {
+    private String netId;
+}
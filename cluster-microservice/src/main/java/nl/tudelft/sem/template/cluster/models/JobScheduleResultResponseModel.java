@@ -0,0 +1,22 @@
+package nl.tudelft.sem.template.cluster.models;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The outcome of scheduling a single job of a batch request. The scheduledFor date is null for rejected jobs.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobScheduleResultResponseModel {
+    private String jobName;
+    private String userNetId;
+    private boolean scheduled;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate scheduledFor;
+    private String message;
+}
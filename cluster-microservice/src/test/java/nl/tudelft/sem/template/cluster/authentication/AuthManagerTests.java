@@ -6,6 +6,7 @@ import java.util.List;
 import nl.tudelft.sem.template.cluster.authentication.AuthManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -33,4 +34,32 @@ public class AuthManagerTests {
         // Assert
         assertThat(actual).isEqualTo(expected);
     }
+
+    @Test
+    public void getFacultiesTest() {
+        // Arrange
+        var authenticationToken = new UsernamePasswordAuthenticationToken("user123", null, List.of());
+        authenticationToken.setDetails(new JwtAuthenticationDetails(new MockHttpServletRequest(), List.of("EWI")));
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+
+        // Act
+        var actual = authManager.getFaculties();
+
+        // Assert
+        assertThat(actual).contains(List.of("EWI"));
+    }
+
+    @Test
+    public void getFacultiesUnknownTest() {
+        // Arrange
+        var authenticationToken = new UsernamePasswordAuthenticationToken("user123", null, List.of());
+        authenticationToken.setDetails(new JwtAuthenticationDetails(new MockHttpServletRequest(), null));
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+
+        // Act
+        var actual = authManager.getFaculties();
+
+        // Assert
+        assertThat(actual).isEmpty();
+    }
 }
@@ -11,6 +11,7 @@ import io.jsonwebtoken.SignatureException;
 import java.lang.reflect.Field;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import nl.tudelft.sem.template.cluster.authentication.JwtTokenVerifier;
 import org.assertj.core.api.ThrowableAssert;
@@ -92,6 +93,132 @@ public class JwtTokenVerifierTests {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void parseFaculties() {
+        // Arrange
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("faculties", "EWI,IO");
+        claims.put("facultiesValidUntil", System.currentTimeMillis() + 10_000_000);
+        String token = generateToken(secret, "user123", claims);
+
+        // Act
+        var actual = jwtTokenVerifier.getFacultiesFromToken(token);
+
+        // Assert
+        assertThat(actual).contains(List.of("EWI", "IO"));
+    }
+
+    @Test
+    public void parseNoFaculties() {
+        // Arrange
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("faculties", "");
+        claims.put("facultiesValidUntil", System.currentTimeMillis() + 10_000_000);
+        String token = generateToken(secret, "user123", claims);
+
+        // Act
+        var actual = jwtTokenVerifier.getFacultiesFromToken(token);
+
+        // Assert
+        assertThat(actual).contains(List.of());
+    }
+
+    @Test
+    public void outdatedFacultiesAreIgnored() {
+        // Arrange
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("faculties", "EWI");
+        claims.put("facultiesValidUntil", System.currentTimeMillis() - 1);
+        String token = generateToken(secret, "user123", claims);
+
+        // Act
+        var actual = jwtTokenVerifier.getFacultiesFromToken(token);
+
+        // Assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    public void tokenWithoutFaculties() {
+        // Arrange
+        String token = generateToken(secret, "user123", -10_000_000, 10_000_000);
+
+        // Act
+        var actual = jwtTokenVerifier.getFacultiesFromToken(token);
+
+        // Assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    public void verifiedTokenIsNotVerifiedAgain() throws NoSuchFieldException, IllegalAccessException {
+        // Arrange
+        String token = generateToken(secret, "user123", -10_000_000, 10_000_000);
+        jwtTokenVerifier.validateToken(token);
+        this.injectSecret("otherSecret");
+
+        // Act
+        String actual = jwtTokenVerifier.getNetIdFromToken(token);
+
+        // Assert
+        assertThat(actual).isEqualTo("user123");
+        // another token is verified with the new secret, even if it was issued within the same second
+        assertThatExceptionOfType(SignatureException.class)
+                .isThrownBy(() -> jwtTokenVerifier.getNetIdFromToken(generateToken(secret, "user456",
+                        -10_000_000, 10_000_000)));
+    }
+
+    @Test
+    public void tokensAreEvictedFromFullCache() throws NoSuchFieldException, IllegalAccessException {
+        // Arrange
+        Field cacheMaxSize = jwtTokenVerifier.getClass().getDeclaredField("cacheMaxSize");
+        cacheMaxSize.setAccessible(true);
+        cacheMaxSize.set(jwtTokenVerifier, 1);
+        String first = generateToken(secret, "user123", -10_000_000, 10_000_000);
+        String second = generateToken(secret, "user456", -10_000_000, 10_000_000);
+
+        // Act
+        jwtTokenVerifier.getNetIdFromToken(first);
+        jwtTokenVerifier.getNetIdFromToken(second);
+        this.injectSecret("otherSecret");
+
+        // Assert
+        assertThat(jwtTokenVerifier.getNetIdFromToken(second)).isEqualTo("user456");
+        assertThatExceptionOfType(SignatureException.class)
+                .isThrownBy(() -> jwtTokenVerifier.getNetIdFromToken(first));
+    }
+
+    @Test
+    public void leastRecentlyUsedTokenIsEvicted() throws NoSuchFieldException, IllegalAccessException {
+        // Arrange
+        Field cacheMaxSize = jwtTokenVerifier.getClass().getDeclaredField("cacheMaxSize");
+        cacheMaxSize.setAccessible(true);
+        cacheMaxSize.set(jwtTokenVerifier, 2);
+        String first = generateToken(secret, "user123", -10_000_000, 10_000_000);
+        String second = generateToken(secret, "user456", -10_000_000, 10_000_000);
+        String third = generateToken(secret, "user789", -10_000_000, 10_000_000);
+
+        // Act
+        jwtTokenVerifier.getNetIdFromToken(first);
+        jwtTokenVerifier.getNetIdFromToken(second);
+        jwtTokenVerifier.getNetIdFromToken(first);
+        jwtTokenVerifier.getNetIdFromToken(third);
+        this.injectSecret("otherSecret");
+
+        // Assert
+        assertThat(jwtTokenVerifier.getNetIdFromToken(first)).isEqualTo("user123");
+        assertThat(jwtTokenVerifier.getNetIdFromToken(third)).isEqualTo("user789");
+        assertThatExceptionOfType(SignatureException.class)
+                .isThrownBy(() -> jwtTokenVerifier.getNetIdFromToken(second));
+    }
+
+    private String generateToken(String jwtSecret, String netid, Map<String, Object> claims) {
+        return Jwts.builder().setClaims(claims).setSubject(netid)
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + 10_000_000))
+                .signWith(SignatureAlgorithm.HS512, jwtSecret).compact();
+    }
+
     private String generateToken(String jwtSecret, String netid, long issuanceOffset, long expirationOffset) {
         Map<String, Object> claims = new HashMap<>();
         return Jwts.builder().setClaims(claims).setSubject(netid)
@@ -0,0 +1,87 @@
+package nl.tudelft.sem.template.cluster.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import nl.tudelft.sem.template.cluster.domain.builders.JobBuilder;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailabilityTimeline;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
+import nl.tudelft.sem.template.cluster.domain.cluster.FacultyCapacityCalendar;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.ListAvailabilityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AvailabilityTimelineTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2022, 12, 1);
+    private static final LocalDate LAST = LocalDate.of(2022, 12, 31);
+
+    private FacultyCapacityCalendar calendar;
+    private AvailabilityTimeline timeline;
+
+    /**
+     * Set up a calendar with 10 resources in each category and reservations on the 5th, 6th and 20th.
+     */
+    @BeforeEach
+    void setup() {
+        this.calendar = new FacultyCapacityCalendar("EWI");
+        this.calendar.addNode(10.0, 10.0, 10.0);
+        this.calendar.reserve(FIRST.plusDays(4), 8.0, 1.0, 1.0);
+        this.calendar.reserve(FIRST.plusDays(5), 6.0, 1.0, 1.0);
+        this.calendar.reserve(FIRST.plusDays(19), 9.0, 9.0, 9.0);
+        this.timeline = this.calendar.getAvailabilityTimeline(FIRST, LAST);
+    }
+
+    @Test
+    public void onlyReservedDaysAreStoredTest() {
+        assertThat(this.timeline.getNumberOfReservedDays()).isEqualTo(3);
+        assertThat(this.timeline.getAvailableResourcesOn(FIRST.plusDays(4)))
+                .isEqualTo(new AvailableResourcesForDate(FIRST.plusDays(4), 2.0, 9.0, 9.0));
+        assertThat(this.timeline.getAvailableResourcesOn(FIRST.plusDays(10)))
+                .isEqualTo(new AvailableResourcesForDate(FIRST.plusDays(10), 10.0, 10.0, 10.0));
+        assertThrows(IllegalArgumentException.class, () -> this.timeline.getAvailableResourcesOn(LAST.plusDays(1)));
+    }
+
+    @Test
+    public void queriesMatchDenseIndexTest() {
+        var dense = new ListAvailabilityIndex(this.calendar.getAvailableResources(FIRST, LAST));
+        for (Job job : List.of(job(1.0), job(3.0), job(5.0), job(10.0), job(11.0))) {
+            for (LocalDate date = FIRST.minusDays(1); !date.isAfter(LAST.plusDays(1)); date = date.plusDays(1)) {
+                assertThat(this.timeline.findFirstFittingDateFrom(date, job))
+                        .isEqualTo(dense.findFirstFittingDateFrom(date, job));
+                assertThat(this.timeline.findLastFittingDateUntil(date, job))
+                        .isEqualTo(dense.findLastFittingDateUntil(date, job));
+            }
+        }
+    }
+
+    @Test
+    public void nextReservedDateSkipsEmptyDaysTest() {
+        assertThat(this.timeline.findNextReservedDateFrom(LocalDate.MIN)).isEqualTo(FIRST.plusDays(4));
+        assertThat(this.timeline.findNextReservedDateFrom(FIRST.plusDays(6))).isEqualTo(FIRST.plusDays(19));
+        assertThat(this.timeline.findNextReservedDateFrom(FIRST.plusDays(20))).isNull();
+        assertThat(this.calendar.findNextReservedDate(FIRST.plusDays(6), LAST)).isEqualTo(FIRST.plusDays(19));
+    }
+
+    @Test
+    public void reserveAddsEntriesWithoutChangingCalendarTest() {
+        this.timeline.reserve(FIRST, job(7.0));
+        this.timeline.reserve(FIRST.plusDays(4), job(2.0));
+
+        assertThat(this.timeline.getNumberOfReservedDays()).isEqualTo(4);
+        assertThat(this.timeline.findFirstFittingDateFrom(FIRST, job(4.0))).isEqualTo(FIRST.plusDays(1));
+        assertThat(this.timeline.findFirstFittingDateFrom(FIRST.plusDays(4), job(1.0))).isEqualTo(FIRST.plusDays(5));
+        assertThat(this.timeline.findNextReservedDateFrom(FIRST)).isEqualTo(FIRST);
+        assertThat(this.calendar.hasReservationsOn(FIRST)).isFalse();
+    }
+
+    private static Job job(double cpu) {
+        return new JobBuilder().preferredCompletedBeforeDate(LAST)
+                .needingMemoryResources(1.0).needingGpuResources(1.0).needingCpuResources(cpu).withDescription("desc")
+                .havingName("job").requestedByUserWithNetId("ariel").requestedThroughFaculty("EWI")
+                .constructJobInstance();
+    }
+}
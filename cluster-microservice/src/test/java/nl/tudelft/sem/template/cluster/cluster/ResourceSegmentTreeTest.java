@@ -0,0 +1,69 @@
+package nl.tudelft.sem.template.cluster.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import nl.tudelft.sem.template.cluster.domain.cluster.ResourceSegmentTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ResourceSegmentTreeTest {
+
+    private ResourceSegmentTree tree;
+
+    @BeforeEach
+    void setup() {
+        this.tree = new ResourceSegmentTree(5, 0);
+        this.tree.set(0, 3, 1, 2);
+        this.tree.set(1, 3, 4, 4);
+        this.tree.set(2, 2, 1, 0);
+        this.tree.set(3, 2, 3, 3);
+        this.tree.set(4, 5, 5, 5);
+    }
+
+    @Test
+    public void findFirstTest() {
+        assertThat(this.tree.findFirst(0, 4, 2, 2, 2)).isEqualTo(1);
+        assertThat(this.tree.findFirst(2, 4, 2, 2, 2)).isEqualTo(3);
+        assertThat(this.tree.findFirst(0, 4, 5, 5, 5)).isEqualTo(4);
+    }
+
+    @Test
+    public void findLastTest() {
+        assertThat(this.tree.findLast(0, 4, 2, 2, 2)).isEqualTo(4);
+        assertThat(this.tree.findLast(0, 3, 3, 1, 2)).isEqualTo(1);
+        assertThat(this.tree.findLast(0, 2, 1, 1, 1)).isEqualTo(1);
+    }
+
+    @Test
+    public void noMatchTest() {
+        assertThat(this.tree.findFirst(0, 4, 6, 0, 0)).isEqualTo(-1);
+        assertThat(this.tree.findLast(0, 3, 4, 0, 0)).isEqualTo(-1);
+        assertThat(this.tree.findFirst(3, 2, 0, 0, 0)).isEqualTo(-1);
+    }
+
+    @Test
+    public void dimensionsPeakingOnDifferentSlotsTest() {
+        var other = new ResourceSegmentTree(4, 0);
+        other.set(0, 9, 0, 0);
+        other.set(1, 0, 9, 0);
+        other.set(2, 0, 0, 9);
+        other.set(3, 9, 9, 9);
+        assertThat(other.findFirst(0, 3, 1, 1, 1)).isEqualTo(3);
+    }
+
+    @Test
+    public void updatesAreReflectedTest() {
+        this.tree.set(4, 0, 0, 0);
+        assertThat(this.tree.findFirst(0, 4, 5, 5, 5)).isEqualTo(-1);
+        this.tree.set(2, 5, 5, 5);
+        assertThat(this.tree.findFirst(0, 4, 5, 5, 5)).isEqualTo(2);
+    }
+
+    @Test
+    public void emptyTreeTest() {
+        var empty = new ResourceSegmentTree(0, 0);
+        assertThat(empty.getLength()).isEqualTo(0);
+        assertThat(empty.findFirst(0, 0, 0, 0, 0)).isEqualTo(-1);
+    }
+
+}
@@ -0,0 +1,91 @@
+package nl.tudelft.sem.template.cluster.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class EventDispatchExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger handled = new AtomicInteger();
+    private EventDispatchExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        this.release.countDown();
+        this.executor.destroy();
+    }
+
+    /**
+     * Submits events whose listeners block until released, except when run on the publishing thread.
+     */
+    private void submitBlockingEvents(int count, Thread publisher) {
+        for (int i = 0; i < count; ++i) {
+            this.executor.execute(() -> {
+                if (Thread.currentThread() != publisher) {
+                    try {
+                        this.release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                this.handled.incrementAndGet();
+            });
+        }
+    }
+
+    private void awaitActiveWorkers(int count) throws InterruptedException {
+        for (int i = 0; i < 100 && this.executor.getActiveWorkers() < count; ++i) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void boundedQueueTest() throws InterruptedException {
+        this.executor = new EventDispatchExecutor(2, 3, EventDispatchExecutor.RejectionPolicy.DISCARD, false);
+        this.submitBlockingEvents(7, Thread.currentThread());
+        this.awaitActiveWorkers(2);
+
+        assertThat(this.executor.getActiveWorkers()).isEqualTo(2);
+        assertThat(this.executor.getQueueDepth()).isEqualTo(3);
+        assertThat(this.executor.getRejectionCount()).isEqualTo(2);
+
+        this.release.countDown();
+        this.executor.destroy();
+        assertThat(this.handled.get()).isEqualTo(5);
+        assertThat(this.executor.getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void callerRunsTest() throws InterruptedException {
+        this.executor = new EventDispatchExecutor(1, 1, EventDispatchExecutor.RejectionPolicy.CALLER_RUNS, false);
+        this.submitBlockingEvents(4, Thread.currentThread());
+
+        // the events that did not fit were handled by the publisher itself
+        assertThat(this.handled.get()).isEqualTo(2);
+        assertThat(this.executor.getRejectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void abortTest() {
+        this.executor = new EventDispatchExecutor(1, 1, EventDispatchExecutor.RejectionPolicy.ABORT, false);
+        this.submitBlockingEvents(2, Thread.currentThread());
+
+        assertThrows(RejectedExecutionException.class, () -> this.submitBlockingEvents(1, Thread.currentThread()));
+        assertThat(this.executor.getRejectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void virtualThreadsFallBackTest() {
+        this.executor = new EventDispatchExecutor(1, 1, EventDispatchExecutor.RejectionPolicy.ABORT, true);
+
+        assertThat(this.executor.getParallelism()).isEqualTo(1);
+        assertThat(this.executor.isUsingVirtualThreads()).isEqualTo(Runtime.version().feature() >= 21);
+    }
+}
@@ -0,0 +1,91 @@
+package nl.tudelft.sem.template.cluster.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+public class InterServiceClientTest {
+
+    private MockRestServiceServer server;
+    private MeterRegistry meterRegistry;
+    private InterServiceClient client;
+
+    /**
+     * Set up a client sending its requests to a mocked server, on the calling thread.
+     */
+    @BeforeEach
+    void setup() {
+        RestTemplate restTemplate = new RestTemplate();
+        this.server = MockRestServiceServer.createServer(restTemplate);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.client = new InterServiceClient(restTemplate, this.meterRegistry,
+                Map.of(InterServiceClient.USERS, "http://users:8081"), Runnable::run);
+    }
+
+    @Test
+    void requestIsSentToBaseUrlOfServiceTest() {
+        this.server.expect(once(), requestTo("http://users:8081/resources/EWI"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("ok", MediaType.TEXT_PLAIN));
+
+        var response = this.client.exchange(InterServiceClient.USERS, "/resources/{faculty}", HttpMethod.GET,
+                HttpEntity.EMPTY, String.class, "EWI");
+
+        this.server.verify();
+        assertThat(response.getBody()).isEqualTo("ok");
+        assertThat(this.meterRegistry.get("interservice.client.requests")
+                .tags("service", "users", "endpoint", "/resources/{faculty}", "status", "200")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedRequestIsRecordedWithStatusTest() {
+        this.server.expect(once(), requestTo("http://users:8081/notifications/batch"))
+                .andRespond(withServerError());
+
+        assertThrows(HttpServerErrorException.class, () -> this.client.exchange(InterServiceClient.USERS,
+                "/notifications/batch", HttpMethod.POST, HttpEntity.EMPTY, String.class));
+
+        assertThat(this.meterRegistry.get("interservice.client.requests")
+                .tags("endpoint", "/notifications/batch", "status", "500")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void asyncRequestCompletesWithResponseTest() {
+        this.server.expect(once(), requestTo("http://users:8081/getUserFaculties"))
+                .andRespond(withSuccess("[EWI]", MediaType.TEXT_PLAIN));
+
+        var response = this.client.exchangeAsync(InterServiceClient.USERS, "/getUserFaculties", HttpMethod.POST,
+                HttpEntity.EMPTY, String.class).join();
+
+        assertThat(response.getBody()).isEqualTo("[EWI]");
+    }
+
+    @Test
+    void unknownServiceTest() {
+        assertThrows(IllegalArgumentException.class, () -> this.client.exchange(InterServiceClient.REQUESTS,
+                "/job/sendRequest", HttpMethod.POST, HttpEntity.EMPTY, String.class));
+
+        var failed = this.client.exchangeAsync(InterServiceClient.REQUESTS, "/job/sendRequest", HttpMethod.POST,
+                HttpEntity.EMPTY, String.class);
+        assertThrows(CompletionException.class, failed::join);
+    }
+}
@@ -0,0 +1,40 @@
+package nl.tudelft.sem.template.cluster.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class QueryPlanVerifierTest {
+
+    @Autowired
+    private transient QueryPlanVerifier queryPlanVerifier;
+
+    @Autowired
+    private transient JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void lookupsUseDeclaredIndexesTest() {
+        assertThat(this.queryPlanVerifier.findLookupsNotUsingIndex()).isEmpty();
+    }
+
+    @Test
+    public void missingIndexIsReportedTest() {
+        this.jdbcTemplate.execute("DROP INDEX idx_schedule_user_net_id");
+        try {
+            assertThat(this.queryPlanVerifier.findLookupsNotUsingIndex())
+                    .singleElement().asString().startsWith("JobScheduleRepository.findByUserNetId");
+            assertThrows(IllegalStateException.class,
+                    () -> new QueryPlanVerifier(this.jdbcTemplate, true).run(null));
+        } finally {
+            this.jdbcTemplate.execute("CREATE INDEX idx_schedule_user_net_id ON schedule (user_net_id)");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDate;
@@ -20,6 +21,7 @@ import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
 import nl.tudelft.sem.template.cluster.integration.utils.JsonUtil;
 import nl.tudelft.sem.template.cluster.models.FacultyDatedResourcesResponseModel;
 import nl.tudelft.sem.template.cluster.models.JobRequestModel;
+import nl.tudelft.sem.template.cluster.profiles.MockTokenVerifierProfile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +29,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -59,6 +62,9 @@ public class FacultyResourcesInformationControllerTest {
     @Autowired
     private transient DateProvider dateProvider;
 
+    @Autowired
+    private transient JdbcTemplate jdbcTemplate;
+
     private Node node1;
 
     private Job job;
@@ -75,9 +81,8 @@ public class FacultyResourcesInformationControllerTest {
     public void setup() {
         when(mockAuthenticationManager.getNetId()).thenReturn("ALAN");
         when(mockAuthenticationManager.getRole()).thenReturn("SYSADMIN");
-        when(mockJwtTokenVerifier.validateToken(anyString())).thenReturn(true);
-        when(mockJwtTokenVerifier.getNetIdFromToken(anyString())).thenReturn("ALAN");
-        when(mockJwtTokenVerifier.getRoleFromToken(anyString())).thenReturn("ROLE_SYSADMIN");
+        when(mockJwtTokenVerifier.getVerifiedClaims(anyString()))
+                .thenReturn(MockTokenVerifierProfile.mockClaims("ALAN", "ROLE_SYSADMIN"));
 
         node1 = new NodeBuilder()
             .setNodeCpuResourceCapacityTo(0.0)
@@ -420,4 +425,37 @@ public class FacultyResourcesInformationControllerTest {
 
         result.andExpect(status().isBadRequest());
     }
+
+    @Test
+    void rebuildReservedResourcesConsistentTest() throws Exception {
+        jobScheduleRepository.save(job);
+
+        ResultActions result = mockMvc.perform(post("/resources/reserved/rebuild")
+            .header("Authorization", "Bearer MockedToken"));
+
+        result.andExpect(status().isOk());
+        assertThat(result.andReturn().getResponse().getContentAsString())
+            .isEqualTo("Reserved resources were consistent with the schedule.");
+    }
+
+    @Test
+    void rebuildReservedResourcesInconsistentTest() throws Exception {
+        FacultyDatedResourcesResponseModel testingModel = new FacultyDatedResourcesResponseModel(
+            LocalDate.of(2022, 12, 14), "EWI",
+            5.0, 1.0, 1.0);
+        jobScheduleRepository.save(job);
+        jdbcTemplate.update("DELETE FROM reserved_per_faculty_day");
+
+        ResultActions result = mockMvc.perform(post("/resources/reserved/rebuild")
+            .header("Authorization", "Bearer MockedToken"));
+
+        result.andExpect(status().isOk());
+        assertThat(result.andReturn().getResponse().getContentAsString())
+            .isEqualTo("Reserved resources were rebuilt from the schedule.");
+
+        String response = mockMvc.perform(get("/resources/reserved/")
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("Authorization", "Bearer MockedToken")).andReturn().getResponse().getContentAsString();
+        assertThat(response).isEqualTo(JsonUtil.serialize(List.of(testingModel)));
+    }
 }
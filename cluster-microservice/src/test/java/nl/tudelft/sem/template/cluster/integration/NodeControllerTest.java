@@ -14,6 +14,7 @@ import nl.tudelft.sem.template.cluster.domain.builders.NodeBuilder;
 import nl.tudelft.sem.template.cluster.domain.cluster.Node;
 import nl.tudelft.sem.template.cluster.domain.cluster.NodeRepository;
 import nl.tudelft.sem.template.cluster.integration.utils.JsonUtil;
+import nl.tudelft.sem.template.cluster.profiles.MockTokenVerifierProfile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -62,9 +63,8 @@ public class NodeControllerTest {
     public void setup() {
         when(mockAuthenticationManager.getNetId()).thenReturn("ALAN");
         when(mockAuthenticationManager.getRole()).thenReturn("SYSADMIN");
-        when(mockJwtTokenVerifier.validateToken(anyString())).thenReturn(true);
-        when(mockJwtTokenVerifier.getNetIdFromToken(anyString())).thenReturn("ALAN");
-        when(mockJwtTokenVerifier.getRoleFromToken(anyString())).thenReturn("ROLE_SYSADMIN");
+        when(mockJwtTokenVerifier.getVerifiedClaims(anyString()))
+                .thenReturn(MockTokenVerifierProfile.mockClaims("ALAN", "ROLE_SYSADMIN"));
 
         node1 = new NodeBuilder()
             .setNodeCpuResourceCapacityTo(0.0)
@@ -20,6 +20,8 @@ import nl.tudelft.sem.template.cluster.domain.cluster.NodeRepository;
 import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
 import nl.tudelft.sem.template.cluster.integration.utils.JsonUtil;
 import nl.tudelft.sem.template.cluster.models.JobRequestModel;
+import nl.tudelft.sem.template.cluster.models.JobScheduleResultResponseModel;
+import nl.tudelft.sem.template.cluster.profiles.MockTokenVerifierProfile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -79,9 +81,8 @@ public class ScheduleControllerTest {
     public void setup() {
         when(mockAuthenticationManager.getNetId()).thenReturn("ALAN");
         when(mockAuthenticationManager.getRole()).thenReturn("SYSADMIN");
-        when(mockJwtTokenVerifier.validateToken(anyString())).thenReturn(true);
-        when(mockJwtTokenVerifier.getNetIdFromToken(anyString())).thenReturn("ALAN");
-        when(mockJwtTokenVerifier.getRoleFromToken(anyString())).thenReturn("ROLE_SYSADMIN");
+        when(mockJwtTokenVerifier.getVerifiedClaims(anyString()))
+                .thenReturn(MockTokenVerifierProfile.mockClaims("ALAN", "ROLE_SYSADMIN"));
 
         node1 = new NodeBuilder()
                 .setNodeCpuResourceCapacityTo(0.0)
@@ -265,4 +266,79 @@ public class ScheduleControllerTest {
         assertThat(response).isEqualTo("Successfully scheduled job.");
     }
 
+    @Test
+    public void sendBatchRequestTest() throws Exception {
+        // nodes
+        node1.setCpuResources(5.0);
+        node1.setGpuResources(3.0);
+        node1.setMemoryResources(2.0);
+        nodeRepository.save(node1);
+        node2.setCpuResources(3.0);
+        node2.setMemoryResources(1.0);
+        node2.setFacultyId("EWI");
+        nodeRepository.save(node2);
+
+        // requests: two jobs that do not fit on the same day, and an invalid one
+        model.setRequiredCpu(5.0);
+        model.setRequiredGpu(2.0);
+        model.setRequiredMemory(1.0);
+        var invalidModel = new JobRequestModel();
+        invalidModel.setFacultyId("EWI");
+        invalidModel.setJobName("invalid");
+        invalidModel.setJobDescription("desc");
+        invalidModel.setUserNetId("ALAN");
+        invalidModel.setRequiredCpu(1.0);
+        invalidModel.setRequiredGpu(2.0);
+        invalidModel.setRequiredMemory(0.5);
+        invalidModel.setPreferredCompletionDate(LocalDate.now().plusDays(2));
+        String json = JsonUtil.serialize(List.of(model, model, invalidModel));
+        ResultActions result = mockMvc.perform(post("/requests/batch")
+                .accept(MediaType.APPLICATION_JSON).content(json)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer MockedToken"));
+
+        // Assert
+        result.andExpect(status().isOk());
+        String response = result.andReturn().getResponse().getContentAsString();
+        assertThat(response).isEqualTo(JsonUtil.serialize(List.of(
+                new JobScheduleResultResponseModel("name", "ALAN", true, dateProvider.getTomorrow(),
+                        "Successfully scheduled job."),
+                new JobScheduleResultResponseModel("name", "ALAN", true, dateProvider.getTomorrow().plusDays(1),
+                        "Successfully scheduled job."),
+                new JobScheduleResultResponseModel("invalid", "ALAN", false, null,
+                        "The requested job cannot require more GPU or memory than CPU."))));
+        assertThat(jobScheduleRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    public void sendBatchWithMalformedRequestsTest() throws Exception {
+        node1.setCpuResources(5.0);
+        node1.setGpuResources(3.0);
+        node1.setMemoryResources(2.0);
+        nodeRepository.save(node1);
+
+        // requests: a valid one, one without a description and one without a preferred completion date
+        var noDescription = JsonUtil.deserialize(JsonUtil.serialize(model), JobRequestModel.class);
+        noDescription.setJobDescription(null);
+        var noDate = JsonUtil.deserialize(JsonUtil.serialize(model), JobRequestModel.class);
+        noDate.setPreferredCompletionDate(null);
+        String json = JsonUtil.serialize(List.of(model, noDescription, noDate));
+        ResultActions result = mockMvc.perform(post("/requests/batch")
+                .accept(MediaType.APPLICATION_JSON).content(json)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer MockedToken"));
+
+        // Assert
+        result.andExpect(status().isOk());
+        String rejection = "The requested job must have a faculty, a user, a name, a description and a preferred"
+                + " completion date.";
+        String response = result.andReturn().getResponse().getContentAsString();
+        assertThat(response).isEqualTo(JsonUtil.serialize(List.of(
+                new JobScheduleResultResponseModel("name", "ALAN", true, dateProvider.getTomorrow(),
+                        "Successfully scheduled job."),
+                new JobScheduleResultResponseModel("name", "ALAN", false, null, rejection),
+                new JobScheduleResultResponseModel("name", "ALAN", false, null, rejection))));
+        assertThat(jobScheduleRepository.count()).isEqualTo(1);
+    }
+
 }
@@ -33,6 +33,7 @@ public class JsonUtil {
      */
     public static <T> T deserialize(String json, Class<T> type) throws JsonProcessingException {
         ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
         return objectMapper.readValue(json, type);
     }
 }
\ No newline at end of file
@@ -0,0 +1,254 @@
+package nl.tudelft.sem.template.cluster.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import nl.tudelft.sem.template.cluster.domain.builders.JobBuilder;
+import nl.tudelft.sem.template.cluster.domain.builders.NodeBuilder;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.JobScheduleRepository;
+import nl.tudelft.sem.template.cluster.domain.cluster.Node;
+import nl.tudelft.sem.template.cluster.domain.cluster.NodeRepository;
+import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
+import nl.tudelft.sem.template.cluster.domain.services.CapacityCalendarService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class CapacityCalendarServiceTest {
+
+    @Autowired
+    private transient CapacityCalendarService capacityCalendarService;
+
+    @Autowired
+    private transient NodeRepository nodeRepository;
+
+    @Autowired
+    private transient JobScheduleRepository jobScheduleRepository;
+
+    @Autowired
+    private transient DateProvider dateProvider;
+
+    @Autowired
+    private transient PlatformTransactionManager transactionManager;
+
+    private Node node1;
+    private Node node2;
+
+    private Job job1;
+    private Job job2;
+
+    /**
+     * Set up the tests.
+     */
+    @BeforeEach
+    void setup() {
+        this.jobScheduleRepository.deleteAll();
+        this.nodeRepository.deleteAll();
+
+        this.node1 = new NodeBuilder()
+            .setNodeCpuResourceCapacityTo(10.0)
+            .setNodeGpuResourceCapacityTo(5.0)
+            .setNodeMemoryResourceCapacityTo(5.0)
+            .withNodeName("node1")
+            .foundAtUrl("/EWI/node1")
+            .byUserWithNetId("SYSTEM")
+            .assignToFacultyWithId("EWI").constructNodeInstance();
+        this.node2 = new NodeBuilder()
+            .setNodeCpuResourceCapacityTo(4.0)
+            .setNodeGpuResourceCapacityTo(2.0)
+            .setNodeMemoryResourceCapacityTo(2.0)
+            .withNodeName("node2")
+            .foundAtUrl("/AE/node2")
+            .byUserWithNetId("SYSTEM")
+            .assignToFacultyWithId("AE").constructNodeInstance();
+        this.job1 = new JobBuilder().preferredCompletedBeforeDate(dateProvider.getTomorrow().plusDays(2))
+            .needingMemoryResources(1.0).needingGpuResources(1.0).needingCpuResources(5.0).withDescription("desc")
+            .havingName("job").requestedByUserWithNetId("ariel").requestedThroughFaculty("EWI")
+            .constructJobInstance();
+        this.job1.setScheduledFor(dateProvider.getTomorrow().plusDays(1));
+        this.job2 = new JobBuilder().preferredCompletedBeforeDate(dateProvider.getTomorrow().plusDays(2))
+            .needingMemoryResources(2.0).needingGpuResources(2.0).needingCpuResources(2.0).withDescription("desc")
+            .havingName("ob").requestedByUserWithNetId("ariel").requestedThroughFaculty("EWI")
+            .constructJobInstance();
+        this.job2.setScheduledFor(dateProvider.getTomorrow().plusDays(1));
+    }
+
+    @Test
+    public void emptyCalendarTest() {
+        assertThat(this.capacityCalendarService.getFaculties()).isEmpty();
+        assertThat(this.capacityCalendarService.findLatestReservedDate()).isNull();
+        assertThat(this.capacityCalendarService.getAvailableResources("EWI", dateProvider.getTomorrow(),
+            dateProvider.getTomorrow())).isEqualTo(List.of(
+                new AvailableResourcesForDate(dateProvider.getTomorrow(), 0.0, 0.0, 0.0)));
+    }
+
+    @Test
+    public void nodesAreTrackedTest() {
+        this.nodeRepository.save(this.node1);
+        this.nodeRepository.save(this.node2);
+
+        assertThat(this.capacityCalendarService.getFaculties()).isEqualTo(List.of("AE", "EWI"));
+
+        this.nodeRepository.delete(this.node2);
+
+        assertThat(this.capacityCalendarService.getFaculties()).isEqualTo(List.of("EWI"));
+    }
+
+    @Test
+    public void nodeUpdatesAreTrackedTest() {
+        this.nodeRepository.save(this.node1);
+        this.node1.setCpuResources(20.0);
+        this.nodeRepository.save(this.node1);
+
+        var available = this.capacityCalendarService.getAvailableResources("EWI", dateProvider.getTomorrow(),
+            dateProvider.getTomorrow());
+        assertThat(available.get(0).getAvailableCpu()).isEqualTo(20.0);
+    }
+
+    @Test
+    public void reservationsAreTrackedTest() {
+        this.nodeRepository.save(this.node1);
+        this.jobScheduleRepository.save(this.job1);
+        this.jobScheduleRepository.save(this.job2);
+
+        var available = this.capacityCalendarService.getAvailableResources("EWI", dateProvider.getTomorrow(),
+            dateProvider.getTomorrow().plusDays(2));
+        assertThat(available).isEqualTo(List.of(
+            new AvailableResourcesForDate(dateProvider.getTomorrow(), 10.0, 5.0, 5.0),
+            new AvailableResourcesForDate(dateProvider.getTomorrow().plusDays(1), 3.0, 2.0, 2.0),
+            new AvailableResourcesForDate(dateProvider.getTomorrow().plusDays(2), 10.0, 5.0, 5.0)));
+        assertThat(this.capacityCalendarService.findLatestReservedDate())
+            .isEqualTo(dateProvider.getTomorrow().plusDays(1));
+    }
+
+    @Test
+    public void removedJobsAreReleasedTest() {
+        this.nodeRepository.save(this.node1);
+        this.jobScheduleRepository.save(this.job1);
+        this.jobScheduleRepository.save(this.job2);
+        this.jobScheduleRepository.delete(this.job1);
+
+        var available = this.capacityCalendarService.getAvailableResources("EWI",
+            dateProvider.getTomorrow().plusDays(1), dateProvider.getTomorrow().plusDays(1));
+        assertThat(available.get(0)).isEqualTo(
+            new AvailableResourcesForDate(dateProvider.getTomorrow().plusDays(1), 8.0, 3.0, 3.0));
+
+        this.jobScheduleRepository.delete(this.job2);
+        assertThat(this.capacityCalendarService.findLatestReservedDate()).isNull();
+    }
+
+    @Test
+    public void reservationsFarInThePastAndFutureTest() {
+        this.nodeRepository.save(this.node1);
+        this.job1.setScheduledFor(LocalDate.of(2022, 12, 14));
+        this.job2.setScheduledFor(dateProvider.getTomorrow().plusDays(400));
+        this.jobScheduleRepository.save(this.job1);
+        this.jobScheduleRepository.save(this.job2);
+
+        assertThat(this.capacityCalendarService.findLatestReservedDate())
+            .isEqualTo(dateProvider.getTomorrow().plusDays(400));
+        assertThat(this.capacityCalendarService.getAvailableResources("EWI", LocalDate.of(2022, 12, 14),
+            LocalDate.of(2022, 12, 14)).get(0).getAvailableCpu()).isEqualTo(5.0);
+    }
+
+    @Test
+    public void reloadTest() {
+        this.nodeRepository.save(this.node1);
+        this.jobScheduleRepository.save(this.job1);
+
+        var before = this.capacityCalendarService.getAvailableResources("EWI", dateProvider.getTomorrow(),
+            dateProvider.getTomorrow().plusDays(2));
+        this.capacityCalendarService.reload();
+
+        assertThat(this.capacityCalendarService.getAvailableResources("EWI", dateProvider.getTomorrow(),
+            dateProvider.getTomorrow().plusDays(2))).isEqualTo(before);
+    }
+
+    @Test
+    public void availabilityIndexTest() {
+        this.nodeRepository.save(this.node1);
+        this.jobScheduleRepository.save(this.job1);
+        this.jobScheduleRepository.save(this.job2);
+
+        var index = this.capacityCalendarService.getAvailabilityIndex("EWI", dateProvider.getTomorrow(),
+            dateProvider.getTomorrow().plusDays(2));
+        var largeJob = new JobBuilder().preferredCompletedBeforeDate(dateProvider.getTomorrow())
+            .needingMemoryResources(1.0).needingGpuResources(1.0).needingCpuResources(4.0).withDescription("desc")
+            .havingName("large").requestedByUserWithNetId("ariel").requestedThroughFaculty("EWI")
+            .constructJobInstance();
+
+        assertThat(index.findFirstFittingDateFrom(dateProvider.getTomorrow().plusDays(1), largeJob))
+            .isEqualTo(dateProvider.getTomorrow().plusDays(2));
+        assertThat(index.findLastFittingDateUntil(dateProvider.getTomorrow().plusDays(1), largeJob))
+            .isEqualTo(dateProvider.getTomorrow());
+        assertThat(index.getAvailableResourcesOn(dateProvider.getTomorrow().plusDays(1)))
+            .isEqualTo(new AvailableResourcesForDate(dateProvider.getTomorrow().plusDays(1), 3.0, 2.0, 2.0));
+
+        largeJob.setRequiredCpu(11.0);
+        assertThat(index.findFirstFittingDateFrom(dateProvider.getTomorrow(), largeJob)).isNull();
+    }
+
+    @Test
+    public void availabilityIndexOutsideReservationsTest() {
+        this.nodeRepository.save(this.node1);
+        this.jobScheduleRepository.save(this.job1);
+
+        var index = this.capacityCalendarService.getAvailabilityIndex("EWI", dateProvider.getTomorrow().plusDays(200),
+            dateProvider.getTomorrow().plusDays(300));
+        assertThat(index.findFirstFittingDateFrom(dateProvider.getTomorrow(), this.job1))
+            .isEqualTo(dateProvider.getTomorrow().plusDays(200));
+        assertThat(index.findLastFittingDateUntil(dateProvider.getTomorrow().plusDays(400), this.job1))
+            .isEqualTo(dateProvider.getTomorrow().plusDays(300));
+    }
+
+    @Test
+    public void rolledBackChangesAreDiscardedTest() {
+        this.nodeRepository.save(this.node1);
+        this.jobScheduleRepository.save(this.job1);
+        var before = this.capacityCalendarService.getAvailableResources("EWI", dateProvider.getTomorrow(),
+            dateProvider.getTomorrow().plusDays(2));
+
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            this.jobScheduleRepository.save(this.job2);
+            this.jobScheduleRepository.deleteAll(List.of(this.job1));
+            this.nodeRepository.save(this.node2);
+            status.setRollbackOnly();
+        });
+
+        assertThat(this.capacityCalendarService.getAvailableResources("EWI", dateProvider.getTomorrow(),
+            dateProvider.getTomorrow().plusDays(2))).isEqualTo(before);
+        assertThat(this.capacityCalendarService.getFaculties()).isEqualTo(List.of("EWI"));
+    }
+
+    @Test
+    public void changesAreAppliedOnCommitTest() {
+        this.nodeRepository.save(this.node1);
+        this.jobScheduleRepository.save(this.job1);
+        var day = dateProvider.getTomorrow().plusDays(1);
+
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            this.jobScheduleRepository.deleteAll(List.of(this.job1));
+            this.jobScheduleRepository.save(this.job2);
+
+            // not yet in the calendar, but already part of the snapshots taken by the transaction
+            assertThat(this.capacityCalendarService.getAvailableResources("EWI", day, day).get(0).getAvailableCpu())
+                .isEqualTo(5.0);
+            assertThat(this.capacityCalendarService.getAvailabilityTimeline("EWI", day, day)
+                .getAvailableResourcesOn(day)).isEqualTo(new AvailableResourcesForDate(day, 8.0, 3.0, 3.0));
+        });
+
+        assertThat(this.capacityCalendarService.getAvailableResources("EWI", day, day).get(0))
+            .isEqualTo(new AvailableResourcesForDate(day, 8.0, 3.0, 3.0));
+    }
+
+}
@@ -0,0 +1,130 @@
+package nl.tudelft.sem.template.cluster.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import nl.tudelft.sem.template.cluster.domain.services.FacultyMembershipCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FacultyMembershipCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+    private FacultyMembershipCache cache;
+
+    /**
+     * Set up a cache of two users, whose entries expire after one second of the test clock.
+     */
+    @BeforeEach
+    void setup() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.cache = new FacultyMembershipCache(this.meterRegistry, 1000, 2, this.now::get);
+    }
+
+    private Supplier<List<String>> loader(List<String> faculties) {
+        return () -> {
+            this.loads.incrementAndGet();
+            return faculties;
+        };
+    }
+
+    @Test
+    void repeatedLookupsAreCachedTest() {
+        assertThat(this.cache.get("user1", loader(List.of("EWI")))).containsExactly("EWI");
+        assertThat(this.cache.get("user1", loader(List.of("IO")))).containsExactly("EWI");
+
+        assertThat(this.loads.get()).isEqualTo(1);
+        assertThat(this.meterRegistry.get("faculties.cache.hits").counter().count()).isEqualTo(1.0);
+        assertThat(this.meterRegistry.get("faculties.cache.misses").counter().count()).isEqualTo(1.0);
+        assertThat(this.meterRegistry.get("faculties.cache.miss.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredEntriesAreLoadedAgainTest() {
+        this.cache.get("user1", loader(List.of("EWI")));
+        this.now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        assertThat(this.cache.get("user1", loader(List.of("IO")))).containsExactly("IO");
+        assertThat(this.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void leastRecentlyUsedUserIsEvictedTest() {
+        this.cache.get("user1", loader(List.of("EWI")));
+        this.cache.get("user2", loader(List.of("IO")));
+        this.cache.get("user1", loader(List.of("EWI")));
+        this.cache.get("user3", loader(List.of("CIVIL")));
+
+        assertThat(this.cache.size()).isEqualTo(2);
+        assertThat(this.cache.get("user1", loader(List.of()))).containsExactly("EWI");
+        assertThat(this.cache.get("user2", loader(List.of()))).isEmpty();
+    }
+
+    @Test
+    void invalidatedUsersAreLoadedAgainTest() {
+        this.cache.get("user1", loader(List.of("EWI")));
+        this.cache.invalidate("user1");
+
+        assertThat(this.cache.get("user1", loader(List.of("EWI", "IO")))).containsExactly("EWI", "IO");
+        assertThat(this.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failedLookupsAreNotCachedTest() {
+        assertThrows(IllegalStateException.class, () -> this.cache.get("user1", () -> {
+            throw new IllegalStateException("The users microservice cannot be reached.");
+        }));
+
+        assertThat(this.cache.get("user1", loader(List.of("EWI")))).containsExactly("EWI");
+        assertThat(this.cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownUsersAreNotCachedTest() {
+        this.cache.get(null, loader(List.of("EWI")));
+        this.cache.get(null, loader(List.of("EWI")));
+
+        assertThat(this.loads.get()).isEqualTo(2);
+        assertThat(this.cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void concurrentMissesShareOneLookupTest() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<String>> first = executor.submit(() -> this.cache.get("user1", () -> {
+                loading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return loader(List.of("EWI")).get();
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<List<String>> second = executor.submit(() -> this.cache.get("user1", loader(List.of("IO"))));
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly("EWI");
+            assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly("EWI");
+            assertThat(this.loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package nl.tudelft.sem.template.cluster.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -11,6 +12,9 @@ import nl.tudelft.sem.template.cluster.domain.cluster.Node;
 import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
 import nl.tudelft.sem.template.cluster.domain.services.JobReschedulingService;
 import nl.tudelft.sem.template.cluster.domain.services.JobSchedulingService;
+import nl.tudelft.sem.template.cluster.domain.strategies.LargestJobsFirstEvictionStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.LeastBusyDateStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.MinimumDisruptionEvictionStrategy;
 import nl.tudelft.sem.template.cluster.models.FacultyDatedResourcesResponseModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +45,7 @@ public class JobReschedulingServiceTest {
     void setUp() {
         this.jobSchedulingService.getSchedulingDataProcessingService().deleteAllJobsScheduled();
         this.jobSchedulingService.getNodeDataProcessingService().deleteAllNodes();
+        this.jobReschedulingService.changeEvictionStrategy(new MinimumDisruptionEvictionStrategy());
 
         this.node1 = new NodeBuilder()
                 .setNodeCpuResourceCapacityTo(0.0)
@@ -106,6 +111,7 @@ public class JobReschedulingServiceTest {
         this.jobSchedulingService.getSchedulingDataProcessingService().saveInSchedule(this.job2);
 
         // we pretend that a node has been removed. There is too many reservations, and they should be rescheduled.
+        this.jobReschedulingService.changeEvictionStrategy(new LargestJobsFirstEvictionStrategy());
         this.jobReschedulingService.rescheduleJobsForFacultiesWithRemovedNodes(List.of("AE"));
 
         assertThat(this.jobSchedulingService.getSchedulingDataProcessingService()
@@ -151,6 +157,7 @@ public class JobReschedulingServiceTest {
         this.jobSchedulingService.getSchedulingDataProcessingService().saveInSchedule(this.job2);
 
         // we pretend that a node has been removed. There is too many reservations, and they should be rescheduled.
+        this.jobReschedulingService.changeEvictionStrategy(new LargestJobsFirstEvictionStrategy());
         this.jobReschedulingService.rescheduleJobsForFacultiesWithRemovedNodes(List.of("AE"));
 
         assertThat(this.jobSchedulingService.getSchedulingDataProcessingService()
@@ -220,6 +227,7 @@ public class JobReschedulingServiceTest {
         this.jobSchedulingService.getSchedulingDataProcessingService().saveInSchedule(this.job2);
 
         // we pretend that a node has been removed. There is too many reservations, and they should be rescheduled.
+        this.jobReschedulingService.changeEvictionStrategy(new LargestJobsFirstEvictionStrategy());
         this.jobReschedulingService.rescheduleJobsForFacultiesWithRemovedNodes(List.of("AE"));
 
         assertThat(this.jobSchedulingService.getSchedulingDataProcessingService()
@@ -229,4 +237,140 @@ public class JobReschedulingServiceTest {
                 .isEqualTo(List.of(new FacultyDatedResourcesResponseModel(dateProvider.getTomorrow(), "AE", 4.0, 2.0, 4.0)));
 
     }
+
+    @Test
+    public void reschedulingAfterNodeRemovalTest() {
+        this.node1.setCpuResources(5);
+        this.node1.setMemoryResources(5);
+        this.node1.setGpuResources(5);
+        this.node1.setFacultyId("AE");
+        this.node2.setCpuResources(5);
+        this.node2.setMemoryResources(5);
+        this.node2.setGpuResources(5);
+
+        this.jobSchedulingService.getNodeDataProcessingService().save(this.node1);
+        this.jobSchedulingService.getNodeDataProcessingService().save(this.node2);
+
+        this.job1.setRequiredCpu(4.0);
+        this.job1.setRequiredGpu(2.0);
+        this.job1.setRequiredMemory(2.0);
+        this.job1.setFacultyId("AE");
+        this.job1.setScheduledFor(dateProvider.getTomorrow());
+        this.job2.setRequiredCpu(4.0);
+        this.job2.setRequiredGpu(2.0);
+        this.job2.setRequiredMemory(2.0);
+        this.job2.setScheduledFor(dateProvider.getTomorrow());
+
+        this.jobSchedulingService.getSchedulingDataProcessingService().saveInSchedule(this.job1);
+        this.jobSchedulingService.getSchedulingDataProcessingService().saveInSchedule(this.job2);
+
+        this.jobSchedulingService.getNodeDataProcessingService().deleteNode(this.node2);
+        this.jobReschedulingService.rescheduleJobsAfterNodesWereRemoved(List.of(this.node2));
+
+        assertThat(this.jobSchedulingService.getSchedulingDataProcessingService().getAllJobsFromSchedule()).hasSize(2);
+        assertThat(this.jobSchedulingService.getSchedulingDataProcessingService()
+                .getAvailableResourcesForGivenFacultyForGivenDay(dateProvider.getTomorrow(), "AE"))
+                .isEqualTo(List.of(new FacultyDatedResourcesResponseModel(dateProvider.getTomorrow(), "AE", 1.0, 3.0, 3.0)));
+        assertThat(this.jobSchedulingService.getSchedulingDataProcessingService()
+                .getAvailableResourcesForGivenFacultyForGivenDay(dateProvider.getTomorrow().plusDays(1), "AE"))
+                .isEqualTo(List.of(new FacultyDatedResourcesResponseModel(dateProvider.getTomorrow().plusDays(1), "AE",
+                        1.0, 3.0, 3.0)));
+    }
+
+    @Test
+    public void removingEmptyNodeNeedsNoReschedulingTest() {
+        this.node2.setFacultyId("AE");
+        this.node1.setFacultyId("AE");
+        this.jobSchedulingService.getNodeDataProcessingService().save(this.node1);
+        this.jobSchedulingService.getNodeDataProcessingService().save(this.node2);
+
+        this.job2.setScheduledFor(dateProvider.getTomorrow());
+        this.jobSchedulingService.getSchedulingDataProcessingService().saveInSchedule(this.job2);
+
+        this.jobSchedulingService.getNodeDataProcessingService().deleteNode(this.node1);
+        this.jobReschedulingService.rescheduleJobsAfterNodesWereRemoved(List.of(this.node1));
+
+        assertThat(this.jobSchedulingService.getSchedulingDataProcessingService()
+                .findLatestDateWithReservedResources()).isEqualTo(dateProvider.getTomorrow());
+    }
+
+    @Test
+    public void minimumDisruptionReschedulingTest() {
+        this.node1.setCpuResources(5);
+        this.node1.setMemoryResources(4);
+        this.node1.setGpuResources(3);
+        this.node1.setFacultyId("AE");
+        this.node2.setCpuResources(3);
+        this.node2.setMemoryResources(2);
+        this.node2.setGpuResources(1);
+
+        this.jobSchedulingService.getNodeDataProcessingService().save(this.node1);
+        this.jobSchedulingService.getNodeDataProcessingService().save(this.node2);
+
+        this.job1.setRequiredGpu(4.0);
+        this.job1.setRequiredMemory(5.0);
+        this.job1.setFacultyId("AE");
+        this.job1.setScheduledFor(dateProvider.getTomorrow());
+        this.job2.setRequiredCpu(4.0);
+        this.job2.setRequiredGpu(2.0);
+        this.job2.setRequiredMemory(2.0);
+        this.job2.setScheduledFor(dateProvider.getTomorrow());
+
+        this.jobSchedulingService.getSchedulingDataProcessingService().saveInSchedule(this.job1);
+        this.jobSchedulingService.getSchedulingDataProcessingService().saveInSchedule(this.job2);
+
+        // either job covers the deficit on its own, so the smaller one is moved
+        var report = this.jobReschedulingService.rescheduleJobsForFacultiesWithRemovedNodes(List.of("AE"));
+
+        assertThat(report.getJobsMoved()).isEqualTo(1);
+        assertThat(report.getVolumeMoved()).isEqualTo(8.0);
+        assertThat(report.getGreedyJobsMoved()).isEqualTo(1);
+        assertThat(report.getGreedyVolumeMoved()).isEqualTo(14.0);
+        assertThat(this.jobSchedulingService.getSchedulingDataProcessingService()
+                .getAvailableResourcesForGivenFacultyForGivenDay(dateProvider.getTomorrow(), "AE"))
+                .isEqualTo(List.of(new FacultyDatedResourcesResponseModel(dateProvider.getTomorrow(), "AE", 3.0, 0.0, 1.0)));
+    }
+
+    @Test
+    public void failedPlacementKeepsEvictedJobsTest() {
+        this.node1.setCpuResources(5);
+        this.node1.setMemoryResources(4);
+        this.node1.setGpuResources(3);
+        this.node1.setFacultyId("AE");
+        this.node2.setCpuResources(3);
+        this.node2.setMemoryResources(2);
+        this.node2.setGpuResources(1);
+
+        this.jobSchedulingService.getNodeDataProcessingService().save(this.node1);
+        this.jobSchedulingService.getNodeDataProcessingService().save(this.node2);
+
+        this.job1.setRequiredGpu(4.0);
+        this.job1.setRequiredMemory(5.0);
+        this.job1.setFacultyId("AE");
+        this.job1.setScheduledFor(dateProvider.getTomorrow());
+        this.job2.setRequiredCpu(4.0);
+        this.job2.setRequiredGpu(2.0);
+        this.job2.setRequiredMemory(2.0);
+        this.job2.setScheduledFor(dateProvider.getTomorrow());
+
+        this.jobSchedulingService.getSchedulingDataProcessingService().saveInSchedule(this.job1);
+        this.jobSchedulingService.getSchedulingDataProcessingService().saveInSchedule(this.job2);
+        var before = this.jobSchedulingService.getSchedulingDataProcessingService()
+                .getAvailableResourcesForGivenFacultyForGivenDay(dateProvider.getTomorrow(), "AE");
+
+        // the evicted job cannot be placed back, so it must not be deleted either
+        this.jobSchedulingService.changeSchedulingStrategy((availability, job) -> {
+            throw new IllegalStateException("placement failed");
+        });
+        try {
+            assertThatThrownBy(() -> this.jobReschedulingService.rescheduleJobsForFacultiesWithRemovedNodes(List.of("AE")))
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            this.jobSchedulingService.changeSchedulingStrategy(new LeastBusyDateStrategy());
+        }
+
+        assertThat(this.jobSchedulingService.getSchedulingDataProcessingService().getAllJobsFromSchedule()).hasSize(2);
+        assertThat(this.jobSchedulingService.getSchedulingDataProcessingService()
+                .getAvailableResourcesForGivenFacultyForGivenDay(dateProvider.getTomorrow(), "AE")).isEqualTo(before);
+    }
 }
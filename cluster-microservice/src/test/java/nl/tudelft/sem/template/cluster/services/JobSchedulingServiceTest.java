@@ -10,8 +10,10 @@ import nl.tudelft.sem.template.cluster.domain.cluster.Job;
 import nl.tudelft.sem.template.cluster.domain.cluster.Node;
 import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
 import nl.tudelft.sem.template.cluster.domain.services.JobSchedulingService;
+import nl.tudelft.sem.template.cluster.domain.strategies.GreedyBatchSchedulingStrategy;
 import nl.tudelft.sem.template.cluster.domain.strategies.LatestAcceptableDateStrategy;
 import nl.tudelft.sem.template.cluster.domain.strategies.LeastBusyDateStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.VectorPackingBatchStrategy;
 import nl.tudelft.sem.template.cluster.models.FacultyDatedResourcesResponseModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -167,4 +169,54 @@ public class JobSchedulingServiceTest {
         assertThat(this.job1.getScheduledFor()).isNotEqualTo(dateProvider.getTomorrow());
     }
 
+    @Test
+    public void changeBatchSchedulingStrategyTest() {
+        assertThat(this.jobSchedulingService.getBatchStrategy()).isInstanceOf(VectorPackingBatchStrategy.class);
+        this.jobSchedulingService.changeBatchSchedulingStrategy(
+            new GreedyBatchSchedulingStrategy(new LatestAcceptableDateStrategy()));
+        assertThat(this.jobSchedulingService.getBatchStrategy()).isInstanceOf(GreedyBatchSchedulingStrategy.class);
+        this.jobSchedulingService.changeBatchSchedulingStrategy(new VectorPackingBatchStrategy());
+    }
+
+    @Test
+    public void scheduleJobsTest() {
+        this.jobSchedulingService.getNodeDataProcessingService().save(this.node2);
+        var small = new JobBuilder().preferredCompletedBeforeDate(dateProvider.getTomorrow().plusDays(1))
+            .needingMemoryResources(2.0).needingGpuResources(2.0).needingCpuResources(4.0).withDescription("desc")
+            .havingName("small").requestedByUserWithNetId("ariel").requestedThroughFaculty("AE")
+            .constructJobInstance();
+        var big = new JobBuilder().preferredCompletedBeforeDate(dateProvider.getTomorrow())
+            .needingMemoryResources(10.0).needingGpuResources(10.0).needingCpuResources(10.0).withDescription("desc")
+            .havingName("big").requestedByUserWithNetId("ariel").requestedThroughFaculty("AE")
+            .constructJobInstance();
+
+        assertThat(this.jobSchedulingService.scheduleJobs(List.of(small, big)))
+            .isEqualTo(List.of(dateProvider.getTomorrow().plusDays(1), dateProvider.getTomorrow()));
+        assertThat(this.jobSchedulingService.getSchedulingDataProcessingService().getAllJobsFromSchedule()).hasSize(2);
+    }
+
+    @Test
+    public void compareBatchSchedulingStrategiesTest() {
+        this.jobSchedulingService.getNodeDataProcessingService().save(this.node2);
+        var small = new JobBuilder().preferredCompletedBeforeDate(dateProvider.getTomorrow().plusDays(1))
+            .needingMemoryResources(2.0).needingGpuResources(2.0).needingCpuResources(4.0).withDescription("desc")
+            .havingName("small").requestedByUserWithNetId("ariel").requestedThroughFaculty("AE")
+            .constructJobInstance();
+        var big = new JobBuilder().preferredCompletedBeforeDate(dateProvider.getTomorrow())
+            .needingMemoryResources(10.0).needingGpuResources(10.0).needingCpuResources(10.0).withDescription("desc")
+            .havingName("big").requestedByUserWithNetId("ariel").requestedThroughFaculty("AE")
+            .constructJobInstance();
+
+        var reports = this.jobSchedulingService.compareBatchSchedulingStrategies(List.of(small, big));
+
+        assertThat(reports).hasSize(4);
+        assertThat(reports.get(0).getStrategy()).isEqualTo("VectorPacking");
+        assertThat(reports.get(0).getJobsScheduledByPreferredDate()).isEqualTo(2);
+        assertThat(reports.get(0).getDaysUsed()).isEqualTo(2);
+        assertThat(reports.get(0).getUtilizationGained()).isEqualTo(0.0);
+        assertThat(reports.get(1).getStrategy()).isEqualTo("EarliestPossibleDate");
+        assertThat(reports.get(1).getJobsScheduledByPreferredDate()).isEqualTo(1);
+        assertThat(this.jobSchedulingService.getSchedulingDataProcessingService().getAllJobsFromSchedule()).isEmpty();
+    }
+
 }
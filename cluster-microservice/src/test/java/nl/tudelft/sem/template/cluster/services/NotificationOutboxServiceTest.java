@@ -0,0 +1,108 @@
+package nl.tudelft.sem.template.cluster.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import nl.tudelft.sem.template.cluster.domain.notifications.NotificationOutboxRepository;
+import nl.tudelft.sem.template.cluster.domain.providers.TimeProvider;
+import nl.tudelft.sem.template.cluster.domain.services.NotificationManagerService;
+import nl.tudelft.sem.template.cluster.domain.services.NotificationOutboxService;
+import nl.tudelft.sem.template.cluster.models.NotificationRequestModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+// keep the scheduled dispatcher of the application context from draining the outbox during the tests
+@SpringBootTest(properties = "notifications.outbox.pollIntervalMillis=3600000")
+public class NotificationOutboxServiceTest {
+
+    @Autowired
+    private transient NotificationOutboxRepository notificationOutboxRepository;
+
+    private NotificationManagerService notificationManagerService;
+    private TimeProvider timeProvider;
+    private NotificationOutboxService notificationOutboxService;
+
+    private final List<NotificationRequestModel> notifications = List.of(
+            new NotificationRequestModel("2022-12-12", "JOB", "ACCEPTED", "one", "ariel"),
+            new NotificationRequestModel("2022-12-12", "JOB", "STARTED", "two", "ariel"),
+            new NotificationRequestModel("2022-12-12", "JOB", "FINISHED", "three", "kuba"));
+
+    /**
+     * Set up the tests with a batch size of two and a backoff between one and four seconds.
+     */
+    @BeforeEach
+    void setup() {
+        this.notificationOutboxRepository.deleteAll();
+        this.notificationManagerService = mock(NotificationManagerService.class);
+        this.timeProvider = mock(TimeProvider.class);
+        when(this.timeProvider.getCurrentTime()).thenReturn(Instant.ofEpochMilli(0));
+        this.notificationOutboxService = new NotificationOutboxService(this.notificationOutboxRepository,
+                this.notificationManagerService, this.timeProvider, 2, 1000, 4000);
+    }
+
+    @Test
+    public void dispatchDeliversInBatchesTest() {
+        when(this.notificationManagerService.sendNotifications(anyList())).thenReturn(true);
+        this.notificationOutboxService.append(this.notifications);
+
+        assertThat(this.notificationOutboxService.dispatch()).isEqualTo(3);
+        verify(this.notificationManagerService).sendNotifications(this.notifications.subList(0, 2));
+        verify(this.notificationManagerService).sendNotifications(this.notifications.subList(2, 3));
+        assertThat(this.notificationOutboxService.getNumberOfPendingNotifications()).isEqualTo(0);
+    }
+
+    @Test
+    public void failedBatchIsRetriedWithBackoffTest() {
+        when(this.notificationManagerService.sendNotifications(anyList())).thenReturn(false);
+        this.notificationOutboxService.append(this.notifications);
+
+        assertThat(this.notificationOutboxService.dispatch()).isEqualTo(0);
+        verify(this.notificationManagerService, times(1)).sendNotifications(anyList());
+        assertThat(this.notificationOutboxService.getNumberOfPendingNotifications()).isEqualTo(3);
+
+        // the third notification was not part of the failed batch and is still due
+        when(this.notificationManagerService.sendNotifications(anyList())).thenReturn(true);
+        assertThat(this.notificationOutboxService.dispatch()).isEqualTo(1);
+
+        // the failed batch waits for one second before it is retried
+        when(this.timeProvider.getCurrentTime()).thenReturn(Instant.ofEpochMilli(999));
+        assertThat(this.notificationOutboxService.dispatch()).isEqualTo(0);
+        when(this.timeProvider.getCurrentTime()).thenReturn(Instant.ofEpochMilli(1000));
+        assertThat(this.notificationOutboxService.dispatch()).isEqualTo(2);
+        assertThat(this.notificationOutboxService.getNumberOfPendingNotifications()).isEqualTo(0);
+    }
+
+    @Test
+    public void backoffDoublesUpToMaximumTest() {
+        when(this.notificationManagerService.sendNotifications(anyList())).thenReturn(false);
+        this.notificationOutboxService.append(this.notifications.subList(0, 1));
+
+        long now = 0;
+        for (long expectedBackoff : new long[] {1000, 2000, 4000, 4000}) {
+            this.notificationOutboxService.dispatch();
+            var pending = this.notificationOutboxRepository.findAll().get(0);
+            assertThat(pending.getNextAttemptAt()).isEqualTo(now + expectedBackoff);
+            now += expectedBackoff;
+            when(this.timeProvider.getCurrentTime()).thenReturn(Instant.ofEpochMilli(now));
+        }
+        verify(this.notificationManagerService, times(4)).sendNotifications(anyList());
+    }
+
+    @Test
+    public void emptyOutboxSendsNothingTest() {
+        assertThat(this.notificationOutboxService.dispatch()).isEqualTo(0);
+        verify(this.notificationManagerService, never()).sendNotifications(anyList());
+    }
+}
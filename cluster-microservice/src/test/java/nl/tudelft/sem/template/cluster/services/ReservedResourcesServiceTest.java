@@ -0,0 +1,131 @@
+package nl.tudelft.sem.template.cluster.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import nl.tudelft.sem.template.cluster.domain.builders.JobBuilder;
+import nl.tudelft.sem.template.cluster.domain.cluster.FacultyDatedTotalResources;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.JobScheduleRepository;
+import nl.tudelft.sem.template.cluster.domain.cluster.ReservedResourcesRepository;
+import nl.tudelft.sem.template.cluster.domain.services.ReservedResourcesService;
+import nl.tudelft.sem.template.cluster.domain.services.SchedulingDataProcessingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class ReservedResourcesServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2022, 12, 14);
+
+    @Autowired
+    private transient ReservedResourcesService reservedResourcesService;
+
+    @Autowired
+    private transient ReservedResourcesRepository reservedResourcesRepository;
+
+    @Autowired
+    private transient JobScheduleRepository jobScheduleRepository;
+
+    @Autowired
+    private transient SchedulingDataProcessingService schedulingDataProcessingService;
+
+    @Autowired
+    private transient JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        this.jobScheduleRepository.deleteAll();
+        this.reservedResourcesService.rebuild();
+    }
+
+    @Test
+    public void insertedJobsAreSummedTest() {
+        this.jobScheduleRepository.save(job("EWI", 5.0, DAY));
+        this.jobScheduleRepository.save(job("EWI", 2.0, DAY));
+        this.jobScheduleRepository.save(job("AE", 3.0, DAY));
+        this.jobScheduleRepository.save(job("EWI", 4.0, DAY.plusDays(1)));
+
+        var reserved = this.reservedResourcesRepository.findReservedResourcesOf("EWI", DAY);
+        assertThat(reserved).hasSize(1);
+        assertThat(reserved.get(0).getCpu_Resources()).isEqualTo(7.0);
+        assertThat(this.reservedResourcesRepository.findReservedResourcesOn(DAY))
+                .extracting(FacultyDatedTotalResources::getFaculty_Id).containsExactly("AE", "EWI");
+        assertThat(this.reservedResourcesRepository.findReservedResourcesOf("EWI"))
+                .extracting(FacultyDatedTotalResources::getScheduled_Date).containsExactly(DAY, DAY.plusDays(1));
+        assertThat(this.reservedResourcesService.isConsistent()).isTrue();
+    }
+
+    @Test
+    public void rescheduledJobMovesItsResourcesTest() {
+        Job job = this.jobScheduleRepository.save(job("EWI", 5.0, DAY));
+        this.jobScheduleRepository.save(job("EWI", 2.0, DAY));
+
+        job.setScheduledFor(DAY.plusDays(2));
+        job.setRequiredCpu(6.0);
+        this.jobScheduleRepository.save(job);
+
+        assertThat(this.reservedResourcesRepository.findReservedResourcesOf("EWI", DAY).get(0).getCpu_Resources())
+                .isEqualTo(2.0);
+        assertThat(this.reservedResourcesRepository.findReservedResourcesOf("EWI", DAY.plusDays(2)).get(0)
+                .getCpu_Resources()).isEqualTo(6.0);
+        assertThat(this.reservedResourcesService.isConsistent()).isTrue();
+    }
+
+    @Test
+    public void deletedJobsAreSubtractedTest() {
+        Job first = this.jobScheduleRepository.save(job("EWI", 5.0, DAY));
+        Job second = this.jobScheduleRepository.save(job("EWI", 2.0, DAY));
+        Job third = this.jobScheduleRepository.save(job("AE", 3.0, DAY.plusDays(1)));
+
+        this.jobScheduleRepository.delete(first);
+        assertThat(this.reservedResourcesRepository.findReservedResourcesOf("EWI", DAY).get(0).getCpu_Resources())
+                .isEqualTo(2.0);
+
+        this.schedulingDataProcessingService.deleteJobsInBatch(List.of(second, third));
+        assertThat(this.reservedResourcesRepository.findAllReservedResources()).isEmpty();
+        assertThat(this.reservedResourcesService.isConsistent()).isTrue();
+    }
+
+    @Test
+    public void reservedResourcesBetweenDaysTest() {
+        this.jobScheduleRepository.save(job("EWI", 5.0, DAY));
+        this.jobScheduleRepository.save(job("AE", 3.0, DAY.plusDays(1)));
+        this.jobScheduleRepository.save(job("EWI", 4.0, DAY.plusDays(3)));
+
+        assertThat(this.schedulingDataProcessingService.getReservedResourcesPerFacultyBetweenDays(DAY, DAY.plusDays(2)))
+                .extracting(FacultyDatedTotalResources::getScheduled_Date).containsExactly(DAY, DAY.plusDays(1));
+    }
+
+    @Test
+    public void inconsistentTableIsRebuiltTest() {
+        this.jobScheduleRepository.save(job("EWI", 5.0, DAY));
+        this.jobScheduleRepository.save(job("AE", 3.0, DAY));
+        this.jdbcTemplate.update("UPDATE reserved_per_faculty_day SET cpu_resources = 100 WHERE faculty_id = 'EWI'");
+        this.jdbcTemplate.update("DELETE FROM reserved_per_faculty_day WHERE faculty_id = 'AE'");
+
+        assertThat(this.reservedResourcesService.isConsistent()).isFalse();
+        assertThat(this.reservedResourcesService.checkAndRebuild()).isFalse();
+
+        assertThat(this.reservedResourcesService.isConsistent()).isTrue();
+        assertThat(this.reservedResourcesService.checkAndRebuild()).isTrue();
+        assertThat(this.reservedResourcesRepository.findReservedResourcesOf("EWI", DAY).get(0).getCpu_Resources())
+                .isEqualTo(5.0);
+    }
+
+    private static Job job(String facultyId, double cpu, LocalDate scheduledFor) {
+        Job job = new JobBuilder().preferredCompletedBeforeDate(scheduledFor)
+                .needingMemoryResources(1.0).needingGpuResources(1.0).needingCpuResources(cpu).withDescription("desc")
+                .havingName("job").requestedByUserWithNetId("ariel").requestedThroughFaculty(facultyId)
+                .constructJobInstance();
+        job.setScheduledFor(scheduledFor);
+        return job;
+    }
+}
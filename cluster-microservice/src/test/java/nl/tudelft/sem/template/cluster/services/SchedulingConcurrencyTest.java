@@ -0,0 +1,149 @@
+package nl.tudelft.sem.template.cluster.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import nl.tudelft.sem.template.cluster.domain.builders.JobBuilder;
+import nl.tudelft.sem.template.cluster.domain.builders.NodeBuilder;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.JobScheduleRepository;
+import nl.tudelft.sem.template.cluster.domain.cluster.NodeRepository;
+import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
+import nl.tudelft.sem.template.cluster.domain.services.JobSchedulingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Schedules many jobs from several threads at once and checks that no faculty is ever overbooked on any day.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class SchedulingConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int JOBS_PER_THREAD = 50;
+    private static final List<String> FACULTIES = List.of("EWI", "AE");
+    private static final double CAPACITY = 10.0;
+
+    @Autowired
+    private transient JobSchedulingService jobSchedulingService;
+
+    @Autowired
+    private transient NodeRepository nodeRepository;
+
+    @Autowired
+    private transient JobScheduleRepository jobScheduleRepository;
+
+    @Autowired
+    private transient DateProvider dateProvider;
+
+    /**
+     * Set up the tests.
+     */
+    @BeforeEach
+    void setup() {
+        this.jobScheduleRepository.deleteAll();
+        this.nodeRepository.deleteAll();
+        for (String faculty : FACULTIES) {
+            this.nodeRepository.save(new NodeBuilder()
+                .setNodeCpuResourceCapacityTo(CAPACITY)
+                .setNodeGpuResourceCapacityTo(CAPACITY)
+                .setNodeMemoryResourceCapacityTo(CAPACITY)
+                .withNodeName("node")
+                .foundAtUrl("/" + faculty + "/node")
+                .byUserWithNetId("SYSTEM")
+                .assignToFacultyWithId(faculty).constructNodeInstance());
+        }
+    }
+
+    private Job createJob(String faculty, int number) {
+        return new JobBuilder().preferredCompletedBeforeDate(dateProvider.getTomorrow())
+            .needingMemoryResources(1.0).needingGpuResources(1.0).needingCpuResources(3.0).withDescription("desc")
+            .havingName("job" + number).requestedByUserWithNetId("ariel").requestedThroughFaculty(faculty)
+            .constructJobInstance();
+    }
+
+    private void runConcurrently(List<Callable<Object>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (Callable<Object> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (Future<Object> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+    }
+
+    private void assertNoDayIsOverbooked() {
+        Map<String, Double> cpuPerFacultyDay = new HashMap<>();
+        Map<String, Double> gpuPerFacultyDay = new HashMap<>();
+        for (Job job : this.jobScheduleRepository.findAll()) {
+            String key = job.getFacultyId() + "/" + job.getScheduledFor();
+            cpuPerFacultyDay.merge(key, job.getRequiredCpu(), Double::sum);
+            gpuPerFacultyDay.merge(key, job.getRequiredGpu(), Double::sum);
+        }
+        assertThat(cpuPerFacultyDay.values()).allMatch(x -> x <= CAPACITY);
+        assertThat(gpuPerFacultyDay.values()).allMatch(x -> x <= CAPACITY);
+    }
+
+    @Test
+    public void concurrentSingleRequestsDoNotOverbookTest() throws Exception {
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; ++t) {
+            String faculty = FACULTIES.get(t % FACULTIES.size());
+            for (int i = 0; i < JOBS_PER_THREAD; ++i) {
+                Job job = createJob(faculty, i);
+                tasks.add(() -> this.jobSchedulingService.scheduleJob(job));
+            }
+        }
+
+        runConcurrently(tasks);
+
+        assertThat(this.jobScheduleRepository.count()).isEqualTo(THREADS * JOBS_PER_THREAD);
+        assertNoDayIsOverbooked();
+    }
+
+    @Test
+    public void concurrentBatchesAndSingleRequestsDoNotOverbookTest() throws Exception {
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; ++t) {
+            List<Job> batch = new ArrayList<>();
+            for (int i = 0; i < JOBS_PER_THREAD; ++i) {
+                Job job = createJob(FACULTIES.get(i % FACULTIES.size()), i);
+                if (t % 2 == 0) {
+                    batch.add(job);
+                } else {
+                    tasks.add(() -> this.jobSchedulingService.scheduleJob(job));
+                }
+            }
+            if (!batch.isEmpty()) {
+                tasks.add(() -> this.jobSchedulingService.scheduleJobs(batch));
+            }
+        }
+
+        runConcurrently(tasks);
+
+        assertThat(this.jobScheduleRepository.count()).isEqualTo(THREADS * JOBS_PER_THREAD);
+        assertNoDayIsOverbooked();
+    }
+
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import nl.tudelft.sem.template.cluster.domain.builders.JobBuilder;
 import nl.tudelft.sem.template.cluster.domain.builders.NodeBuilder;
 import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
@@ -17,7 +18,10 @@ import nl.tudelft.sem.template.cluster.domain.cluster.Job;
 import nl.tudelft.sem.template.cluster.domain.cluster.JobScheduleRepository;
 import nl.tudelft.sem.template.cluster.domain.cluster.Node;
 import nl.tudelft.sem.template.cluster.domain.cluster.NodeRepository;
+import nl.tudelft.sem.template.cluster.domain.cluster.ReservedResourcesRepository;
 import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
+import nl.tudelft.sem.template.cluster.domain.services.CapacityCalendarService;
+import nl.tudelft.sem.template.cluster.domain.services.ReservedResourcesService;
 import nl.tudelft.sem.template.cluster.domain.services.SchedulingDataProcessingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +40,15 @@ public class SchedulingDataProcessingServiceTest {
     @Autowired
     private transient JobScheduleRepository jobScheduleRepository;
 
+    @Autowired
+    private transient CapacityCalendarService capacityCalendarService;
+
+    @Autowired
+    private transient ReservedResourcesRepository reservedResourcesRepository;
+
+    @Autowired
+    private transient ReservedResourcesService reservedResourcesService;
+
     private transient SchedulingDataProcessingService schedulingDataProcessingService;
 
     @Autowired
@@ -55,8 +68,9 @@ public class SchedulingDataProcessingServiceTest {
      */
     @BeforeEach
     void setup() {
-        this.schedulingDataProcessingService = new SchedulingDataProcessingService(nodeRepository,
-                jobScheduleRepository, this.dateProvider);
+        this.schedulingDataProcessingService = new SchedulingDataProcessingService(jobScheduleRepository,
+                this.reservedResourcesRepository, this.dateProvider, this.capacityCalendarService,
+                this.reservedResourcesService);
         this.schedulingDataProcessingService.deleteAllJobsScheduled();
         this.nodeRepository.deleteAll();
 
@@ -483,4 +497,66 @@ public class SchedulingDataProcessingServiceTest {
             .get(0).getTotalCpu()).isEqualTo(5);
     }
 
+    @Test
+    public void availableResourcesForSliceMatchFilteredAllFacultiesForAllDays() {
+        this.node1.setCpuResources(10);
+        this.node1.setMemoryResources(10);
+        this.node1.setGpuResources(10);
+        this.nodeRepository.save(this.node1);
+        this.node3.setCpuResources(10);
+        this.node3.setMemoryResources(10);
+        this.node3.setGpuResources(10);
+        this.nodeRepository.save(this.node3);
+
+        LocalDate tomorrow = this.dateProvider.getTomorrow();
+        this.job1.setScheduledFor(tomorrow);
+        this.schedulingDataProcessingService.saveInSchedule(this.job1);
+        this.job2.setScheduledFor(tomorrow.plusDays(2));
+        this.schedulingDataProcessingService.saveInSchedule(this.job2);
+
+        var all = this.schedulingDataProcessingService.getAvailableResourcesForAllFacultiesForAllDays();
+        for (LocalDate date = tomorrow; !date.isAfter(tomorrow.plusDays(2)); date = date.plusDays(1)) {
+            LocalDate day = date;
+            assertThat(this.schedulingDataProcessingService.getAvailableResourcesForAllFacultiesForGivenDay(day))
+                .isEqualTo(all.stream().filter(x -> x.getDate().isEqual(day)).collect(Collectors.toList()));
+            for (String faculty : List.of("AE", "EWI")) {
+                assertThat(this.schedulingDataProcessingService.getAvailableResourcesForGivenFacultyForGivenDay(day,
+                    faculty)).isEqualTo(all.stream()
+                    .filter(x -> x.getDate().isEqual(day) && x.getFacultyId().equals(faculty))
+                    .collect(Collectors.toList()));
+            }
+        }
+        assertThat(this.schedulingDataProcessingService.getAvailableResourcesForGivenFacultyForAllDays("EWI"))
+            .isEqualTo(all.stream().filter(x -> x.getFacultyId().equals("EWI")).collect(Collectors.toList()));
+        assertThat(this.schedulingDataProcessingService.getAvailableResourcesForGivenFacultyForAllDays("TPM")).isEmpty();
+    }
+
+    @Test
+    public void forEachPageOfJobsScheduledForTest() {
+        this.jobScheduleRepository.save(this.job1);
+        this.jobScheduleRepository.save(this.job2);
+        this.jobScheduleRepository.save(this.job3);
+        this.job4.setScheduledFor(LocalDate.of(2022, 12, 15));
+        this.jobScheduleRepository.save(this.job4);
+
+        List<Integer> pageSizes = new ArrayList<>();
+        List<Job> jobs = new ArrayList<>();
+        this.schedulingDataProcessingService.forEachPageOfJobsScheduledFor(LocalDate.of(2022, 12, 14), 2, page -> {
+            pageSizes.add(page.size());
+            jobs.addAll(page);
+        });
+
+        assertThat(pageSizes).isEqualTo(List.of(2, 1));
+        assertThat(jobs).containsExactlyInAnyOrder(this.job1, this.job2, this.job3);
+    }
+
+    @Test
+    public void forEachPageOfJobsScheduledForEmptyDayTest() {
+        this.jobScheduleRepository.save(this.job1);
+
+        List<Job> jobs = new ArrayList<>();
+        this.schedulingDataProcessingService.forEachPageOfJobsScheduledFor(LocalDate.of(2022, 12, 20), 2, jobs::addAll);
+
+        assertThat(jobs).isEmpty();
+    }
 }
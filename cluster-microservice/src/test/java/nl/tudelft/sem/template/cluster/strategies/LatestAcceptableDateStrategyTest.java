@@ -1,7 +1,6 @@
 package nl.tudelft.sem.template.cluster.strategies;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -58,9 +57,7 @@ public class LatestAcceptableDateStrategyTest {
 
     @Test
     public void emptyListTest() {
-        assertThatThrownBy(() -> strat.scheduleJobFor(new ArrayList<>(), job))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .hasMessageContaining("Index -1 out of bounds for length 0");
+        assertThat(strat.scheduleJobFor(new ArrayList<>(), job)).isNull();
     }
 
     @Test
@@ -0,0 +1,94 @@
+package nl.tudelft.sem.template.cluster.strategies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import nl.tudelft.sem.template.cluster.domain.builders.JobBuilder;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.strategies.LargestJobsFirstEvictionStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.MinimumDisruptionEvictionStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MinimumDisruptionEvictionStrategyTest {
+
+    private static final LocalDate DATE = LocalDate.of(2022, 12, 14);
+
+    private MinimumDisruptionEvictionStrategy strat;
+
+    private Job exact;
+    private Job large;
+    private Job medium;
+
+    /**
+     * Sets up the tests.
+     */
+    @BeforeEach
+    public void setup() {
+        strat = new MinimumDisruptionEvictionStrategy();
+        exact = createJob("exact", 6.0, 0.0, 0.0);
+        large = createJob("large", 4.0, 4.0, 4.0);
+        medium = createJob("medium", 3.0, 3.0, 3.0);
+    }
+
+    private static Job createJob(String name, double cpu, double gpu, double memory) {
+        var job = new JobBuilder().preferredCompletedBeforeDate(DATE)
+                .needingCpuResources(cpu).needingGpuResources(gpu).needingMemoryResources(memory)
+                .withDescription("desc").havingName(name).requestedByUserWithNetId("ariel")
+                .requestedThroughFaculty("EWI").constructJobInstance();
+        job.setScheduledFor(DATE);
+        return job;
+    }
+
+    @Test
+    public void fewerJobsThanGreedyTest() {
+        var lacking = new AvailableResourcesForDate(DATE, -6.0, 0.0, 0.0);
+        var jobs = List.of(large, medium, exact);
+
+        assertThat(strat.selectJobsToEvict(jobs, lacking)).containsExactly(exact);
+        assertThat(new LargestJobsFirstEvictionStrategy().selectJobsToEvict(jobs, lacking))
+                .containsExactly(large, medium);
+    }
+
+    @Test
+    public void leastVolumeAmongSmallestSetsTest() {
+        var lacking = new AvailableResourcesForDate(DATE, -1.0, -1.0, 0.0);
+
+        assertThat(strat.selectJobsToEvict(List.of(large, medium, exact), lacking)).containsExactly(medium);
+    }
+
+    @Test
+    public void coversEveryResourceTest() {
+        var lacking = new AvailableResourcesForDate(DATE, -7.0, -4.0, -1.0);
+
+        assertThat(strat.selectJobsToEvict(List.of(large, medium, exact), lacking))
+                .containsExactlyInAnyOrder(large, exact);
+    }
+
+    @Test
+    public void nothingLackingTest() {
+        var lacking = new AvailableResourcesForDate(DATE, 0.0, 1.0, 2.0);
+
+        assertThat(strat.selectJobsToEvict(List.of(large, medium), lacking)).isEmpty();
+    }
+
+    @Test
+    public void deficitCannotBeCoveredTest() {
+        var lacking = new AvailableResourcesForDate(DATE, 0.0, 0.0, -20.0);
+
+        assertThat(strat.selectJobsToEvict(List.of(large, medium, exact), lacking))
+                .containsExactlyInAnyOrder(large, medium, exact);
+    }
+
+    @Test
+    public void noTimeBudgetStillCoversTest() {
+        var lacking = new AvailableResourcesForDate(DATE, -6.0, -1.0, -1.0);
+        var evicted = new MinimumDisruptionEvictionStrategy(0).selectJobsToEvict(List.of(large, medium, exact), lacking);
+
+        assertThat(evicted.stream().mapToDouble(Job::getRequiredCpu).sum()).isGreaterThanOrEqualTo(6.0);
+        assertThat(evicted.stream().mapToDouble(Job::getRequiredGpu).sum()).isGreaterThanOrEqualTo(1.0);
+        assertThat(evicted.stream().mapToDouble(Job::getRequiredMemory).sum()).isGreaterThanOrEqualTo(1.0);
+    }
+}
@@ -0,0 +1,132 @@
+package nl.tudelft.sem.template.cluster.strategies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import nl.tudelft.sem.template.cluster.domain.builders.JobBuilder;
+import nl.tudelft.sem.template.cluster.domain.cluster.AvailableResourcesForDate;
+import nl.tudelft.sem.template.cluster.domain.cluster.FacultyAssignedResources;
+import nl.tudelft.sem.template.cluster.domain.cluster.Job;
+import nl.tudelft.sem.template.cluster.domain.cluster.ListAvailabilityIndex;
+import nl.tudelft.sem.template.cluster.domain.providers.DateProvider;
+import nl.tudelft.sem.template.cluster.domain.strategies.EarliestPossibleDateStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.GreedyBatchSchedulingStrategy;
+import nl.tudelft.sem.template.cluster.domain.strategies.VectorPackingBatchStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class VectorPackingBatchStrategyTest {
+
+    @Autowired
+    private transient DateProvider dateProvider;
+
+    private VectorPackingBatchStrategy strat;
+    private List<AvailableResourcesForDate> resources;
+    private FacultyAssignedResources capacity;
+
+    /**
+     * Sets up the tests.
+     */
+    @BeforeEach
+    public void setup() {
+        strat = new VectorPackingBatchStrategy();
+        capacity = new FacultyAssignedResources("EWI", 4.0, 4.0, 4.0);
+
+        resources = new ArrayList<AvailableResourcesForDate>();
+        resources.add(new AvailableResourcesForDate(dateProvider.getTomorrow(), 4.0, 4.0, 4.0));
+        resources.add(new AvailableResourcesForDate(dateProvider.getTomorrow().plusDays(1), 4.0, 4.0, 4.0));
+        resources.add(new AvailableResourcesForDate(dateProvider.getTomorrow().plusDays(2), 4.0, 4.0, 4.0));
+        resources.add(new AvailableResourcesForDate(dateProvider.getTomorrow().plusDays(3), 4.0, 4.0, 4.0));
+    }
+
+    private Job createJob(double cpu, double gpu, double memory, int preferredInDays) {
+        return new JobBuilder().requestedThroughFaculty("EWI")
+                .requestedByUserWithNetId("Alan")
+                .havingName("Job")
+                .withDescription("desc")
+                .needingCpuResources(cpu)
+                .needingGpuResources(gpu)
+                .needingMemoryResources(memory)
+                .preferredCompletedBeforeDate(dateProvider.getTomorrow().plusDays(preferredInDays))
+                .constructJobInstance();
+    }
+
+    @Test
+    public void largestJobsArePlacedFirstTest() {
+        var jobs = List.of(createJob(2.0, 1.0, 1.0, 1), createJob(4.0, 4.0, 4.0, 0));
+
+        assertThat(strat.scheduleJobsFor(new ListAvailabilityIndex(resources), capacity, jobs)).isEqualTo(List.of(
+                dateProvider.getTomorrow().plusDays(1), dateProvider.getTomorrow()));
+    }
+
+    @Test
+    public void greedyMissesPreferredDateTest() {
+        var jobs = List.of(createJob(2.0, 1.0, 1.0, 1), createJob(4.0, 4.0, 4.0, 0));
+        var greedy = new GreedyBatchSchedulingStrategy(new EarliestPossibleDateStrategy());
+
+        assertThat(greedy.scheduleJobsFor(new ListAvailabilityIndex(resources), capacity, jobs)).isEqualTo(List.of(
+                dateProvider.getTomorrow(), dateProvider.getTomorrow().plusDays(1)));
+    }
+
+    @Test
+    public void mostAlignedDayCpuTest() {
+        resources.get(0).setAvailableCpu(2.0);
+        resources.get(1).setAvailableGpu(2.0);
+
+        assertThat(strat.scheduleJobsFor(new ListAvailabilityIndex(resources), capacity,
+                List.of(createJob(2.0, 1.0, 1.0, 1))))
+                .isEqualTo(List.of(dateProvider.getTomorrow()));
+    }
+
+    @Test
+    public void mostAlignedDayGpuTest() {
+        resources.get(0).setAvailableCpu(2.0);
+        resources.get(1).setAvailableGpu(2.0);
+
+        assertThat(strat.scheduleJobsFor(new ListAvailabilityIndex(resources), capacity,
+                List.of(createJob(1.0, 2.0, 1.0, 1))))
+                .isEqualTo(List.of(dateProvider.getTomorrow().plusDays(1)));
+    }
+
+    @Test
+    public void reservesPlacedJobsTest() {
+        var index = new ListAvailabilityIndex(resources);
+        strat.scheduleJobsFor(index, capacity, List.of(createJob(3.0, 1.0, 1.0, 0)));
+
+        assertThat(index.getAvailableResourcesOn(dateProvider.getTomorrow()))
+                .isEqualTo(new AvailableResourcesForDate(dateProvider.getTomorrow(), 1.0, 3.0, 3.0));
+    }
+
+    @Test
+    public void noFitBeforePreferredDateTest() {
+        resources.get(0).setAvailableCpu(1.0);
+        resources.get(1).setAvailableCpu(1.0);
+
+        assertThat(strat.scheduleJobsFor(new ListAvailabilityIndex(resources), capacity,
+                List.of(createJob(2.0, 1.0, 1.0, 0))))
+                .isEqualTo(List.of(dateProvider.getTomorrow().plusDays(2)));
+    }
+
+    @Test
+    public void loadIsNormalizedByAssignedResourcesTest() {
+        // no day of the snapshot has its gpu resources free, yet the gpu load of the second day counts
+        resources.get(0).setAvailableCpu(2.0);
+        resources.get(1).setAvailableGpu(2.0);
+        resources.get(2).setAvailableGpu(0.0);
+        resources.get(3).setAvailableGpu(0.0);
+
+        assertThat(strat.scheduleJobsFor(new ListAvailabilityIndex(resources), capacity,
+                List.of(createJob(1.0, 2.0, 1.0, 1))))
+                .isEqualTo(List.of(dateProvider.getTomorrow().plusDays(1)));
+    }
+
+}
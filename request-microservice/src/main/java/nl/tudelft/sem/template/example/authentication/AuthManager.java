@@ -1,5 +1,7 @@
 package nl.tudelft.sem.template.example.authentication;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -29,4 +31,18 @@ public class AuthManager {
                 .map(GrantedAuthority::getAuthority).collect(Collectors.joining(","))
                 .replaceFirst("ROLE_", "");
     }
+
+    /**
+     * Interfaces with spring security to get the faculties of the user in the current context, as given in their
+     * token.
+     *
+     * @return the faculties of the user, or nothing if their token did not contain them or they are outdated.
+     */
+    public Optional<List<String>> getFaculties() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof JwtAuthenticationDetails) {
+            return ((JwtAuthenticationDetails) authentication.getDetails()).getFaculties();
+        }
+        return Optional.empty();
+    }
 }
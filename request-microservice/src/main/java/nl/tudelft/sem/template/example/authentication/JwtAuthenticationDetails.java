@@ -0,0 +1,34 @@
+package nl.tudelft.sem.template.example.authentication;
+
+import java.util.List;
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * The details of an authenticated request, including the faculties of the user if their token contained them.
+ */
+public class JwtAuthenticationDetails extends WebAuthenticationDetails {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The faculties of the user, or null if they are not known from the token.
+     */
+    private final List<String> faculties;
+
+    /**
+     * Creates the details of the given request.
+     *
+     * @param request the authenticated request.
+     * @param faculties the faculties of the user, or null if they are not known from the token.
+     */
+    public JwtAuthenticationDetails(HttpServletRequest request, List<String> faculties) {
+        super(request);
+        this.faculties = faculties;
+    }
+
+    public Optional<List<String>> getFaculties() {
+        return Optional.ofNullable(this.faculties);
+    }
+}
@@ -0,0 +1,123 @@
+package nl.tudelft.sem.template.example.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Sends requests to the other microservices. The base URL of each microservice is configured once, so callers only
+ * name the microservice and the endpoint. Requests can be sent either on the calling thread, or on the threads of this
+ * client, in which case the caller gets a future and can go on with other work. The latency of every request is
+ * recorded per microservice, endpoint and response status.
+ */
+public class InterServiceClient implements DisposableBean {
+
+    public static final String USERS = "users";
+    public static final String CLUSTER = "cluster";
+    public static final String REQUESTS = "requests";
+
+    private final transient RestTemplate restTemplate;
+    private final transient MeterRegistry meterRegistry;
+    private final transient Map<String, String> baseUrls;
+    private final transient Executor executor;
+
+    /**
+     * Creates the client.
+     *
+     * @param restTemplate the rest template sending the requests.
+     * @param meterRegistry the registry to record the latency of the requests in.
+     * @param baseUrls the base URL of each microservice, without a trailing slash.
+     * @param executor the executor sending the requests of which the caller does not wait for the response.
+     */
+    public InterServiceClient(RestTemplate restTemplate, MeterRegistry meterRegistry, Map<String, String> baseUrls,
+                              Executor executor) {
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+        this.baseUrls = Map.copyOf(baseUrls);
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a client sending the requests of this client with the given rest template instead.
+     *
+     * @param restTemplate the rest template sending the requests.
+     * @return the new client.
+     */
+    public InterServiceClient withRestTemplate(RestTemplate restTemplate) {
+        return new InterServiceClient(restTemplate, this.meterRegistry, this.baseUrls, this.executor);
+    }
+
+    /**
+     * Sends a request to another microservice and waits for the response.
+     *
+     * @param service the microservice to send the request to.
+     * @param endpoint the path of the endpoint, which may contain variables such as {faculty}.
+     * @param method the HTTP method.
+     * @param entity the body and headers of the request.
+     * @param responseType the type to convert the response body to.
+     * @param uriVariables the values of the variables in the path.
+     * @param <T> the type of the response body.
+     * @return the response.
+     * @throws org.springframework.web.client.RestClientException if the request fails or is answered with an error.
+     */
+    public <T> ResponseEntity<T> exchange(String service, String endpoint, HttpMethod method, HttpEntity<?> entity,
+                                          Class<T> responseType, Object... uriVariables) {
+        String baseUrl = this.baseUrls.get(service);
+        if (baseUrl == null) {
+            throw new IllegalArgumentException("Unknown microservice: " + service);
+        }
+
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            ResponseEntity<T> response = this.restTemplate.exchange(baseUrl + endpoint, method, entity, responseType,
+                    uriVariables);
+            status = String.valueOf(response.getStatusCodeValue());
+            return response;
+        } catch (RestClientResponseException e) {
+            status = String.valueOf(e.getRawStatusCode());
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("interservice.client.requests")
+                    .description("Requests sent to the other microservices")
+                    .tags("service", service, "endpoint", endpoint, "method", method.name(), "status", status)
+                    .publishPercentileHistogram()
+                    .register(this.meterRegistry));
+        }
+    }
+
+    /**
+     * Sends a request to another microservice without waiting for the response.
+     *
+     * @param service the microservice to send the request to.
+     * @param endpoint the path of the endpoint, which may contain variables such as {faculty}.
+     * @param method the HTTP method.
+     * @param entity the body and headers of the request.
+     * @param responseType the type to convert the response body to.
+     * @param uriVariables the values of the variables in the path.
+     * @param <T> the type of the response body.
+     * @return the response, completed exceptionally if the request fails or is answered with an error.
+     */
+    public <T> CompletableFuture<ResponseEntity<T>> exchangeAsync(String service, String endpoint, HttpMethod method,
+                                                                  HttpEntity<?> entity, Class<T> responseType,
+                                                                  Object... uriVariables) {
+        return CompletableFuture.supplyAsync(
+                () -> this.exchange(service, endpoint, method, entity, responseType, uriVariables), this.executor);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.executor instanceof ExecutorService) {
+            ((ExecutorService) this.executor).shutdown();
+        }
+    }
+}
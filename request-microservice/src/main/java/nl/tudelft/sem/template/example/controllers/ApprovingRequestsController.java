@@ -1,13 +1,14 @@
 package nl.tudelft.sem.template.example.controllers;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
 import java.util.stream.Collectors;
 import nl.tudelft.sem.template.example.authentication.AuthManager;
 import nl.tudelft.sem.template.example.domain.ApprovalInformation;
+import nl.tudelft.sem.template.example.domain.ApprovalResultResponseModel;
 import nl.tudelft.sem.template.example.domain.Request;
 import nl.tudelft.sem.template.example.domain.RequestRepository;
 import nl.tudelft.sem.template.example.services.RequestAllocationService;
+import nl.tudelft.sem.template.example.services.RequestApprovalService;
 import nl.tudelft.sem.template.example.util.Utils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
@@ -32,7 +33,7 @@ public class ApprovingRequestsController {
     private final transient AuthManager authManager;
     private final RequestAllocationService requestAllocationService;
     private final RequestRepository requestRepository;
-
+    private final RequestApprovalService requestApprovalService;
 
     /**
      * Instantiates a new controller.
@@ -40,14 +41,16 @@ public class ApprovingRequestsController {
      * @param authManager              Spring Security component used to authenticate and authorize the user
      * @param requestAllocationService the request allocation service
      * @param requestRepository        the request repository
+     * @param requestApprovalService   the service handling approved requests
      */
     @Autowired
     public ApprovingRequestsController(AuthManager authManager, RequestAllocationService requestAllocationService,
-                                       RequestRepository requestRepository) {
+                                       RequestRepository requestRepository,
+                                       RequestApprovalService requestApprovalService) {
         this.authManager = authManager;
         this.requestAllocationService = requestAllocationService;
         this.requestRepository = requestRepository;
-
+        this.requestApprovalService = requestApprovalService;
     }
 
     /**
@@ -70,15 +73,13 @@ public class ApprovingRequestsController {
      *
      * @param headers             the headers
      * @param approvalInformation the approval information
-     * @return                    the response entity
-     * @throws JsonProcessingException the json processing exception
+     * @return                    the response entity with the outcome of each approved request
      */
     @PostMapping("sendApprovals")
     @PreAuthorize("hasRole('FACULTY')")
     @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
-    public ResponseEntity<List<Request>> sendApprovals(@RequestHeader HttpHeaders headers,
-                                                       @RequestBody ApprovalInformation approvalInformation)
-            throws JsonProcessingException {
+    public ResponseEntity<List<ApprovalResultResponseModel>> sendApprovals(@RequestHeader HttpHeaders headers,
+            @RequestBody ApprovalInformation approvalInformation) {
         //I require a file with the ids of all approved requests, check if the sender is with a faculty profile
 
         String token = headers.get("Authorization").get(0).replace("Bearer ", "");
@@ -90,43 +91,8 @@ public class ApprovingRequestsController {
                 .filter(x -> facultiesOfFacultyUser.contains(x.getFaculty()))
                 .collect(Collectors.toList());
 
-        handleRequests(requests, token, requestAllocationService, requestRepository);
-        return ResponseEntity.status(HttpStatus.OK).body(requests);
-
-    }
-
-
-
-    /**
-     * Synthesizes and extracts all the request logic from the sendApprovals method.
-     * It is done for better code quality and readability.
-     *
-     * @param requests list of requests
-     * @param token token of the current user
-     * @throws JsonProcessingException the json processing exception
-     */
-    public void handleRequests(List<Request> requests, String token,
-                               RequestAllocationService requestAllocationService, RequestRepository requestRepository)
-            throws JsonProcessingException {
+        var results = requestApprovalService.handleApprovedRequests(requests, token);
+        return ResponseEntity.status(HttpStatus.OK).body(results);
 
-        for (Request request : requests) {
-            request.setApproved(true);
-        }
-        //Implementation of changing the status of respective requests to approved
-        for (Request request : requests) {
-            if (requestAllocationService.enoughResourcesForJob(request, token)) {
-                requestAllocationService.sendRequestToCluster(request, token);
-            } else {
-                // Users team must open an endpoint for post requests, notifying for declined requests
-                requestAllocationService.sendDeclinedRequestToUserService(request, token);
-            }
-        }
-        // Deleting approved and sent entities
-        requestRepository.deleteAll(requests);
     }
-
-
-
-
-
 }
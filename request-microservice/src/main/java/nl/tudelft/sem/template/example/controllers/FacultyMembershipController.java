@@ -0,0 +1,42 @@
+package nl.tudelft.sem.template.example.controllers;
+
+import nl.tudelft.sem.template.example.domain.FacultyMembershipInvalidationRequestModel;
+import nl.tudelft.sem.template.example.services.FacultyMembershipCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * This is the controller which receives the changes in the faculties of users from the user service.
+ */
+@RestController
+public class FacultyMembershipController {
+
+    private final transient FacultyMembershipCache facultyMembershipCache;
+
+    /**
+     * Instantiates a new controller.
+     *
+     * @param facultyMembershipCache the cache of the faculties of users
+     */
+    @Autowired
+    public FacultyMembershipController(FacultyMembershipCache facultyMembershipCache) {
+        this.facultyMembershipCache = facultyMembershipCache;
+    }
+
+    /**
+     * Forgets the cached faculties of a user, after they were changed in the user service.
+     *
+     * @param request the user whose faculties changed
+     * @return 200 OK once the faculties of the user are no longer cached
+     */
+    @PostMapping("/faculties/invalidate")
+    @PreAuthorize("hasRole('SYSTEM')")
+    public ResponseEntity<String> invalidateFaculties(@RequestBody FacultyMembershipInvalidationRequestModel request) {
+        facultyMembershipCache.invalidate(request.getNetId());
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,29 @@
+package nl.tudelft.sem.template.example.domain;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The outcome of approving a single request. A request is either scheduled or rejected by the cluster, or declined
+ * because its faculty does not have enough resources for it, in which case its user is notified. A request that could
+ * not be sent to the cluster, or whose user could not be notified, is not sent and stays pending. The scheduledFor
+ * date is null for requests that were not scheduled.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalResultResponseModel {
+    public static final String SCHEDULED = "SCHEDULED";
+    public static final String REJECTED = "REJECTED";
+    public static final String DECLINED = "DECLINED";
+    public static final String NOT_SENT = "NOT_SENT";
+
+    private Long requestId;
+    private String status;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate scheduledFor;
+    private String message;
+}
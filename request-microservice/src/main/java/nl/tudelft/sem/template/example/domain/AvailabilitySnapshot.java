@@ -0,0 +1,84 @@
+package nl.tudelft.sem.template.example.domain;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The resources available to each faculty per day, as fetched from the cluster once for a batch of requests. Every
+ * request accepted in the batch is reserved on the snapshot, so later requests in the same batch only see the
+ * resources that are left. Like the default scheduling strategy of the cluster, a request is reserved on the day up
+ * until its preferred date on which it fits with the least resources left over, the earliest such day in case of ties.
+ */
+public class AvailabilitySnapshot {
+
+    /**
+     * The resources available per faculty, one per day, the last one being on the last date of that faculty.
+     */
+    private final Map<String, List<Resource>> resourcesPerFaculty = new HashMap<>();
+    private final Map<String, LocalDate> lastDatePerFaculty = new HashMap<>();
+
+    /**
+     * Adds the resources available to a faculty to this snapshot.
+     *
+     * @param faculty   the faculty
+     * @param lastDate  the date of the last of the given resources
+     * @param resources the resources available per day, as returned by the cluster, up until the last date
+     */
+    public void put(String faculty, LocalDate lastDate, List<Resource> resources) {
+        List<Resource> copy = new ArrayList<>(resources.size());
+        for (Resource resource : resources) {
+            copy.add(new Resource(resource.getFacultyName(), resource.getResourceCpu(),
+                    resource.getResourceGpu(), resource.getResourceMemory()));
+        }
+        resourcesPerFaculty.put(faculty, copy);
+        lastDatePerFaculty.put(faculty, lastDate);
+    }
+
+    /**
+     * Reserves the resources of the given request on a day up until its preferred date, if it fits on any.
+     *
+     * @param request the request
+     * @return whether there were enough resources left for the request
+     */
+    public boolean reserve(Request request) {
+        List<Resource> resources = resourcesPerFaculty.get(request.getFaculty());
+        if (resources == null) {
+            return false;
+        }
+
+        long daysAfterPreferredDate = ChronoUnit.DAYS.between(request.getPreferredDate(),
+                lastDatePerFaculty.get(request.getFaculty()));
+        long consideredDays = resources.size() - Math.max(0, daysAfterPreferredDate);
+
+        Resource best = null;
+        double leastLeft = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < consideredDays; i++) {
+            Resource resource = resources.get(i);
+            if (fits(request, resource)) {
+                double left = resource.getResourceCpu() + resource.getResourceGpu() + resource.getResourceMemory();
+                if (left < leastLeft) {
+                    leastLeft = left;
+                    best = resource;
+                }
+            }
+        }
+        if (best == null) {
+            return false;
+        }
+
+        best.setResourceCpu(best.getResourceCpu() - request.getCpu());
+        best.setResourceGpu(best.getResourceGpu() - request.getGpu());
+        best.setResourceMemory(best.getResourceMemory() - request.getMemory());
+        return true;
+    }
+
+    private static boolean fits(Request request, Resource resource) {
+        return resource.getResourceCpu() >= request.getCpu()
+                && resource.getResourceGpu() >= request.getGpu()
+                && resource.getResourceMemory() >= request.getMemory();
+    }
+}
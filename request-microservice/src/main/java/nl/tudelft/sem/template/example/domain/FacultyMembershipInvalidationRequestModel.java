@@ -0,0 +1,12 @@
+package nl.tudelft.sem.template.example.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacultyMembershipInvalidationRequestModel {
+    private String netId;
+}
@@ -0,0 +1,23 @@
+package nl.tudelft.sem.template.example.domain;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The outcome of scheduling a single job of a batch request, as returned by the cluster. The scheduledFor date is
+ * null for jobs that were not scheduled.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobScheduleResultResponseModel {
+    private String jobName;
+    private String userNetId;
+    private boolean scheduled;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate scheduledFor;
+    private String message;
+}
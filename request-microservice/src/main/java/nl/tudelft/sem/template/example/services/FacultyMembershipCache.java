@@ -0,0 +1,195 @@
+package nl.tudelft.sem.template.example.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caches the faculties of users, as acquired from the users microservice, for a limited time. The cache holds at most
+ * a fixed number of users and evicts the least recently used one when it is full. When several requests miss the cache
+ * for the same user at once, only one of them asks the users microservice; the others wait for its answer. The users
+ * microservice invalidates the faculties of a user as soon as they change.
+ */
+@Service
+public class FacultyMembershipCache {
+
+    private static final class CachedFaculties {
+        private final List<String> faculties;
+        private final long expiresAt;
+
+        private CachedFaculties(List<String> faculties, long expiresAt) {
+            this.faculties = faculties;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final transient long ttlNanos;
+    private final transient LongSupplier nanoClock;
+
+    /**
+     * The cached faculties per netId, in order of last access. Guarded by itself.
+     */
+    private final transient LinkedHashMap<String, CachedFaculties> entries;
+
+    /**
+     * The lookups currently asking the users microservice, per netId.
+     */
+    private final transient Map<String, CompletableFuture<List<String>>> inFlight = new ConcurrentHashMap<>();
+
+    private final transient Counter hits;
+    private final transient Counter misses;
+    private final transient Timer missLatency;
+
+    /**
+     * Creates this cache.
+     *
+     * @param meterRegistry the registry to publish the hits, misses and miss latency to.
+     * @param ttlMillis how long the faculties of a user are cached; zero or less disables the cache.
+     * @param maxSize the maximum number of users whose faculties are cached.
+     */
+    @Autowired
+    public FacultyMembershipCache(MeterRegistry meterRegistry,
+                                  @Value("${faculties.cache.ttlMillis:60000}") long ttlMillis,
+                                  @Value("${faculties.cache.maxSize:10000}") int maxSize) {
+        this(meterRegistry, ttlMillis, maxSize, System::nanoTime);
+    }
+
+    /**
+     * Creates this cache.
+     *
+     * @param meterRegistry the registry to publish the hits, misses and miss latency to.
+     * @param ttlMillis how long the faculties of a user are cached; zero or less disables the cache.
+     * @param maxSize the maximum number of users whose faculties are cached.
+     * @param nanoClock the clock that entries expire by, in nanoseconds.
+     */
+    public FacultyMembershipCache(MeterRegistry meterRegistry, long ttlMillis, int maxSize, LongSupplier nanoClock) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedFaculties> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        this.hits = Counter.builder("faculties.cache.hits")
+                .description("Faculty lookups answered from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("faculties.cache.misses")
+                .description("Faculty lookups that had to ask the users microservice")
+                .register(meterRegistry);
+        this.missLatency = Timer.builder("faculties.cache.miss.latency")
+                .description("Time taken to acquire the faculties of a user from the users microservice")
+                .register(meterRegistry);
+        Gauge.builder("faculties.cache.size", this, FacultyMembershipCache::size)
+                .description("Users whose faculties are cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the faculties of the given user, from the cache if they are in it and have not expired, otherwise from
+     * the given loader. A loader that fails is not cached, so the next lookup tries again.
+     *
+     * @param netId the user to get the faculties of; if null, the loader is always used.
+     * @param loader acquires the faculties of the user from the users microservice.
+     * @return the faculties of the user.
+     * @throws RuntimeException the exception thrown by the loader, if it fails.
+     */
+    public List<String> get(String netId, Supplier<List<String>> loader) throws RuntimeException {
+        if (netId == null || this.ttlNanos <= 0) {
+            return loader.get();
+        }
+
+        synchronized (this.entries) {
+            CachedFaculties entry = this.entries.get(netId);
+            if (entry != null && entry.expiresAt - this.nanoClock.getAsLong() > 0) {
+                this.hits.increment();
+                return entry.faculties;
+            }
+        }
+        this.misses.increment();
+
+        CompletableFuture<List<String>> lookup = new CompletableFuture<>();
+        CompletableFuture<List<String>> running = this.inFlight.putIfAbsent(netId, lookup);
+        if (running != null) {
+            return join(running);
+        }
+
+        long start = this.nanoClock.getAsLong();
+        try {
+            List<String> faculties = List.copyOf(loader.get());
+            // only cache the answer if the faculties were not invalidated while asking for them
+            if (this.inFlight.remove(netId, lookup)) {
+                synchronized (this.entries) {
+                    this.entries.put(netId, new CachedFaculties(faculties, this.nanoClock.getAsLong() + this.ttlNanos));
+                }
+            }
+            lookup.complete(faculties);
+            return faculties;
+        } catch (RuntimeException e) {
+            this.inFlight.remove(netId, lookup);
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.missLatency.record(this.nanoClock.getAsLong() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static List<String> join(CompletableFuture<List<String>> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the faculties of the given user from the cache, so the next lookup asks the users microservice again.
+     * A lookup that is running at the moment is not cached either.
+     *
+     * @param netId the user whose faculties changed.
+     */
+    public void invalidate(String netId) {
+        this.inFlight.remove(netId);
+        synchronized (this.entries) {
+            this.entries.remove(netId);
+        }
+    }
+
+    /**
+     * Removes the faculties of all users from the cache.
+     */
+    public void invalidateAll() {
+        this.inFlight.clear();
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of users whose faculties are cached, including expired ones that were not looked up since.
+     *
+     * @return the number of cached users.
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+}
@@ -7,13 +7,17 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.Getter;
 import nl.tudelft.sem.template.example.TokenRequestModel;
+import nl.tudelft.sem.template.example.authentication.AuthManager;
+import nl.tudelft.sem.template.example.config.InterServiceClient;
 import nl.tudelft.sem.template.example.domain.AvailableResources;
 import nl.tudelft.sem.template.example.domain.FacultiesResponseModel;
 import nl.tudelft.sem.template.example.domain.JobRequestRequestModel;
+import nl.tudelft.sem.template.example.domain.JobScheduleResultResponseModel;
 import nl.tudelft.sem.template.example.domain.NotificationRequestModel;
 import nl.tudelft.sem.template.example.domain.Request;
 import nl.tudelft.sem.template.example.domain.RequestRepository;
@@ -21,7 +25,6 @@ import nl.tudelft.sem.template.example.domain.Resource;
 import nl.tudelft.sem.template.example.domain.ResourceResponseModel;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -37,58 +40,83 @@ import org.springframework.web.client.RestTemplate;
 @Getter
 public class RequestAllocationService {
 
-    private RestTemplate restTemplate;
+    private InterServiceClient interServiceClient;
     private final RequestRepository requestRepository;
+    private final AuthManager authManager;
+    private final FacultyMembershipCache facultyMembershipCache;
 
     /**
      * Instantiates a new Request allocation service.
      *
-     * @param restTemplateBuilder the rest template builder
+     * @param interServiceClient  the client for sending requests to the other services
      * @param requestRepository   the request repository
+     * @param authManager         the auth manager to get the faculties in the token of the user from
+     * @param facultyMembershipCache the cache of the faculties received from the user service
      */
     @Autowired
-    public RequestAllocationService(RestTemplateBuilder restTemplateBuilder, RequestRepository requestRepository) {
-        this.restTemplate = restTemplateBuilder.build();
+    public RequestAllocationService(InterServiceClient interServiceClient, RequestRepository requestRepository,
+                                    AuthManager authManager, FacultyMembershipCache facultyMembershipCache) {
+        this.interServiceClient = interServiceClient;
         this.requestRepository = requestRepository;
+        this.authManager = authManager;
+        this.facultyMembershipCache = facultyMembershipCache;
     }
 
+    /**
+     * Sends the requests to the other services with the given rest template.
+     *
+     * @param restTemplate the rest template
+     */
     public void setRestTemplate(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
+        this.interServiceClient = interServiceClient.withRestTemplate(restTemplate);
     }
 
     /**
      * This method is responsible for getting the associated faculties with the user who made the request.
-     * It receives that info through an endpoint from the user service
+     * They are taken from the token of the user if it contains them and they are recent enough,
+     * otherwise from the cache, or it receives that info through an endpoint from the user service
      *
      * @param token the token
      * @return the faculty user faculties
      */
     public List<String> getFacultyUserFaculties(String token) {
+        Optional<List<String>> facultiesFromToken = authManager.getFaculties();
+        if (facultiesFromToken.isPresent()) {
+            return facultiesFromToken.get();
+        }
 
         try {
-            String url = "http://localhost:8081/getUserFaculties";
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(token);
+            return facultyMembershipCache.get(authManager.getNetId(), () -> requestFacultyUserFaculties(token));
+        } catch (Exception e) {
+            System.out.println("error with post:" + e);
+        }
+        return Collections.emptyList();
 
-            HttpEntity<TokenRequestModel> entity = new HttpEntity<>(new TokenRequestModel(token), headers);
-            ResponseEntity<FacultiesResponseModel> result = restTemplate
-                    .postForEntity(url, entity, FacultiesResponseModel.class);
+    }
 
-            String string = result.getBody().getFaculties()
-                    .replace("[", "").replace("]", "");
+    /**
+     * Receives the faculties associated with the user who made the request through an endpoint from the user service.
+     *
+     * @param token the token
+     * @return the faculty user faculties
+     */
+    private List<String> requestFacultyUserFaculties(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(token);
 
-            if (string.equals("")) {
-                return Collections.emptyList();
-            }
+        HttpEntity<TokenRequestModel> entity = new HttpEntity<>(new TokenRequestModel(token), headers);
+        ResponseEntity<FacultiesResponseModel> result = interServiceClient.exchange(InterServiceClient.USERS,
+                "/getUserFaculties", HttpMethod.POST, entity, FacultiesResponseModel.class);
 
-            return Arrays.stream(string.split(", ")).collect(Collectors.toList());
+        String string = result.getBody().getFaculties()
+                .replace("[", "").replace("]", "");
 
-        } catch (Exception e) {
-            System.out.println("error with post:" + e);
+        if (string.equals("")) {
+            return Collections.emptyList();
         }
-        return Collections.emptyList();
 
+        return Arrays.stream(string.split(", ")).collect(Collectors.toList());
     }
 
     /**
@@ -101,16 +129,14 @@ public class RequestAllocationService {
      */
     public List<Resource> getReservedResource(String facultyName, LocalDate preferredDate, String token) {
         try {
-            String url = "http://localhost:8082/resources/availableUntil/"
-                    + preferredDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-                    + "/" + facultyName;
-
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(token);
 
             HttpEntity<TokenRequestModel> entity = new HttpEntity<>(new TokenRequestModel(token), headers);
-            var result = restTemplate.exchange(url, HttpMethod.GET, entity, ResourceResponseModel[].class);
+            var result = interServiceClient.exchange(InterServiceClient.CLUSTER,
+                    "/resources/availableUntil/{date}/{faculty}", HttpMethod.GET, entity, ResourceResponseModel[].class,
+                    preferredDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")), facultyName);
             var listOfResources = Stream.of(Objects.requireNonNull(result.getBody()))
                     .map(x -> new Resource(x.getFacultyName(), x.getResourceCpu(),
                             x.getResourceGpu(), x.getResourceMemory())).collect(Collectors.toList());
@@ -133,6 +159,19 @@ public class RequestAllocationService {
 
         List<Resource> resources = getReservedResource(request.getFaculty(), request.getPreferredDate(), token);
 
+        return enoughResourcesForJob(request, resources);
+    }
+
+    /**
+     * Checks if there are enough computational resources for a given job to be executed,
+     * given the resources available for its faculty up until its preferred date.
+     *
+     * @param request   the request
+     * @param resources the available resources, as returned by getReservedResource
+     * @return the boolean
+     */
+    public boolean enoughResourcesForJob(Request request, List<Resource> resources) {
+
         for (int i = 0; i < resources.size(); i++) {
             Resource currentResource = resources.get(i);
 
@@ -158,26 +197,53 @@ public class RequestAllocationService {
     public boolean sendRequestToCluster(Request request, String token) {
 
         try {
-            String url = "http://localhost:8082/request";
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(token);
 
             HttpEntity<JobRequestRequestModel> entity =
                     new HttpEntity<>(JobRequestRequestModel.convertToRequestModel(request), headers);
-            ResponseEntity<String> result = restTemplate.postForEntity(url, entity, String.class);
-            if (result.getBody().equals("ok")) {
-                return true;
-            }
+            ResponseEntity<String> result = interServiceClient.exchange(InterServiceClient.CLUSTER,
+                    "/request", HttpMethod.POST, entity, String.class);
+            return result.getStatusCode().is2xxSuccessful();
         } catch (Exception e) {
             System.out.println("error with post: " + e);
             return false;
         }
-        return true;
 
 
     }
 
+    /**
+     * Forwards the given requests to the cluster in a single call, which schedules all of them together.
+     *
+     * @param requests the requests, all verified to fit in the resources of their faculty
+     * @param token    the token of the faculty user who approved them
+     * @return the outcome of each request, in the same order as the requests, or an empty list if the requests could
+     *         not be sent
+     */
+    public List<JobScheduleResultResponseModel> sendRequestsToCluster(List<Request> requests, String token) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setBearerAuth(token);
+
+            HttpEntity<List<JobRequestRequestModel>> entity = new HttpEntity<>(requests.stream()
+                    .map(JobRequestRequestModel::convertToRequestModel).collect(Collectors.toList()), headers);
+            ResponseEntity<JobScheduleResultResponseModel[]> result = interServiceClient.exchange(
+                    InterServiceClient.CLUSTER, "/requests/batch", HttpMethod.POST, entity,
+                    JobScheduleResultResponseModel[].class);
+            var results = Objects.requireNonNull(result.getBody());
+            if (results.length == requests.size()) {
+                return Arrays.asList(results);
+            }
+            System.out.println("error with post: " + results.length + " results for " + requests.size() + " requests");
+        } catch (Exception e) {
+            System.out.println("error with post: " + e);
+        }
+        return Collections.emptyList();
+    }
+
     /**
      * This method is responsible for notifying the user if their job request is declined for some reason.
      * It sends the job notification to the user service.
@@ -198,18 +264,14 @@ public class RequestAllocationService {
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(token);
 
-            String url = "http://localhost:8081/notification";
-
             HttpEntity<NotificationRequestModel> entity = new HttpEntity<>(model, headers);
-            ResponseEntity<String> result = restTemplate.postForEntity(url, entity, String.class);
-            if (result.getBody().equals("ok")) {
-                return true;
-            }
+            ResponseEntity<String> result = interServiceClient.exchange(InterServiceClient.USERS,
+                    "/notification", HttpMethod.POST, entity, String.class);
+            return result.getStatusCode().is2xxSuccessful();
         } catch (Exception e) {
             System.out.println("error with post: " + e);
             return false;
         }
-        return false;
 
 
     }
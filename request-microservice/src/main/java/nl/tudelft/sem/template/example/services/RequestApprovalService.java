@@ -0,0 +1,183 @@
+package nl.tudelft.sem.template.example.services;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import nl.tudelft.sem.template.example.domain.ApprovalResultResponseModel;
+import nl.tudelft.sem.template.example.domain.AvailabilitySnapshot;
+import nl.tudelft.sem.template.example.domain.JobScheduleResultResponseModel;
+import nl.tudelft.sem.template.example.domain.Request;
+import nl.tudelft.sem.template.example.domain.RequestRepository;
+import nl.tudelft.sem.template.example.domain.Resource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Handles a batch of approved requests. The resources available to a faculty are fetched from the cluster once per
+ * faculty in the batch, and all of them at once. Every accepted request is reserved on these resources, so the
+ * requests after it in the batch are only accepted if they fit in what it left over. Afterwards the accepted requests
+ * are sent to the cluster and the users of the declined requests are notified concurrently, on a bounded number of
+ * threads. The accepted requests of one faculty are sent to the cluster in a single call, which schedules them
+ * together. The outcome of every request is collected and returned once all of them are handled.
+ */
+@Service
+public class RequestApprovalService implements DisposableBean {
+
+    private final transient RequestAllocationService requestAllocationService;
+    private final transient RequestRepository requestRepository;
+    private final transient ExecutorService executor;
+
+    /**
+     * Instantiates a new request approval service.
+     *
+     * @param requestAllocationService the service communicating with the other services
+     * @param requestRepository        the request repository
+     * @param threads                  the number of threads communicating with the other services
+     */
+    @Autowired
+    public RequestApprovalService(RequestAllocationService requestAllocationService,
+                                  RequestRepository requestRepository,
+                                  @Value("${requests.approval.threads:8}") int threads) {
+        this.requestAllocationService = requestAllocationService;
+        this.requestRepository = requestRepository;
+        this.executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("request-approval-"));
+    }
+
+    /**
+     * Approves the given requests, sends the ones there are enough resources for to the cluster, notifies the users of
+     * the other ones, and deletes all of them once this is done. The requests that could not be sent to the cluster, or
+     * whose users could not be notified, are not deleted but stay pending.
+     *
+     * @param requests the approved requests
+     * @param token    the token of the faculty user who approved them
+     * @return the outcome of each request, in the same order as the requests
+     */
+    public List<ApprovalResultResponseModel> handleApprovedRequests(List<Request> requests, String token) {
+        for (Request request : requests) {
+            request.setApproved(true);
+        }
+
+        AvailabilitySnapshot snapshot = fetchAvailability(requests, token);
+
+        ApprovalResultResponseModel[] results = new ApprovalResultResponseModel[requests.size()];
+        Map<String, List<Integer>> acceptedPerFaculty = new LinkedHashMap<>();
+        List<CompletableFuture<Void>> sending = new ArrayList<>();
+        for (int i = 0; i < requests.size(); ++i) {
+            Request request = requests.get(i);
+            if (snapshot.reserve(request)) {
+                acceptedPerFaculty.computeIfAbsent(request.getFaculty(), faculty -> new ArrayList<>()).add(i);
+            } else {
+                int index = i;
+                sending.add(CompletableFuture.runAsync(() -> results[index] = notifyDeclined(request, token),
+                        executor));
+            }
+        }
+        for (List<Integer> accepted : acceptedPerFaculty.values()) {
+            sending.add(CompletableFuture.runAsync(() -> sendBatch(requests, accepted, results, token), executor));
+        }
+        CompletableFuture.allOf(sending.toArray(new CompletableFuture<?>[0])).join();
+
+        List<Request> handled = new ArrayList<>(requests.size());
+        List<Request> notSent = new ArrayList<>();
+        for (int i = 0; i < requests.size(); ++i) {
+            if (ApprovalResultResponseModel.NOT_SENT.equals(results[i].getStatus())) {
+                requests.get(i).setApproved(false);
+                notSent.add(requests.get(i));
+            } else {
+                handled.add(requests.get(i));
+            }
+        }
+        if (!notSent.isEmpty()) {
+            System.out.println(notSent.size() + " approved requests could not be sent to the cluster or notified");
+            requestRepository.saveAll(notSent);
+        }
+
+        // Deleting approved and sent entities
+        requestRepository.deleteAll(handled);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Fetches the resources available to each faculty of the given requests, up until the latest preferred date of the
+     * requests of that faculty, concurrently.
+     *
+     * @param requests the requests
+     * @param token    the token of the faculty user who approved them
+     * @return the resources available to the faculties
+     */
+    private AvailabilitySnapshot fetchAvailability(List<Request> requests, String token) {
+        Map<String, LocalDate> lastDatePerFaculty = new HashMap<>();
+        for (Request request : requests) {
+            lastDatePerFaculty.merge(request.getFaculty(), request.getPreferredDate(),
+                    (date, other) -> date.isAfter(other) ? date : other);
+        }
+
+        Map<String, CompletableFuture<List<Resource>>> resourcesPerFaculty = new HashMap<>();
+        lastDatePerFaculty.forEach((faculty, lastDate) -> resourcesPerFaculty.put(faculty,
+                CompletableFuture.supplyAsync(
+                        () -> requestAllocationService.getReservedResource(faculty, lastDate, token), executor)));
+
+        AvailabilitySnapshot snapshot = new AvailabilitySnapshot();
+        resourcesPerFaculty.forEach((faculty, resources) ->
+                snapshot.put(faculty, lastDatePerFaculty.get(faculty), resources.join()));
+        return snapshot;
+    }
+
+    /**
+     * Sends the given requests to the cluster in a single call.
+     *
+     * @param requests the approved requests
+     * @param accepted the indices of the requests to send
+     * @param results  the outcome of each approved request, filled in for the requests sent
+     * @param token    the token of the faculty user who approved them
+     */
+    private void sendBatch(List<Request> requests, List<Integer> accepted, ApprovalResultResponseModel[] results,
+                           String token) {
+        List<Request> batch = accepted.stream().map(requests::get).collect(Collectors.toList());
+        List<JobScheduleResultResponseModel> sent = requestAllocationService.sendRequestsToCluster(batch, token);
+        for (int i = 0; i < batch.size(); ++i) {
+            Long id = batch.get(i).getId();
+            if (sent.isEmpty()) {
+                results[accepted.get(i)] = new ApprovalResultResponseModel(id, ApprovalResultResponseModel.NOT_SENT,
+                        null, "The request could not be sent to the cluster.");
+            } else {
+                var result = sent.get(i);
+                results[accepted.get(i)] = new ApprovalResultResponseModel(id, result.isScheduled()
+                        ? ApprovalResultResponseModel.SCHEDULED : ApprovalResultResponseModel.REJECTED,
+                        result.getScheduledFor(), result.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Notifies the user of a request there are not enough resources for that it was declined.
+     *
+     * @param request the declined request
+     * @param token   the token of the faculty user who approved it
+     * @return the outcome of the request
+     */
+    private ApprovalResultResponseModel notifyDeclined(Request request, String token) {
+        if (requestAllocationService.sendDeclinedRequestToUserService(request, token)) {
+            return new ApprovalResultResponseModel(request.getId(), ApprovalResultResponseModel.DECLINED, null,
+                    "There are not enough resources available for the request.");
+        }
+        return new ApprovalResultResponseModel(request.getId(), ApprovalResultResponseModel.NOT_SENT, null,
+                "The user of the declined request could not be notified.");
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.client.ExpectedCount.manyTimes;
+import static org.springframework.test.web.client.ExpectedCount.once;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
@@ -24,10 +25,12 @@ import nl.tudelft.sem.template.example.controllers.ApprovingRequestsController;
 import nl.tudelft.sem.template.example.domain.ApprovalInformation;
 import nl.tudelft.sem.template.example.domain.ClockUser;
 import nl.tudelft.sem.template.example.domain.DateProvider;
+import nl.tudelft.sem.template.example.domain.JobScheduleResultResponseModel;
 import nl.tudelft.sem.template.example.domain.Request;
 import nl.tudelft.sem.template.example.domain.RequestRepository;
 import nl.tudelft.sem.template.example.domain.ResourceResponseModel;
 import nl.tudelft.sem.template.example.integration.utils.JsonUtil;
+import nl.tudelft.sem.template.example.profiles.MockTokenVerifierProfile;
 import nl.tudelft.sem.template.example.services.RequestAllocationService;
 import nl.tudelft.sem.template.example.util.Utils;
 import org.json.JSONObject;
@@ -94,6 +97,7 @@ public class ApprovingRequestsControllerTest {
 
         server = MockRestServiceServer.createServer(restTemplate); // bind the server to the template
         requestAllocationService.setRestTemplate(restTemplate);    // set the service to use the same template (!!!!!)
+        requestAllocationService.getFacultyMembershipCache().invalidateAll();  // do not reuse faculties of other tests
 
         // when asked for user faculties, requestAllocationService will return EWI and IO
         server.expect(manyTimes(), requestTo("http://localhost:8081/getUserFaculties"))
@@ -101,10 +105,9 @@ public class ApprovingRequestsControllerTest {
                 .andRespond(withSuccess("{\n\"faculties\": \"[EWI, IO]\"}", MediaType.APPLICATION_JSON));
 
         when(mockAuthenticationManager.getNetId()).thenReturn("test");
-        when(mockJwtTokenVerifier.validateToken(anyString())).thenReturn(true);
-        when(mockJwtTokenVerifier.getNetIdFromToken(anyString())).thenReturn("test");
         when(mockAuthenticationManager.getRole()).thenReturn("FACULTY");
-        when(mockJwtTokenVerifier.getRoleFromToken(anyString())).thenReturn("ROLE_FACULTY");
+        when(mockJwtTokenVerifier.getVerifiedClaims(anyString()))
+                .thenReturn(MockTokenVerifierProfile.mockClaims("test", "ROLE_FACULTY"));
         //when(requestAllocationService.enoughResourcesForJob(new ))
 
     }
@@ -122,9 +125,15 @@ public class ApprovingRequestsControllerTest {
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(resourcesString, MediaType.APPLICATION_JSON));
 
-        server.expect(manyTimes(), requestTo("http://localhost:8082/request"))
+        // both approved requests are sent in one batch, and both are scheduled
+        var results = new JobScheduleResultResponseModel[]{
+            new JobScheduleResultResponseModel("test", "test", true, LocalDate.of(2022, 12, 23),
+                    "Successfully scheduled job."),
+            new JobScheduleResultResponseModel("test", "test", true, LocalDate.of(2022, 12, 23),
+                    "Successfully scheduled job.")};
+        server.expect(once(), requestTo("http://localhost:8082/requests/batch"))
                 .andExpect(method(HttpMethod.POST))
-                .andRespond(withSuccess("Uspeh", MediaType.APPLICATION_JSON));
+                .andRespond(withSuccess(JsonUtil.serialize(results), MediaType.APPLICATION_JSON));
 
         Clock clock = Clock.fixed(
                 Instant.parse("2022-12-22T11:00:00.00Z"),
@@ -169,11 +178,10 @@ public class ApprovingRequestsControllerTest {
 
         String contentAsString = res.andReturn().getResponse().getContentAsString();
 
-        assertThat(contentAsString).isEqualTo("[{\"id\":1,\"netId\":\"test\",\"name\":\"test\",\"description\":\"desc\","
-                + "\"faculty\":\"EWI\",\"cpu\":3.0,\"gpu\":2.0,\"memory\":2.0,\"approved\":true,\"preferredDate\""
-                + ":\"2022-12-23\"},{\"id\":2,\"netId\":\"test\",\"name\":\"test\",\"description\":\"desc\",\""
-                + "faculty\":\"EWI\",\"cpu\":3.0,\"gpu\":2.0,\"memory\":2.0,\"approved\":true,\"preferredDate\""
-                + ":\"2022-12-23\"}]");
+        assertThat(contentAsString).isEqualTo("[{\"requestId\":1,\"status\":\"SCHEDULED\",\"scheduledFor\":\"2022-12-23\","
+                + "\"message\":\"Successfully scheduled job.\"},{\"requestId\":2,\"status\":\"SCHEDULED\","
+                + "\"scheduledFor\":\"2022-12-23\",\"message\":\"Successfully scheduled job.\"}]");
+        assertThat(requestRepository.findAll()).extracting(Request::getId).contains(3L).doesNotContain(1L, 2L);
 
     }
 
@@ -10,6 +10,7 @@ import static org.springframework.test.web.client.match.MockRestRequestMatchers.
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -25,10 +26,12 @@ import java.util.stream.Collectors;
 import nl.tudelft.sem.template.example.authentication.AuthManager;
 import nl.tudelft.sem.template.example.authentication.JwtTokenVerifier;
 import nl.tudelft.sem.template.example.controllers.ApprovingRequestsController;
+import nl.tudelft.sem.template.example.domain.JobScheduleResultResponseModel;
 import nl.tudelft.sem.template.example.domain.Request;
 import nl.tudelft.sem.template.example.domain.RequestRepository;
 import nl.tudelft.sem.template.example.domain.Resource;
 import nl.tudelft.sem.template.example.domain.ResourceResponseModel;
+import nl.tudelft.sem.template.example.profiles.MockTokenVerifierProfile;
 import nl.tudelft.sem.template.example.services.RequestAllocationService;
 import org.eclipse.jetty.util.IO;
 import org.junit.jupiter.api.AfterEach;
@@ -96,11 +99,11 @@ public class RequestAllocationServiceTest {
 
         server = MockRestServiceServer.createServer(restTemplate);
         requestAllocationService.setRestTemplate(restTemplate);
+        requestAllocationService.getFacultyMembershipCache().invalidateAll();
 
         when(mockAuthenticationManager.getNetId()).thenReturn("test");
-        when(mockJwtTokenVerifier.validateToken(anyString())).thenReturn(true);
-        when(mockJwtTokenVerifier.getNetIdFromToken(anyString())).thenReturn("Alexander");
-        when(mockJwtTokenVerifier.getRoleFromToken(anyString())).thenReturn("ROLE_FACULTY");
+        when(mockJwtTokenVerifier.getVerifiedClaims(anyString()))
+                .thenReturn(MockTokenVerifierProfile.mockClaims("Alexander", "ROLE_FACULTY"));
     }
 
     @AfterEach
@@ -250,6 +253,38 @@ public class RequestAllocationServiceTest {
         assertThat(outputStreamCaptor.toString().trim()).isEqualTo(error);
     }
 
+    @Test
+    public void sendRequestsToClusterTest() throws JsonProcessingException {
+        var results = List.of(
+                new JobScheduleResultResponseModel("name", "test", true, LocalDate.parse("2025-12-10"),
+                        "Successfully scheduled job."),
+                new JobScheduleResultResponseModel("other", "test", false, null,
+                        "The requested job cannot require more GPU or memory than CPU."));
+        server.expect(once(), requestTo("http://localhost:8082/requests/batch"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(results), MediaType.APPLICATION_JSON));
+
+        Request request = new Request(1L, "test", "name", "desc",
+                "Cs", 2.0, 1.0, 1.0, true, LocalDate.parse("2025-12-12"));
+        Request other = new Request(2L, "test", "other", "desc",
+                "Cs", 2.0, 3.0, 1.0, true, LocalDate.parse("2025-12-12"));
+
+        assertThat(requestAllocationService.sendRequestsToCluster(List.of(request, other), "token")).isEqualTo(results);
+        server.verify();
+    }
+
+    @Test
+    public void sendRequestsToClusterTestException() {
+        server.expect(once(), requestTo("http://localhost:8082/requests/batch"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withException(new IOException()));
+
+        Request request = new Request(1L, "test", "name", "desc",
+                "Cs", 2.0, 1.0, 1.0, true, LocalDate.parse("2025-12-12"));
+
+        assertThat(requestAllocationService.sendRequestsToCluster(List.of(request), "token")).isEmpty();
+    }
+
     @Test
     public void sendDeclinedRequestToUserService1() {
 
@@ -300,7 +335,19 @@ public class RequestAllocationServiceTest {
 
         boolean b = requestAllocationService.sendDeclinedRequestToUserService(request, "token");
 
-        assertThat(b).isFalse();
+        assertThat(b).isTrue();
+    }
+
+    @Test
+    public void sendDeclinedRequestToUserServiceServerError() {
+        server.expect(once(), requestTo("http://localhost:8081/notification"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withServerError());
+
+        Request request = new Request(1L, "test", "name", "desc",
+                "Cs", 4.0, 3.0, 1.0, false, LocalDate.parse("2025-12-12"));
+
+        assertThat(requestAllocationService.sendDeclinedRequestToUserService(request, "token")).isFalse();
     }
 
 
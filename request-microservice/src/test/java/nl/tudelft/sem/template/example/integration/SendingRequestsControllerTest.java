@@ -23,6 +23,7 @@ import nl.tudelft.sem.template.example.domain.Request;
 import nl.tudelft.sem.template.example.domain.RequestRepository;
 import nl.tudelft.sem.template.example.domain.ResourceResponseModel;
 import nl.tudelft.sem.template.example.integration.utils.JsonUtil;
+import nl.tudelft.sem.template.example.profiles.MockTokenVerifierProfile;
 import nl.tudelft.sem.template.example.services.RequestAllocationService;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -88,6 +89,7 @@ public class SendingRequestsControllerTest {
 
         server = MockRestServiceServer.createServer(restTemplate); // bind the server to the template
         requestAllocationService.setRestTemplate(restTemplate);    // set the service to use the same template (!!!!!)
+        requestAllocationService.getFacultyMembershipCache().invalidateAll();  // do not reuse faculties of other tests
 
         // when asked for user faculties, requestAllocationService will return EWI and IO
         server.expect(manyTimes(), requestTo("http://localhost:8081/getUserFaculties"))
@@ -95,10 +97,9 @@ public class SendingRequestsControllerTest {
                 .andRespond(withSuccess("{\n\"faculties\": \"[EWI, IO]\"}", MediaType.APPLICATION_JSON));
 
         when(mockAuthenticationManager.getNetId()).thenReturn("test");
-        when(mockJwtTokenVerifier.validateToken(anyString())).thenReturn(true);
-        when(mockJwtTokenVerifier.getNetIdFromToken(anyString())).thenReturn("test");
         when(mockAuthenticationManager.getRole()).thenReturn("FACULTY");
-        when(mockJwtTokenVerifier.getRoleFromToken(anyString())).thenReturn("ROLE_FACULTY");
+        when(mockJwtTokenVerifier.getVerifiedClaims(anyString()))
+                .thenReturn(MockTokenVerifierProfile.mockClaims("test", "ROLE_FACULTY"));
 
     }
 
@@ -1,5 +1,8 @@
 package nl.tudelft.sem.template.example.profiles;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.util.Date;
 import nl.tudelft.sem.template.example.authentication.JwtTokenVerifier;
 import org.mockito.Mockito;
 import org.springframework.context.annotation.Bean;
@@ -32,4 +35,18 @@ public class MockTokenVerifierProfile {
     public JwtTokenVerifier getMockTokenVerifier() {
         return Mockito.mock(JwtTokenVerifier.class);
     }
+
+    /**
+     * Creates the claims of a valid token of the given user, to return from the mocked TokenVerifier.
+     *
+     * @param netId the user the token was issued to.
+     * @param role the role of the user.
+     * @return the claims of the token, which expires in a day.
+     */
+    public static Claims mockClaims(String netId, String role) {
+        Claims claims = Jwts.claims().setSubject(netId)
+                .setExpiration(new Date(System.currentTimeMillis() + 86_400_000));
+        claims.put("roles", role);
+        return claims;
+    }
 }
@@ -0,0 +1,157 @@
+package nl.tudelft.sem.template.example.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import nl.tudelft.sem.template.example.domain.ApprovalResultResponseModel;
+import nl.tudelft.sem.template.example.domain.JobScheduleResultResponseModel;
+import nl.tudelft.sem.template.example.domain.Request;
+import nl.tudelft.sem.template.example.domain.RequestRepository;
+import nl.tudelft.sem.template.example.domain.Resource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestApprovalServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2022, 12, 23);
+
+    private RequestAllocationService requestAllocationService;
+    private RequestRepository requestRepository;
+    private RequestApprovalService requestApprovalService;
+
+    /**
+     * Set up a service with mocked communication with the other services.
+     */
+    @BeforeEach
+    void setup() {
+        requestAllocationService = mock(RequestAllocationService.class);
+        requestRepository = mock(RequestRepository.class);
+        requestApprovalService = new RequestApprovalService(requestAllocationService, requestRepository, 4);
+
+        when(requestAllocationService.getReservedResource("EWI", DATE, "token"))
+                .thenReturn(List.of(new Resource("EWI", 10.0, 10.0, 10.0)));
+        when(requestAllocationService.getReservedResource("IO", DATE, "token"))
+                .thenReturn(List.of(new Resource("IO", 1.0, 1.0, 1.0)));
+        when(requestAllocationService.sendRequestsToCluster(any(), eq("token"))).thenAnswer(invocation -> {
+            List<Request> sent = invocation.getArgument(0);
+            return sent.stream().map(request -> new JobScheduleResultResponseModel(request.getName(),
+                    request.getNetId(), true, DATE, "Successfully scheduled job.")).collect(Collectors.toList());
+        });
+        when(requestAllocationService.sendDeclinedRequestToUserService(any(), eq("token"))).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        requestApprovalService.destroy();
+    }
+
+    @Test
+    void availabilityIsFetchedOncePerFacultyTest() {
+        Request first = request(1L, "EWI", 3.0, DATE.minusDays(1));
+        Request second = request(2L, "EWI", 3.0, DATE);
+        Request third = request(3L, "IO", 3.0, DATE);
+
+        requestApprovalService.handleApprovedRequests(List.of(first, second, third), "token");
+
+        verify(requestAllocationService, times(1)).getReservedResource("EWI", DATE, "token");
+        verify(requestAllocationService, times(1)).getReservedResource("IO", DATE, "token");
+        verify(requestAllocationService, never()).getReservedResource(eq("EWI"), eq(DATE.minusDays(1)), any());
+        verify(requestAllocationService, never()).enoughResourcesForJob(any(Request.class), any(String.class));
+    }
+
+    @Test
+    void acceptedRequestsUseUpAvailableResourcesTest() {
+        Request first = request(1L, "EWI", 6.0, DATE);
+        Request second = request(2L, "EWI", 6.0, DATE);
+        Request third = request(3L, "EWI", 4.0, DATE);
+
+        requestApprovalService.handleApprovedRequests(List.of(first, second, third), "token");
+
+        verify(requestAllocationService).sendRequestsToCluster(List.of(first, third), "token");
+        verify(requestAllocationService).sendDeclinedRequestToUserService(second, "token");
+    }
+
+    @Test
+    void requestsAreOnlyReservedUntilTheirPreferredDateTest() {
+        when(requestAllocationService.getReservedResource("EWI", DATE, "token")).thenReturn(List.of(
+                new Resource("EWI", 4.0, 10.0, 10.0), new Resource("EWI", 10.0, 10.0, 10.0)));
+        Request early = request(1L, "EWI", 6.0, DATE.minusDays(1));
+        Request late = request(2L, "EWI", 6.0, DATE);
+
+        requestApprovalService.handleApprovedRequests(List.of(early, late), "token");
+
+        verify(requestAllocationService).sendDeclinedRequestToUserService(early, "token");
+        verify(requestAllocationService).sendRequestsToCluster(List.of(late), "token");
+    }
+
+    @Test
+    void acceptedRequestsAreSentInOneBatchAndDeclinedOnesNotifiedTest() {
+        Request first = request(1L, "EWI", 3.0);
+        Request declined = request(2L, "EWI", 30.0);
+        Request second = request(3L, "EWI", 2.0);
+        Request third = request(4L, "IO", 3.0);
+        List<Request> requests = List.of(first, declined, second, third);
+
+        var results = requestApprovalService.handleApprovedRequests(requests, "token");
+
+        verify(requestAllocationService, times(1)).sendRequestsToCluster(any(), eq("token"));
+        verify(requestAllocationService).sendRequestsToCluster(List.of(first, second), "token");
+        verify(requestAllocationService, never()).sendRequestToCluster(any(), any());
+        verify(requestAllocationService).sendDeclinedRequestToUserService(declined, "token");
+        verify(requestAllocationService).sendDeclinedRequestToUserService(third, "token");
+        verify(requestRepository).deleteAll(requests);
+        assertThat(requests).allMatch(Request::isApproved);
+        assertThat(results).extracting(ApprovalResultResponseModel::getStatus).containsExactly(
+                ApprovalResultResponseModel.SCHEDULED, ApprovalResultResponseModel.DECLINED,
+                ApprovalResultResponseModel.SCHEDULED, ApprovalResultResponseModel.DECLINED);
+        assertThat(results.get(0)).isEqualTo(new ApprovalResultResponseModel(1L, ApprovalResultResponseModel.SCHEDULED,
+                DATE, "Successfully scheduled job."));
+    }
+
+    @Test
+    void clusterRejectionsAreReportedTest() {
+        when(requestAllocationService.sendRequestsToCluster(any(), eq("token"))).thenReturn(List.of(
+                new JobScheduleResultResponseModel("test", "test", false, null, "Rejected.")));
+        Request request = request(1L, "EWI", 3.0);
+
+        var results = requestApprovalService.handleApprovedRequests(List.of(request), "token");
+
+        assertThat(results).containsExactly(new ApprovalResultResponseModel(1L, ApprovalResultResponseModel.REJECTED,
+                null, "Rejected."));
+        verify(requestRepository).deleteAll(List.of(request));
+    }
+
+    @Test
+    void requestsThatFailedToSendStayPendingTest() {
+        when(requestAllocationService.sendRequestsToCluster(any(), eq("token"))).thenReturn(List.of());
+        when(requestAllocationService.sendDeclinedRequestToUserService(any(), eq("token"))).thenReturn(false);
+        Request sent = request(1L, "EWI", 3.0);
+        Request declined = request(2L, "IO", 3.0);
+
+        var results = requestApprovalService.handleApprovedRequests(List.of(sent, declined), "token");
+
+        assertThat(results).extracting(ApprovalResultResponseModel::getStatus).containsExactly(
+                ApprovalResultResponseModel.NOT_SENT, ApprovalResultResponseModel.NOT_SENT);
+        assertThat(List.of(sent, declined)).noneMatch(Request::isApproved);
+        verify(requestRepository).saveAll(List.of(sent, declined));
+        verify(requestRepository).deleteAll(List.of());
+    }
+
+    private static Request request(Long id, String faculty, double cpu) {
+        return request(id, faculty, cpu, DATE);
+    }
+
+    private static Request request(Long id, String faculty, double cpu, LocalDate preferredDate) {
+        return new Request(id, "test", "test", "desc", faculty, cpu, 1.0, 1.0, false, preferredDate);
+    }
+}